@@ -4,12 +4,16 @@ import il.ac.hit.project.main.model.dao.ITasksDAO;
 import il.ac.hit.project.main.model.dao.TasksDAODerby;
 import il.ac.hit.project.main.model.dao.TasksDAOException;
 import il.ac.hit.project.main.model.dao.TasksDAOProxy;
+import il.ac.hit.project.main.model.dao.TasksDAOThrottle;
 import il.ac.hit.project.main.view.TaskManagerView;
 import il.ac.hit.project.main.view.IView;
+import il.ac.hit.project.main.viewmodel.CommandExecutionMode;
 import il.ac.hit.project.main.viewmodel.IViewModel;
 import il.ac.hit.project.main.viewmodel.TasksViewModel;
 
 import javax.swing.*;
+import java.io.File;
+import java.io.IOException;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.logging.Level;
@@ -25,6 +29,8 @@ import java.util.logging.Logger;
 public class Main {
     /** Logger for the Main class */
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+    /** Warm-start cache snapshot stored next to the Derby database */
+    private static final File SNAPSHOT_FILE = new File(System.getProperty("derby.system.home", "."), "taskDB.snapshot");
 
     /**
      * Application entry point.
@@ -45,17 +51,29 @@ public class Main {
 
                 // -------------------- Model / DAO Layer --------------------
                 ITasksDAO tasksDAO = TasksDAODerby.getInstance(); // concrete Derby DAO (Singleton)
-                ITasksDAO proxyDAO = new TasksDAOProxy(tasksDAO); // add caching via proxy decorator
+                ITasksDAO throttledDAO = new TasksDAOThrottle(tasksDAO, TasksDAOThrottle.DEFAULT_PERMITS); // cap concurrent DB calls
+                TasksDAOProxy proxyDAO = new TasksDAOProxy(throttledDAO); // add caching via proxy decorator (hits skip the throttle)
+                boolean warmStart = proxyDAO.loadSnapshot(SNAPSHOT_FILE); // show last run's data immediately
 
                 // -------------------- View & ViewModel Wiring --------------------
                 IView taskManagerView = new TaskManagerView(); // pure UI component (no business logic)
-                TasksViewModel tvm = new TasksViewModel(proxyDAO, taskManagerView); // mediator bridging view & model
+                TasksViewModel tvm = new TasksViewModel(proxyDAO, taskManagerView,
+                        CommandExecutionMode.fromSystemProperty()); // mediator bridging view & model (-Dtaskapp.commands=virtual)
                 viewModelContainer[0] = tvm; // retain reference for shutdown hook
                 taskManagerView.setViewModel(tvm); // two‑way binding (View knows ViewModel)
 
                 // -------------------- Observer Registration --------------------
                 tvm.registerAttributeObservers(); // attribute-level notifications for fine-grained UI updates
                 tvm.loadTasks(); // initial asynchronous load (does not block EDT)
+                if (warmStart) { // verify the snapshot in the background and reload only if the DB moved on
+                    tvm.getService().submit(() -> {
+                        try {
+                            if (proxyDAO.revalidateSnapshot()) tvm.loadTasks();
+                        } catch (TasksDAOException e) {
+                            LOGGER.log(Level.WARNING, "Snapshot revalidation failed", e);
+                        }
+                    });
+                }
                 taskManagerView.start(); // show main window
             } catch (TasksDAOException e) {
                 // Display a user-friendly error if startup fails
@@ -71,6 +89,13 @@ public class Main {
                 // Gracefully stop background executors inside ViewModel
                 if (viewModelContainer[0] instanceof TasksViewModel tvm) {
                     tvm.shutdown(); // stop thread pools / timers
+                    if (tvm.getModel() instanceof TasksDAOProxy proxy) { // persist warm cache while DB is still up
+                        try {
+                            proxy.saveSnapshot(SNAPSHOT_FILE);
+                        } catch (TasksDAOException | IOException e) {
+                            LOGGER.log(Level.WARNING, "Could not save task snapshot", e);
+                        }
+                    }
                 }
                 // Request Derby engine shutdown (throws expected exception on success)
                 DriverManager.getConnection("jdbc:derby:;shutdown=true");
@@ -1,6 +1,7 @@
 package il.ac.hit.project.main.model.dao;
 
 import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
 
 /**
  * Data Access Object (DAO) abstraction for persisting and retrieving Task entities.
@@ -27,10 +28,38 @@ public interface ITasksDAO {
      * Find a task by its generated identifier.
      * @param id positive task identifier
      * @return matching task (never null)
-     * @throws TasksDAOException if not found or on persistence failure
+     * @throws TasksDAOException if not found (preferably {@link TaskNotFoundException}) or on persistence failure
      */
     ITask getTask(int id) throws TasksDAOException;
 
+    /**
+     * Look up a task by id without treating absence as an error.
+     * Preferred over {@link #getTask(int)} when a missing id is an expected outcome (e.g. stale UI rows).
+     * Default delegates to {@link #getTask(int)}, mapping a null result or a {@link TaskNotFoundException}
+     * to null; implementations may look up the row directly.
+     * @param id positive task identifier
+     * @return matching task, or null if no task has that id
+     * @throws TasksDAOException on persistence failure only
+     */
+    default ITask findTask(int id) throws TasksDAOException {
+        try {
+            return getTask(id);
+        } catch (TaskNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cheap existence check for a task id.
+     * Default delegates to {@link #findTask(int)}; implementations may answer without hydrating the task.
+     * @param id positive task identifier
+     * @return true if a task with that id is stored
+     * @throws TasksDAOException on persistence failure
+     */
+    default boolean exists(int id) throws TasksDAOException {
+        return findTask(id) != null;
+    }
+
     /**
      * Persist a new task instance.
      * Implementation should assign the generated id back to the task (if applicable).
@@ -59,4 +88,23 @@ public interface ITasksDAO {
      * @throws TasksDAOException on failure or if task not found
      */
     void deleteTask(int id) throws TasksDAOException;
+
+    /**
+     * Compute a cheap version stamp (row count, max id, max updated date) of the stored data.
+     * Default implementation scans {@link #getTasks()}; database implementations should aggregate in SQL.
+     * @return current version stamp (never null)
+     * @throws TasksDAOException on read failure
+     */
+    default TasksVersionStamp getVersionStamp() throws TasksDAOException {
+        ITask[] tasks = getTasks();
+        int maxId = 0;
+        long maxUpdated = 0;
+        for (ITask t : tasks) {
+            maxId = Math.max(maxId, t.getId());
+            if (t instanceof ITaskDetails d) {
+                maxUpdated = Math.max(maxUpdated, d.getUpdatedTime());
+            }
+        }
+        return new TasksVersionStamp(tasks.length, maxId, maxUpdated);
+    }
 }
@@ -0,0 +1,17 @@
+package il.ac.hit.project.main.model.dao;
+
+
+/**
+ * DAO exception signalling that no task has the requested id (as opposed to a persistence failure).
+ */
+public class TaskNotFoundException extends TasksDAOException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new TaskNotFoundException for an id.
+     * @param id requested task id
+     */
+    public TaskNotFoundException(int id) {
+        super("Task not found with id: " + id);
+    }
+}
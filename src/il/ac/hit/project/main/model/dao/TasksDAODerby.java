@@ -11,7 +11,6 @@ import java.sql.Timestamp;
 import java.sql.DatabaseMetaData;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Date;
 
 /**
  * Embedded Apache Derby implementation of {@link ITasksDAO}.
@@ -26,6 +25,11 @@ import java.util.Date;
  *   <li>All SQL statements are built with minimal concatenation to satisfy static analysis warnings.</li>
  *   <li>Identity sequence is aligned after table creation / detection to keep IDs contiguous after resets.</li>
  *   <li>Column additions are backward compatible for existing tables (schema evolution).</li>
+ *   <li>Priority and state are stored as SMALLINT codes ({@link TaskPriority#getCode()},
+ *       {@link ITaskState.StateType#getCode()}) decoded by array index. Tables created before the code
+ *       columns existed are migrated in place: codes are backfilled from the legacy VARCHAR columns, which
+ *       become nullable and are cleared as rows are rewritten; a row still lacking a code (e.g. written by
+ *       an older build) is decoded from its legacy string.</li>
  * </ul>
  */
 
@@ -36,18 +40,27 @@ public class TasksDAODerby implements ITasksDAO {
     private final Connection connection;
     /** Derby connection URL (create=true => auto create if absent) */
     private static final String DB_URL = "jdbc:derby:taskDB;create=true";
+    /** true when the table still carries the legacy VARCHAR priority column (migrated table) */
+    private boolean legacyPriorityColumn = false;
+    /** true when the table still carries the legacy VARCHAR state column (migrated table) */
+    private boolean legacyStateColumn = false;
+    /** column list for row hydration (positions are fixed; legacy columns appended when present) */
+    private final String selectColumns;
 
     /**
      * Private constructor: initializes connection and ensures schema exists.
      * @throws TasksDAOException if connection or schema init fails
      */
-    private TasksDAODerby() throws TasksDAOException {
+    private TasksDAODerby(String jdbcUrl) throws TasksDAOException {
         try {
-            connection = DriverManager.getConnection(DB_URL); // open embedded connection
+            connection = DriverManager.getConnection(jdbcUrl); // open embedded connection
             createTasksTable(); // bootstrap
         } catch (SQLException e) {
             throw new TasksDAOException("Failed to connect to database", e);
         }
+        selectColumns = "id, title, description, priority_code, state_code, created_date, updated_date"
+                + (legacyPriorityColumn ? ", priority" : ", CAST(NULL AS VARCHAR(10))")
+                + (legacyStateColumn ? ", state" : ", CAST(NULL AS VARCHAR(20))");
     }
 
     /**
@@ -57,11 +70,22 @@ public class TasksDAODerby implements ITasksDAO {
      */
     public static synchronized TasksDAODerby getInstance() throws TasksDAOException {
         if (instance == null) { // first call -> create instance
-            instance = new TasksDAODerby();
+            instance = new TasksDAODerby(DB_URL);
         }
         return instance; // return cached instance
     }
 
+    /**
+     * Open a separate (non-singleton) DAO on a specific database, running the same schema bootstrap and
+     * migration. Intended for tools and tests; the application uses {@link #getInstance()}.
+     * @param jdbcUrl Derby JDBC URL
+     * @return new DAO instance
+     * @throws TasksDAOException if connection or schema init fails
+     */
+    public static TasksDAODerby open(String jdbcUrl) throws TasksDAOException {
+        return new TasksDAODerby(jdbcUrl);
+    }
+
     // ------------------------------------------------------------
     // Schema Management
     // ------------------------------------------------------------
@@ -76,8 +100,8 @@ public class TasksDAODerby implements ITasksDAO {
                 " id INTEGER NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1, INCREMENT BY 1)," +
                 " title VARCHAR(255) NOT NULL," +
                 " description CLOB," +
-                " priority VARCHAR(10) NOT NULL," +
-                " state VARCHAR(20) NOT NULL," +
+                " priority_code SMALLINT NOT NULL," +
+                " state_code SMALLINT NOT NULL," +
                 " created_date TIMESTAMP NOT NULL," +
                 " updated_date TIMESTAMP NOT NULL," +
                 " PRIMARY KEY (id)" +
@@ -129,23 +153,62 @@ public class TasksDAODerby implements ITasksDAO {
         DatabaseMetaData meta = connection.getMetaData(); // metadata snapshot
         // Derby stores unquoted identifiers in uppercase (normalize checks)
         boolean hasDescription = hasColumn(meta, "DESCRIPTION");
-        boolean hasPriority    = hasColumn(meta, "PRIORITY");
-        boolean hasState       = hasColumn(meta, "STATE");
+        boolean hasPriority    = hasColumn(meta, "PRIORITY");      // legacy VARCHAR column
+        boolean hasState       = hasColumn(meta, "STATE");         // legacy VARCHAR column
+        boolean hasPriorityCode = hasColumn(meta, "PRIORITY_CODE");
+        boolean hasStateCode    = hasColumn(meta, "STATE_CODE");
         boolean hasCreated     = hasColumn(meta, "CREATED_DATE");
         boolean hasUpdated     = hasColumn(meta, "UPDATED_DATE");
 
         try (Statement stmt = connection.createStatement()) {
             if (!hasDescription) { stmt.executeUpdate("ALTER " +
                     "TABLE tasks ADD COLUMN description CLOB"); }
-            if (!hasPriority)    { stmt.executeUpdate("ALTER " +
-                    "TABLE tasks ADD COLUMN priority VARCHAR(10) NOT NULL DEFAULT 'LOW'"); }
-            if (!hasState)       { stmt.executeUpdate("ALTER " +
-                    "TABLE tasks ADD COLUMN state VARCHAR(20) NOT NULL DEFAULT 'TODO'"); }
+            if (!hasPriorityCode) { // nullable when backfilled from the legacy column, else default LOW
+                stmt.executeUpdate("ALTER " + "TABLE tasks ADD COLUMN priority_code SMALLINT"
+                        + (hasPriority ? "" : " NOT NULL DEFAULT " + TaskPriority.LOW.getCode()));
+            }
+            if (!hasStateCode) {
+                stmt.executeUpdate("ALTER " + "TABLE tasks ADD COLUMN state_code SMALLINT"
+                        + (hasState ? "" : " NOT NULL DEFAULT " + ITaskState.StateType.TODO.getCode()));
+            }
             if (!hasCreated)     { stmt.executeUpdate("ALTER " +
                     "TABLE tasks ADD COLUMN created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP"); }
             if (!hasUpdated)     { stmt.executeUpdate("ALTER " +
                     "TABLE tasks ADD COLUMN updated_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP"); }
+            if (hasPriority) migrateLegacyPriority(stmt);
+            if (hasState) migrateLegacyState(stmt);
         }
+        legacyPriorityColumn = hasPriority;
+        legacyStateColumn = hasState;
+    }
+
+    /**
+     * Backfill priority_code from the legacy VARCHAR column (enum names or display names, any case) and clear
+     * the string so each row keeps a single compact representation. Idempotent: only rows without a code.
+     * @param stmt open statement
+     * @throws SQLException on DDL / DML failure
+     */
+    private void migrateLegacyPriority(Statement stmt) throws SQLException {
+        stmt.executeUpdate("ALTER " + "TABLE tasks ALTER COLUMN priority NULL"); // new rows write codes only
+        stmt.executeUpdate("UPDATE tasks SET priority_code = CASE UPPER(priority)"
+                + " WHEN 'MEDIUM' THEN " + TaskPriority.MEDIUM.getCode()
+                + " WHEN 'HIGH' THEN " + TaskPriority.HIGH.getCode()
+                + " ELSE " + TaskPriority.LOW.getCode() + " END, priority = NULL"   // same fallback as fromDbValue
+                + " WHERE priority_code IS NULL");
+    }
+
+    /**
+     * Backfill state_code from the legacy VARCHAR column and clear the string (idempotent).
+     * @param stmt open statement
+     * @throws SQLException on DDL / DML failure
+     */
+    private void migrateLegacyState(Statement stmt) throws SQLException {
+        stmt.executeUpdate("ALTER " + "TABLE tasks ALTER COLUMN state NULL");
+        stmt.executeUpdate("UPDATE tasks SET state_code = CASE state"
+                + " WHEN 'IN_PROGRESS' THEN " + ITaskState.StateType.IN_PROGRESS.getCode()
+                + " WHEN 'COMPLETED' THEN " + ITaskState.StateType.COMPLETED.getCode()
+                + " ELSE " + ITaskState.StateType.TODO.getCode() + " END, state = NULL" // same fallback as reads
+                + " WHERE state_code IS NULL");
     }
 
     /**
@@ -177,15 +240,15 @@ public class TasksDAODerby implements ITasksDAO {
         ITaskDetails details = (ITaskDetails) task; // downcast for extended fields
 
         String insertSQL = "INSERT " +
-                "INTO tasks (title, description, priority, state, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?)";
+                "INTO tasks (title, description, priority_code, state_code, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?)";
         try {
             try (PreparedStatement pstmt = connection.prepareStatement(insertSQL, Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setString(1, task.getTitle());
                 pstmt.setString(2, task.getDescription());
-                pstmt.setString(3, details.getPriority().name()); // store canonical enum name
-                pstmt.setString(4, task.getState().toStateType().toString());
-                pstmt.setTimestamp(5, new Timestamp(details.getCreationDate().getTime()));
-                pstmt.setTimestamp(6, new Timestamp(details.getUpdatedDate().getTime()));
+                pstmt.setShort(3, (short) details.getPriority().getCode()); // compact code column
+                pstmt.setShort(4, (short) task.getState().toStateType().getCode());
+                pstmt.setTimestamp(5, new Timestamp(details.getCreationTime()));
+                pstmt.setTimestamp(6, new Timestamp(details.getUpdatedTime()));
 
                 pstmt.executeUpdate(); // perform insert
 
@@ -209,7 +272,7 @@ public class TasksDAODerby implements ITasksDAO {
     @Override
     public ITask[] getTasks() throws TasksDAOException {
         List<ITask> tasks = new ArrayList<>(); // dynamic accumulation
-        String selectSQL = "SELECT * " + "FROM tasks ORDER BY id"; // stable order for UI mapping
+        String selectSQL = "SELECT " + selectColumns + " FROM tasks ORDER BY id"; // stable order for UI mapping
 
         try (Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery(selectSQL)) {
@@ -235,14 +298,17 @@ public class TasksDAODerby implements ITasksDAO {
         if (task == null) throw new IllegalArgumentException("task cannot be null"); // validation
         ITaskDetails details = (ITaskDetails) task; // extended details
 
-        String updateSQL = "UPDATE tasks SET title = ?, description = ?, priority = ?, state = ?, updated_date = ? WHERE id = ?";
+        String updateSQL = "UPDATE tasks SET title = ?, description = ?, priority_code = ?, state_code = ?, updated_date = ?"
+                + (legacyPriorityColumn ? ", priority = NULL" : "") // row now has a code: drop any legacy string
+                + (legacyStateColumn ? ", state = NULL" : "")
+                + " WHERE id = ?";
 
         try (PreparedStatement pstmt = connection.prepareStatement(updateSQL)) {
             pstmt.setString(1, task.getTitle());
             pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, details.getPriority().name()); // store canonical enum name
-            pstmt.setString(4, task.getState().toStateType().toString());
-            pstmt.setTimestamp(5, new Timestamp(details.getUpdatedDate().getTime()));
+            pstmt.setShort(3, (short) details.getPriority().getCode()); // compact code column
+            pstmt.setShort(4, (short) task.getState().toStateType().getCode());
+            pstmt.setTimestamp(5, new Timestamp(details.getUpdatedTime()));
             pstmt.setInt(6, task.getId());
 
             pstmt.executeUpdate(); // perform update
@@ -293,19 +359,30 @@ public class TasksDAODerby implements ITasksDAO {
      */
     @Override
     public ITask getTask(int id) throws TasksDAOException {
+        ITask task = findTask(id);
+        if (task == null) { // missing row
+            throw new TaskNotFoundException(id);
+        }
+        return task;
+    }
+
+    /**
+     * Retrieve a single task by id, answering null for a missing row instead of throwing.
+     * @param id positive id
+     * @return hydrated task or null if absent
+     * @throws TasksDAOException on SQL failure
+     */
+    @Override
+    public ITask findTask(int id) throws TasksDAOException {
         if (id <= 0) throw new IllegalArgumentException("id must be positive");
 
-        String selectSQL = "SELECT * " + "FROM tasks WHERE id = ?"; // targeted select
+        String selectSQL = "SELECT " + selectColumns + " FROM tasks WHERE id = ?"; // targeted select
 
         try (PreparedStatement pstmt = connection.prepareStatement(selectSQL)) {
             pstmt.setInt(1, id);
 
             try (ResultSet rs = pstmt.executeQuery()) { // execute query
-                if (rs.next()) { // found row
-                    return createTaskFromResultSet(rs);
-                } else { // missing row
-                    throw new TasksDAOException("Task not found with id: " + id);
-                }
+                return rs.next() ? createTaskFromResultSet(rs) : null; // found row or absent
             }
         } catch (SQLException e) {
             throw new TasksDAOException("Failed to get task by id", e);
@@ -313,34 +390,78 @@ public class TasksDAODerby implements ITasksDAO {
     }
 
     /**
-     * Map a result set row to a concrete {@link Task} instance including state + timestamps.
+     * Existence probe that reads only the primary key (no row hydration).
+     * @param id positive id
+     * @return true if the row exists
+     * @throws TasksDAOException on SQL failure
+     */
+    @Override
+    public boolean exists(int id) throws TasksDAOException {
+        if (id <= 0) throw new IllegalArgumentException("id must be positive");
+
+        String selectSQL = "SELECT 1 " + "FROM tasks WHERE id = ?"; // index-only probe
+
+        try (PreparedStatement pstmt = connection.prepareStatement(selectSQL)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new TasksDAOException("Failed to check task existence", e);
+        }
+    }
+
+    /**
+     * Aggregate row count, max id and max updated_date in one query (no row hydration).
+     * @return current version stamp
+     * @throws TasksDAOException on SQL failure
+     */
+    @Override
+    public TasksVersionStamp getVersionStamp() throws TasksDAOException {
+        String selectSQL = "SELECT COUNT(*), MAX(id), MAX(updated_date) " + "FROM tasks"; // single aggregate scan
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(selectSQL)) {
+            if (!rs.next()) return TasksVersionStamp.EMPTY;
+            long count = rs.getLong(1);
+            int maxId = rs.getInt(2);              // 0 when NULL (empty table)
+            Timestamp maxUpdated = rs.getTimestamp(3);
+            return new TasksVersionStamp(count, maxId, maxUpdated == null ? 0 : maxUpdated.getTime());
+        } catch (SQLException e) {
+            throw new TasksDAOException("Failed to read version stamp", e);
+        }
+    }
+
+    /**
+     * Map a result set row (selected via {@link #selectColumns}) to a concrete {@link Task} instance including
+     * state + timestamps (via {@link Task#hydrate}). Columns are read by position; codes are decoded by array
+     * index and only a row without a code falls back to parsing its legacy string.
      * @param rs positioned result set
      * @return task object
      * @throws SQLException on column access failure
      */
     private ITask createTaskFromResultSet(ResultSet rs) throws SQLException {
-        int id = rs.getInt("id");
-        String title = rs.getString("title");
-        String description = rs.getString("description");
-        TaskPriority priority = TaskPriority.fromDbValue(rs.getString("priority"));
-        String stateType = rs.getString("state");
-        Timestamp createdDate = rs.getTimestamp("created_date");
-        Timestamp updatedDate = rs.getTimestamp("updated_date");
-
-        ITaskState state = createStateFromString(stateType); // decode state strategy
-
-        Task task = new Task(id, title, description, state, new Date(createdDate.getTime()), priority);
-        task.setUpdatedDate(new Date(updatedDate.getTime())); // apply updated timestamp
-
-        return task;
+        int id = rs.getInt(1);
+        String title = rs.getString(2);
+        String description = rs.getString(3);
+        short priorityCode = rs.getShort(4);
+        TaskPriority priority = rs.wasNull() ? TaskPriority.fromDbValue(rs.getString(8)) : TaskPriority.fromCode(priorityCode);
+        short stateCode = rs.getShort(5);
+        ITaskState state = rs.wasNull() ? createStateFromString(rs.getString(9)) : ITaskState.StateType.fromCode(stateCode).toState();
+        long createdTime = rs.getTimestamp(6).getTime(); // primitive millis, no Date copies
+        long updatedTime = rs.getTimestamp(7).getTime();
+
+        // silent hydration: no timestamp touch, no observer events per loaded row
+        return Task.hydrate(id, title, description, state, priority, createdTime, updatedTime);
     }
 
     /**
-     * Convert a raw state string to the corresponding ITaskState singleton (fallback TO_DO).
-     * @param stateType database string
+     * Convert a legacy raw state string to the corresponding ITaskState singleton (fallback TO_DO).
+     * @param stateType database string (may be null)
      * @return state singleton
      */
     private ITaskState createStateFromString(String stateType) {
+        if (stateType == null) return ToDoState.getInstance();
         return switch (stateType) {
             case "TODO" -> ToDoState.getInstance();
             case "IN_PROGRESS" -> InProgressState.getInstance();
@@ -1,9 +1,16 @@
 package il.ac.hit.project.main.model.dao;
 
 import il.ac.hit.project.main.model.task.ITask;
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Proxy (structural pattern) adding transparent read caching to an underlying {@link ITasksDAO} implementation.
@@ -13,16 +20,43 @@ import java.util.Map;
  *   <li>Caches full task array (defensive copy) after first successful getTasks() invocation.</li>
  *   <li>Caches individual tasks by id to short-circuit repeated getTask(id) calls.</li>
  *   <li>Any mutating operation (add / update / delete / deleteAll) invalidates every cache to preserve consistency.</li>
- *   <li>Thread-safety is NOT provided; intended for single-UI-thread usage (Swing EDT + background executor dispatch).</li>
+ *   <li>Single-flight loading: concurrent misses for the same key (all tasks, or one id) share one in-flight
+ *       load instead of each issuing its own query against the wrapped DAO.</li>
+ *   <li>Negative cache: ids recently found missing are remembered for a short TTL so stale ids (e.g. a
+ *       deleted table row clicked again) do not trigger a full SELECT on every retry. Cleared by addTask.</li>
+ *   <li>Warm start: the cache can be saved to / seeded from a snapshot file so the UI shows data
+ *       immediately on launch; {@link #revalidateSnapshot()} later compares it with a cheap
+ *       {@link TasksVersionStamp} and drops it if the database moved on.</li>
+ *   <li>Caches are safe for concurrent readers (ViewModel executor threads); a load that overlaps an
+ *       invalidation still answers its callers but never repopulates the cache with stale data (the
+ *       generation check and the cache write happen under the lock invalidation takes).</li>
+ *   <li>A failing shared load (any Throwable, Errors included) fails every waiter instead of leaving them
+ *       blocked.</li>
  * </ul>
  */
 public class TasksDAOProxy implements ITasksDAO {
     /** wrapped real DAO (never null) */
     private final ITasksDAO tasksDAO;
     /** cached array snapshot of all tasks (null => stale) */
-    private ITask[] cachedTasks = null;
+    private volatile ITask[] cachedTasks = null;
     /** id -> task cache (cleared with invalidation) */
-    private final Map<Integer, ITask> taskByIdCache = new HashMap<>();
+    private final Map<Integer, ITask> taskByIdCache = new ConcurrentHashMap<>();
+    /** in-flight getTasks() load shared by concurrent callers (null => none running) */
+    private final AtomicReference<CompletableFuture<ITask[]>> inFlightTasks = new AtomicReference<>();
+    /** in-flight getTask(id) loads keyed by id */
+    private final Map<Integer, CompletableFuture<ITask>> inFlightById = new ConcurrentHashMap<>();
+    /** id -> System.nanoTime() deadline until which the id is known to be missing */
+    private final Map<Integer, Long> missingIds = new ConcurrentHashMap<>();
+    /** negative cache lifetime in nanoseconds */
+    private final long negativeTtlNanos;
+    /** default negative cache lifetime (short: misses are cheap to re-check occasionally) */
+    public static final long DEFAULT_NEGATIVE_TTL_MILLIS = 5_000;
+    /** stamp of a snapshot-seeded cache that has not been checked against the database yet (null => none) */
+    private volatile TasksVersionStamp unverifiedSnapshotStamp = null;
+    /** bumped on every invalidation so overlapping loads do not repopulate stale data */
+    private final AtomicLong cacheGeneration = new AtomicLong();
+    /** guards invalidation against load results being published (generation check + cache write) */
+    private final Object cacheLock = new Object();
 
     /**
      * Create a proxy around a concrete DAO.
@@ -30,28 +64,64 @@ public class TasksDAOProxy implements ITasksDAO {
      * @throws IllegalArgumentException if tasksDAO null
      */
     public TasksDAOProxy(ITasksDAO tasksDAO) {
+        this(tasksDAO, DEFAULT_NEGATIVE_TTL_MILLIS);
+    }
+
+    /**
+     * Create a proxy with a custom negative cache lifetime.
+     * @param tasksDAO real DAO to wrap
+     * @param negativeTtlMillis how long a missing id is remembered (0 disables negative caching)
+     * @throws IllegalArgumentException if tasksDAO null or ttl negative
+     */
+    public TasksDAOProxy(ITasksDAO tasksDAO, long negativeTtlMillis) {
         if (tasksDAO == null) throw new IllegalArgumentException("tasksDAO cannot be null");
+        if (negativeTtlMillis < 0) throw new IllegalArgumentException("negativeTtlMillis cannot be negative");
         this.tasksDAO = tasksDAO;
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
     }
 
     /** invalidate all caches (called after any mutation) */
-    private void invalidateCache() { /* clear both caches to force refetch on next read */
-        cachedTasks = null; taskByIdCache.clear(); }
+    private void invalidateCache() { /* bump generation so running loads skip repopulation */
+        synchronized (cacheLock) {
+            cacheGeneration.incrementAndGet(); cachedTasks = null; taskByIdCache.clear(); unverifiedSnapshotStamp = null;
+        }
+    }
 
     @Override
     public void addTask(ITask task) throws TasksDAOException { /* delegate add then invalidate caches */
-        tasksDAO.addTask(task); invalidateCache(); }
+        tasksDAO.addTask(task); invalidateCache(); missingIds.clear(); } // generated id may have been a known miss
 
     @Override
     public ITask[] getTasks() throws TasksDAOException { /* return cached snapshot or load & populate caches */
-        if (cachedTasks != null) { // fast-path: cached array present
-            return Arrays.copyOf(cachedTasks, cachedTasks.length); // defensive copy
+        ITask[] snapshot = cachedTasks;
+        if (snapshot != null) { // fast-path: cached array present
+            return Arrays.copyOf(snapshot, snapshot.length); // defensive copy
+        }
+        CompletableFuture<ITask[]> mine = new CompletableFuture<>();
+        CompletableFuture<ITask[]> running = inFlightTasks.compareAndExchange(null, mine);
+        if (running != null) { // another thread is already loading -> wait for its result
+            ITask[] shared = await(running);
+            return Arrays.copyOf(shared, shared.length);
+        }
+        try {
+            long generation = cacheGeneration.get();
+            ITask[] tasks = tasksDAO.getTasks(); // fetch from real DAO (only the leader gets here)
+            synchronized (cacheLock) { // an invalidation cannot slip between the check and the write
+                if (generation == cacheGeneration.get()) { // no mutation raced the load
+                    ITask[] fresh = Arrays.copyOf(tasks, tasks.length); // store snapshot
+                    taskByIdCache.clear(); // rebuild id cache from fresh snapshot
+                    for (ITask t : fresh) { taskByIdCache.put(t.getId(), t); } // index tasks by id
+                    cachedTasks = fresh;
+                }
+            }
+            mine.complete(tasks);
+            return Arrays.copyOf(tasks, tasks.length);
+        } catch (Throwable e) { // Errors too: followers blocked in join() must never wait forever
+            mine.completeExceptionally(e); // followers see the same failure
+            throw e;
+        } finally {
+            inFlightTasks.compareAndSet(mine, null);
         }
-        ITask[] tasks = tasksDAO.getTasks(); // fetch from real DAO
-        cachedTasks = Arrays.copyOf(tasks, tasks.length); // store snapshot
-        taskByIdCache.clear(); // rebuild id cache from fresh snapshot
-        for (ITask t : cachedTasks) { taskByIdCache.put(t.getId(), t); } // index tasks by id
-        return tasks; // return original array (callers treat as read-only by convention)
     }
 
     @Override
@@ -60,18 +130,150 @@ public class TasksDAOProxy implements ITasksDAO {
 
     @Override
     public void deleteTask(int id) throws TasksDAOException { /* forward single delete & drop caches */
-        tasksDAO.deleteTask(id); invalidateCache(); }
+        tasksDAO.deleteTask(id); invalidateCache(); rememberMissing(id); }
 
     @Override
     public void deleteTasks() throws TasksDAOException { /* forward bulk delete & drop caches */
         tasksDAO.deleteTasks(); invalidateCache(); }
 
     @Override
-    public ITask getTask(int id) throws TasksDAOException { /* attempt id cache hit before delegating */
+    public ITask getTask(int id) throws TasksDAOException { /* contract: absence is an error */
+        ITask task = findTask(id);
+        if (task == null) throw new TaskNotFoundException(id);
+        return task;
+    }
+
+    @Override
+    public ITask findTask(int id) throws TasksDAOException { /* attempt id cache hit before delegating */
         ITask cached = taskByIdCache.get(id); // O(1) lookup
         if (cached != null) return cached;   // hit -> return
-        ITask task = tasksDAO.getTask(id);   // miss -> delegate
-        taskByIdCache.put(id, task);         // populate id cache (array cache may still be null)
-        return task;                         // return freshly retrieved task
+        if (isKnownMissing(id)) return null; // negative hit -> skip the SELECT
+        CompletableFuture<ITask> mine = new CompletableFuture<>();
+        CompletableFuture<ITask> running = inFlightById.putIfAbsent(id, mine);
+        if (running != null) {               // same id already loading -> share it
+            return await(running);
+        }
+        try {
+            long generation = cacheGeneration.get();
+            ITask task = tasksDAO.findTask(id);  // miss -> delegate (no exception for absence)
+            synchronized (cacheLock) {
+                if (generation == cacheGeneration.get()) {
+                    if (task != null) taskByIdCache.put(id, task); // populate id cache (array cache may still be null)
+                    else rememberMissing(id);                       // populate negative cache
+                }
+            }
+            mine.complete(task);
+            return task;                         // return freshly retrieved task (or null)
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightById.remove(id, mine);
+        }
+    }
+
+    @Override
+    public boolean exists(int id) throws TasksDAOException { /* answer from either cache before probing */
+        if (taskByIdCache.containsKey(id)) return true;
+        if (isKnownMissing(id)) return false;
+        long generation = cacheGeneration.get();
+        boolean present = tasksDAO.exists(id);
+        if (!present) {
+            synchronized (cacheLock) {
+                if (generation == cacheGeneration.get()) rememberMissing(id);
+            }
+        }
+        return present;
+    }
+
+    // ------------------------------------------------------------
+    // Warm-start snapshot
+    // ------------------------------------------------------------
+
+    /**
+     * Seed the caches from a snapshot file written by a previous run (no database access).
+     * The seeded data is served immediately but stays unverified until {@link #revalidateSnapshot()}.
+     * @param file snapshot file (missing / unreadable files are ignored)
+     * @return true if the cache was seeded
+     */
+    public boolean loadSnapshot(File file) {
+        TasksSnapshotFile.Snapshot snapshot;
+        try {
+            snapshot = TasksSnapshotFile.read(file);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable task snapshot: " + e.getMessage());
+            return false;
+        }
+        if (snapshot == null) return false;
+        ITask[] fresh = snapshot.tasks();
+        synchronized (cacheLock) {
+            taskByIdCache.clear();
+            for (ITask t : fresh) { taskByIdCache.put(t.getId(), t); }
+            cachedTasks = fresh;
+            unverifiedSnapshotStamp = snapshot.stamp();
+        }
+        return true;
+    }
+
+    /**
+     * Compare a snapshot-seeded cache with the database version stamp; drop it if they differ.
+     * Cheap enough to run in the background right after startup.
+     * @return true if the cache was stale and has been invalidated (callers should reload)
+     * @throws TasksDAOException if the stamp cannot be read
+     */
+    public boolean revalidateSnapshot() throws TasksDAOException {
+        TasksVersionStamp expected = unverifiedSnapshotStamp;
+        if (expected == null) return false; // nothing seeded or already verified / invalidated
+        TasksVersionStamp actual = tasksDAO.getVersionStamp();
+        if (expected.equals(actual)) {
+            unverifiedSnapshotStamp = null; // verified: cache is now authoritative
+            return false;
+        }
+        invalidateCache();
+        return true;
+    }
+
+    /**
+     * Persist the current task set and its version stamp for the next launch (typically on shutdown).
+     * @param file destination snapshot file
+     * @throws TasksDAOException if tasks or stamp cannot be read
+     * @throws IOException on write failure
+     */
+    public void saveSnapshot(File file) throws TasksDAOException, IOException {
+        revalidateSnapshot(); // never re-label an unverified (possibly stale) seed with a fresh stamp
+        ITask[] tasks = getTasks(); // cached or freshly loaded
+        TasksSnapshotFile.write(file, tasksDAO.getVersionStamp(), tasks);
+    }
+
+    /** record id as missing until the negative TTL elapses */
+    private void rememberMissing(int id) {
+        if (negativeTtlNanos > 0) missingIds.put(id, System.nanoTime() + negativeTtlNanos); }
+
+    /** @return true while a negative entry for id is still fresh (expired entries are dropped lazily) */
+    private boolean isKnownMissing(int id) {
+        Long deadline = missingIds.get(id);
+        if (deadline == null) return false;
+        if (System.nanoTime() - deadline < 0) return true;
+        missingIds.remove(id, deadline); // expired
+        return false;
+    }
+
+    /**
+     * Wait for a load started by another thread and surface its outcome as if it ran here.
+     * @param load in-flight load future
+     * @param <T> result type
+     * @return loaded value
+     * @throws TasksDAOException if the shared load failed with a DAO error
+     */
+    private static <T> T await(CompletableFuture<T> load) throws TasksDAOException {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TasksDAOException dao) throw dao;
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new TasksDAOException("Shared load failed", cause);
+        }
     }
 }
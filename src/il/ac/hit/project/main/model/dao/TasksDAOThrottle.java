@@ -0,0 +1,115 @@
+package il.ac.hit.project.main.model.dao;
+
+import il.ac.hit.project.main.model.task.ITask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decorator capping how many calls reach the wrapped {@link ITasksDAO} at once (a bound on concurrent
+ * database connections).
+ * <p>
+ * With virtual-thread command execution hundreds of commands can be in flight; without a cap each would
+ * open its own JDBC work against Derby. Callers beyond the limit wait (first come, first served) on a fair
+ * {@link Semaphore}; a virtual thread waiting for a permit is parked and holds no platform thread. Place it
+ * under {@link TasksDAOProxy} so cache hits never take a permit.
+ * </p>
+ */
+public class TasksDAOThrottle implements ITasksDAO {
+    /** default number of concurrent calls to the wrapped DAO */
+    public static final int DEFAULT_PERMITS = 8;
+
+    /** wrapped real DAO (never null) */
+    private final ITasksDAO tasksDAO;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+
+    /** One call through the permit-guarded section. */
+    @FunctionalInterface
+    private interface IDaoCall<T> {
+        T call() throws TasksDAOException;
+    }
+
+    /**
+     * @param tasksDAO DAO to wrap
+     * @param maxConcurrentCalls calls allowed to run at once (>= 1)
+     * @throws IllegalArgumentException if tasksDAO null or maxConcurrentCalls < 1
+     */
+    public TasksDAOThrottle(ITasksDAO tasksDAO, int maxConcurrentCalls) {
+        if (tasksDAO == null) throw new IllegalArgumentException("tasksDAO cannot be null");
+        if (maxConcurrentCalls < 1) throw new IllegalArgumentException("maxConcurrentCalls must be >= 1");
+        this.tasksDAO = tasksDAO;
+        this.maxPermits = maxConcurrentCalls;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /** run a DAO call holding one permit; waiting is interruptible */
+    private <T> T throttled(IDaoCall<T> call) throws TasksDAOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // preserve interrupt flag
+            throw new TasksDAOException("Interrupted while waiting for a database connection", e);
+        }
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        try {
+            return call.call();
+        } finally {
+            inUse.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    @Override
+    public ITask[] getTasks() throws TasksDAOException {
+        return throttled(tasksDAO::getTasks); }
+
+    @Override
+    public ITask getTask(int id) throws TasksDAOException {
+        return throttled(() -> tasksDAO.getTask(id)); }
+
+    @Override
+    public ITask findTask(int id) throws TasksDAOException {
+        return throttled(() -> tasksDAO.findTask(id)); }
+
+    @Override
+    public boolean exists(int id) throws TasksDAOException { /* keep the wrapped DAO's cheap probe */
+        return throttled(() -> tasksDAO.exists(id)); }
+
+    @Override
+    public void addTask(ITask task) throws TasksDAOException {
+        throttled(() -> { tasksDAO.addTask(task); return null; }); }
+
+    @Override
+    public void updateTask(ITask task) throws TasksDAOException {
+        throttled(() -> { tasksDAO.updateTask(task); return null; }); }
+
+    @Override
+    public void deleteTasks() throws TasksDAOException {
+        throttled(() -> { tasksDAO.deleteTasks(); return null; }); }
+
+    @Override
+    public void deleteTask(int id) throws TasksDAOException {
+        throttled(() -> { tasksDAO.deleteTask(id); return null; }); }
+
+    @Override
+    public TasksVersionStamp getVersionStamp() throws TasksDAOException {
+        return throttled(tasksDAO::getVersionStamp); }
+
+    /** @return permit count (maximum concurrent calls) */
+    public int getMaxConcurrentCalls() {
+        return maxPermits; }
+
+    /** @return calls currently running against the wrapped DAO */
+    public int getInUse() {
+        return inUse.get(); }
+
+    /** @return highest number of simultaneous calls observed */
+    public int getPeakInUse() {
+        return peakInUse.get(); }
+
+    /** @return estimated number of callers waiting for a permit */
+    public int getWaitingCount() {
+        return permits.getQueueLength(); }
+}
@@ -0,0 +1,119 @@
+package il.ac.hit.project.main.model.dao;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Compact binary codec for persisting a {@link TasksDAOProxy} cache snapshot between launches.
+ * <p>
+ * Layout (big-endian, via Data streams):
+ * <pre>
+ *   int magic | short format | long rowCount | int maxId | long maxUpdatedMillis | int count
+ *   count x { int id | utf8 title | utf8 description | byte priorityCode | byte stateCode | long created | long updated }
+ * </pre>
+ * Strings are written as an int byte length followed by UTF-8 bytes (descriptions may exceed writeUTF's 64KB cap).
+ * Files are written to a temporary sibling and atomically moved into place so a crash never leaves a torn snapshot.
+ */
+public final class TasksSnapshotFile {
+    /** "TKS1" marker guarding against foreign / truncated files */
+    private static final int MAGIC = 0x544B5331;
+    /** bump when the record layout changes (older files are then ignored) */
+    private static final short FORMAT = 1;
+
+    /**
+     * Decoded snapshot content.
+     * @param stamp database version stamp captured when the snapshot was written
+     * @param tasks hydrated tasks in stored order
+     */
+    public record Snapshot(TasksVersionStamp stamp, ITask[] tasks) { }
+
+    private TasksSnapshotFile() { /* static utility */ }
+
+    /**
+     * Write tasks and their version stamp to file (atomic replace).
+     * @param file destination file
+     * @param stamp version stamp matching the tasks
+     * @param tasks tasks to persist (ITaskDetails fields are required)
+     * @throws IOException on write failure
+     */
+    public static void write(File file, TasksVersionStamp stamp, ITask[] tasks) throws IOException {
+        File tmp = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT);
+            out.writeLong(stamp.rowCount());
+            out.writeInt(stamp.maxId());
+            out.writeLong(stamp.maxUpdatedMillis());
+            out.writeInt(tasks.length);
+            for (ITask task : tasks) {
+                ITaskDetails d = (ITaskDetails) task;
+                out.writeInt(task.getId());
+                writeString(out, task.getTitle());
+                writeString(out, task.getDescription());
+                out.writeByte(d.getPriority().getCode());
+                out.writeByte(task.getState().toStateType().getCode());
+                out.writeLong(d.getCreationTime());
+                out.writeLong(d.getUpdatedTime());
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a snapshot file.
+     * @param file source file
+     * @return decoded snapshot, or null if the file is missing or not a snapshot of the current format
+     * @throws IOException on read failure or truncated content
+     */
+    public static Snapshot read(File file) throws IOException {
+        if (!file.isFile()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != FORMAT) return null; // foreign or outdated file
+            TasksVersionStamp stamp = new TasksVersionStamp(in.readLong(), in.readInt(), in.readLong());
+            int count = in.readInt();
+            if (count < 0) throw new IOException("Corrupt snapshot: negative task count");
+            ITask[] tasks = new ITask[count];
+            for (int i = 0; i < count; i++) {
+                int id = in.readInt();
+                String title = readString(in);
+                String description = readString(in);
+                TaskPriority priority = TaskPriority.fromCode(in.readUnsignedByte());
+                ITaskState state = ITaskState.StateType.fromCode(in.readUnsignedByte()).toState();
+                long created = in.readLong();
+                long updated = in.readLong();
+                tasks[i] = Task.hydrate(id, title, description, state, priority, created, updated);
+            }
+            return new Snapshot(stamp, tasks);
+        } catch (IllegalArgumentException e) { // unknown codes / invalid fields
+            throw new IOException("Corrupt snapshot content", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = (s == null ? "" : s).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0) throw new IOException("Corrupt snapshot: negative string length");
+        byte[] bytes = new byte[len];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,13 @@
+package il.ac.hit.project.main.model.dao;
+
+/**
+ * Cheap fingerprint of the stored task table used to validate a persisted cache snapshot.
+ * Any insert, delete or update changes at least one component (updates bump updated_date).
+ * @param rowCount number of stored tasks
+ * @param maxId highest task id (0 when empty)
+ * @param maxUpdatedMillis latest updated timestamp in epoch millis (0 when empty)
+ */
+public record TasksVersionStamp(long rowCount, int maxId, long maxUpdatedMillis) {
+    /** Stamp of an empty table. */
+    public static final TasksVersionStamp EMPTY = new TasksVersionStamp(0, 0, 0);
+}
@@ -0,0 +1,114 @@
+package il.ac.hit.project.main.model.store;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.TaskState;
+
+/**
+ * Row-oriented access to a compact task table (struct-of-arrays instead of one object per task).
+ * <p>
+ * Rows are dense indexes in [0, size()). Enum-like attributes are stored as byte storage codes
+ * ({@link ITaskState.StateType#getCode()} / {@link TaskPriority#getCode()}) and timestamps as epoch millis, so filters
+ * and sorting strategies can evaluate directly on the columns without materializing {@link ITask} objects.
+ * When an object is needed, {@link #view(int)} returns a lightweight {@link TaskRowView} over the row.
+ * <p>
+ * Implementations are not thread-safe: confine a store to one thread or guard it externally.
+ */
+public interface ITaskStore {
+    /**
+     * @return number of rows
+     */
+    int size();
+
+    /**
+     * Append a task's current values as a new row.
+     * @param task source task (ITaskDetails fields are required)
+     * @return row index of the new row
+     * @throws IllegalArgumentException if task null or its id is already stored
+     */
+    int add(ITask task);
+
+    /**
+     * Remove the row holding the given task id. The last row is moved into the hole, so the row index of
+     * at most one other task changes.
+     * @param id task id
+     * @return true if a row was removed
+     */
+    boolean remove(int id);
+
+    /** Remove every row. */
+    void clear();
+
+    /**
+     * @param id task id
+     * @return row index holding the id, or -1 if absent
+     */
+    int rowOf(int id);
+
+    // Column reads
+    /** @param row row index @return task id */
+    int id(int row);
+    /** @param row row index @return state code ({@link ITaskState.StateType#getCode()}) */
+    byte stateCode(int row);
+    /** @param row row index @return priority code ({@link TaskPriority#getCode()}) */
+    byte priorityCode(int row);
+    /** @param row row index @return creation time (epoch millis) */
+    long creationTime(int row);
+    /** @param row row index @return last updated time (epoch millis) */
+    long updatedTime(int row);
+    /** @param row row index @return title */
+    String title(int row);
+    /** @param row row index @return description (never null) */
+    String description(int row);
+
+    // Column writes
+    /** @param row row index @param id new id (re-indexed) */
+    void setId(int row, int id);
+    /** @param row row index @param code state code */
+    void setStateCode(int row, byte code);
+    /** @param row row index @param code priority code */
+    void setPriorityCode(int row, byte code);
+    /** @param row row index @param time updated time (epoch millis) */
+    void setUpdatedTime(int row, long time);
+    /** @param row row index @param title new title */
+    void setTitle(int row, String title);
+    /** @param row row index @param description new description */
+    void setDescription(int row, String description);
+
+    /**
+     * Decode the state column.
+     * @param row row index
+     * @return workflow state
+     */
+    default TaskState state(int row) {
+        return StoreCodes.state(stateCode(row));
+    }
+
+    /**
+     * Decode the priority column.
+     * @param row row index
+     * @return priority
+     */
+    default TaskPriority priority(int row) {
+        return StoreCodes.priority(priorityCode(row));
+    }
+
+    /**
+     * Lightweight ITask view over one row (two fields; no column data is copied).
+     * @param row row index
+     * @return view reading and writing through to the columns
+     */
+    default TaskRowView view(int row) {
+        return new TaskRowView(this, row);
+    }
+
+    /**
+     * @return row indexes 0..size()-1 in storage order (a fresh array callers may filter / sort)
+     */
+    default int[] rows() {
+        int[] rows = new int[size()];
+        for (int i = 0; i < rows.length; i++) rows[i] = i;
+        return rows;
+    }
+}
@@ -0,0 +1,105 @@
+package il.ac.hit.project.main.model.store;
+
+import java.util.Arrays;
+
+/**
+ * Primitive id -> row index shared by task stores.
+ * Open addressing with linear probing over a table of row numbers only (row + 1, 0 => empty slot); keys are
+ * compared by reading the owning store's id column, so the table costs one int per slot and never boxes.
+ * Load factor is kept at or below 0.5; deletion uses backward shifting (no tombstones).
+ */
+final class IdRowIndex {
+    /**
+     * Read access to the owning store's id column.
+     */
+    @FunctionalInterface
+    interface IRowIds {
+        /** @param row row index @return id stored in that row */
+        int idAt(int row);
+    }
+
+    private final IRowIds ids;
+    private int[] slotRows;
+    private int slotMask;
+
+    /**
+     * @param ids id column reader of the owning store
+     * @param expectedRows initial row capacity
+     */
+    IdRowIndex(IRowIds ids, int expectedRows) {
+        this.ids = ids;
+        allocate(tableSizeFor(expectedRows));
+    }
+
+    /**
+     * @param id task id
+     * @return row holding id, or -1
+     */
+    int rowOf(int id) {
+        for (int s = slot(id); ; s = (s + 1) & slotMask) {
+            int r = slotRows[s];
+            if (r == 0) return -1;
+            if (ids.idAt(r - 1) == id) return r - 1;
+        }
+    }
+
+    /**
+     * Map id to row; the row must already hold id (an existing slot for id is re-pointed).
+     * Callers reserve room first via {@link #ensureRows(int, int)}.
+     */
+    void put(int id, int row) {
+        for (int s = slot(id); ; s = (s + 1) & slotMask) {
+            if (slotRows[s] == 0 || ids.idAt(slotRows[s] - 1) == id) {
+                slotRows[s] = row + 1;
+                return;
+            }
+        }
+    }
+
+    /** Unmap id; its row must still hold id. */
+    void remove(int id) {
+        int gap = slot(id);
+        while (slotRows[gap] != 0 && ids.idAt(slotRows[gap] - 1) != id) gap = (gap + 1) & slotMask;
+        if (slotRows[gap] == 0) return;
+        slotRows[gap] = 0;
+        /* backward-shift deletion keeps probe chains intact without tombstones */
+        for (int j = (gap + 1) & slotMask; slotRows[j] != 0; j = (j + 1) & slotMask) {
+            int home = slot(ids.idAt(slotRows[j] - 1));
+            if (((j - home) & slotMask) >= ((j - gap) & slotMask)) {
+                slotRows[gap] = slotRows[j];
+                slotRows[j] = 0;
+                gap = j;
+            }
+        }
+    }
+
+    /**
+     * Grow (and rebuild from rows [0, size)) when required rows would exceed the load factor.
+     * @param required row count about to be reached
+     * @param size rows currently stored
+     */
+    void ensureRows(int required, int size) {
+        if (required * 2 <= slotRows.length) return;
+        allocate(tableSizeFor(required));
+        for (int row = 0; row < size; row++) put(ids.idAt(row), row);
+    }
+
+    /** Drop every mapping. */
+    void clear() {
+        Arrays.fill(slotRows, 0); }
+
+    private void allocate(int tableSize) {
+        slotRows = new int[tableSize];
+        slotMask = tableSize - 1;
+    }
+
+    /** @return power-of-two table size holding rows at load factor <= 0.5 */
+    private static int tableSizeFor(int rows) {
+        return Math.max(16, Integer.highestOneBit(Math.max(rows, 1) * 2 - 1) << 1);
+    }
+
+    private int slot(int id) { /* Fibonacci hashing spreads sequential ids */
+        int h = id * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & slotMask;
+    }
+}
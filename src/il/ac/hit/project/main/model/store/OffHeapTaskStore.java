@@ -0,0 +1,317 @@
+package il.ac.hit.project.main.model.store;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * {@link ITaskStore} keeping the task working set off-heap in FFM {@link MemorySegment}s.
+ * <p>
+ * Layout:
+ * <ul>
+ *   <li>Record segment: one fixed {@link #RECORD} (40 bytes) per row holding id, state / priority codes,
+ *       timestamps and (offset, length) references into the string region.</li>
+ *   <li>String region: UTF-8 bytes of titles and descriptions, bump-allocated. Replaced or removed strings
+ *       leave garbage that is compacted away whenever the region has to grow.</li>
+ * </ul>
+ * The GC sees only this object, two segments and the primitive id index, so millions of rows add no tracing
+ * work. Strings are decoded on each {@link #title(int)} / {@link #description(int)} read; numeric and code
+ * columns (used by filters and sorts) are read in place. Each segment lives in its own shared {@link Arena}
+ * so regrowth frees the previous memory immediately; {@link #close()} releases everything.
+ * Not thread-safe (segments are shared so the store may be handed between threads).
+ */
+public class OffHeapTaskStore implements ITaskStore, AutoCloseable {
+    /** fixed per-row record (natural alignment; 2 padding bytes after the codes) */
+    static final StructLayout RECORD = MemoryLayout.structLayout(
+            JAVA_INT.withName("id"),
+            JAVA_BYTE.withName("state"),
+            JAVA_BYTE.withName("priority"),
+            MemoryLayout.paddingLayout(2),
+            JAVA_LONG.withName("created"),
+            JAVA_LONG.withName("updated"),
+            JAVA_INT.withName("titleOffset"),
+            JAVA_INT.withName("titleLength"),
+            JAVA_INT.withName("descriptionOffset"),
+            JAVA_INT.withName("descriptionLength"));
+    private static final long RECORD_BYTES = RECORD.byteSize();
+    private static final long ID = offset("id");
+    private static final long STATE = offset("state");
+    private static final long PRIORITY = offset("priority");
+    private static final long CREATED = offset("created");
+    private static final long UPDATED = offset("updated");
+    private static final long TITLE_OFFSET = offset("titleOffset");
+    private static final long TITLE_LENGTH = offset("titleLength");
+    private static final long DESCRIPTION_OFFSET = offset("descriptionOffset");
+    private static final long DESCRIPTION_LENGTH = offset("descriptionLength");
+    /** initial string region size in bytes */
+    private static final long INITIAL_STRING_BYTES = 4096;
+
+    private int size = 0;
+    private int capacity;
+    private Arena recordArena;
+    private MemorySegment records;
+    private Arena stringArena;
+    private MemorySegment strings;
+    /** next free byte in the string region */
+    private long stringTop = 0;
+    /** bytes in [0, stringTop) no longer referenced by any row */
+    private long stringGarbage = 0;
+    private final IdRowIndex index;
+
+    /** Create an empty store with a small default capacity. */
+    public OffHeapTaskStore() {
+        this(64);
+    }
+
+    /**
+     * Create an empty store sized for an expected number of rows.
+     * @param initialCapacity expected row count
+     * @throws IllegalArgumentException if initialCapacity negative
+     */
+    public OffHeapTaskStore(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity cannot be negative");
+        capacity = Math.max(initialCapacity, 1);
+        recordArena = Arena.ofShared();
+        records = recordArena.allocate(capacity * RECORD_BYTES, JAVA_LONG.byteAlignment());
+        stringArena = Arena.ofShared();
+        strings = stringArena.allocate(INITIAL_STRING_BYTES, 1);
+        index = new IdRowIndex(row -> records.get(JAVA_INT, row * RECORD_BYTES + ID), capacity);
+    }
+
+    /**
+     * Build a store holding the given tasks in array order.
+     * @param tasks source tasks (ITaskDetails fields are required)
+     * @return populated store (caller closes it)
+     */
+    public static OffHeapTaskStore of(ITask[] tasks) {
+        OffHeapTaskStore store = new OffHeapTaskStore(tasks.length);
+        for (ITask task : tasks) store.add(task);
+        return store;
+    }
+
+    @Override
+    public int size() {
+        return size; }
+
+    @Override
+    public int add(ITask task) {
+        if (task == null) throw new IllegalArgumentException("task cannot be null");
+        ITaskDetails d = (ITaskDetails) task;
+        int id = d.getId();
+        if (rowOf(id) >= 0) throw new IllegalArgumentException("Duplicate task id: " + id);
+        ensureCapacity(size + 1);
+        int row = size;
+        long base = row * RECORD_BYTES;
+        records.set(JAVA_INT, base + ID, id);
+        records.set(JAVA_BYTE, base + STATE, StoreCodes.code(d.getState().toStateType()));
+        records.set(JAVA_BYTE, base + PRIORITY, StoreCodes.code(d.getPriority()));
+        records.set(JAVA_LONG, base + CREATED, d.getCreationTime());
+        records.set(JAVA_LONG, base + UPDATED, d.getUpdatedTime());
+        clearString(base, TITLE_OFFSET, TITLE_LENGTH); // reused row: drop stale refs, owns no bytes yet
+        clearString(base, DESCRIPTION_OFFSET, DESCRIPTION_LENGTH);
+        size++;
+        writeString(row, TITLE_OFFSET, TITLE_LENGTH, d.getTitle());
+        writeString(row, DESCRIPTION_OFFSET, DESCRIPTION_LENGTH, d.getDescription());
+        index.put(id, row);
+        return row;
+    }
+
+    @Override
+    public boolean remove(int id) {
+        int row = rowOf(id);
+        if (row < 0) return false;
+        int last = size - 1;
+        long base = row * RECORD_BYTES;
+        stringGarbage += records.get(JAVA_INT, base + TITLE_LENGTH) + records.get(JAVA_INT, base + DESCRIPTION_LENGTH);
+        index.remove(id);
+        if (row != last) { // swap-remove: copy the last record into the hole (string refs move with it)
+            MemorySegment.copy(records, last * RECORD_BYTES, records, base, RECORD_BYTES);
+            index.put(records.get(JAVA_INT, base + ID), row);
+        }
+        size = last;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        size = 0;
+        stringTop = 0;
+        stringGarbage = 0;
+    }
+
+    @Override
+    public int rowOf(int id) {
+        return index.rowOf(id); }
+
+    // ------------------------------------------------------------
+    // Column access
+    // ------------------------------------------------------------
+
+    @Override
+    public int id(int row) {
+        return records.get(JAVA_INT, base(row) + ID); }
+
+    @Override
+    public byte stateCode(int row) {
+        return records.get(JAVA_BYTE, base(row) + STATE); }
+
+    @Override
+    public byte priorityCode(int row) {
+        return records.get(JAVA_BYTE, base(row) + PRIORITY); }
+
+    @Override
+    public long creationTime(int row) {
+        return records.get(JAVA_LONG, base(row) + CREATED); }
+
+    @Override
+    public long updatedTime(int row) {
+        return records.get(JAVA_LONG, base(row) + UPDATED); }
+
+    @Override
+    public String title(int row) {
+        return readString(base(row), TITLE_OFFSET, TITLE_LENGTH); }
+
+    @Override
+    public String description(int row) {
+        return readString(base(row), DESCRIPTION_OFFSET, DESCRIPTION_LENGTH); }
+
+    @Override
+    public void setId(int row, int id) {
+        long base = base(row);
+        int old = records.get(JAVA_INT, base + ID);
+        if (old == id) return;
+        if (rowOf(id) >= 0) throw new IllegalArgumentException("Duplicate task id: " + id);
+        index.remove(old);
+        records.set(JAVA_INT, base + ID, id);
+        index.put(id, row);
+    }
+
+    @Override
+    public void setStateCode(int row, byte code) {
+        records.set(JAVA_BYTE, base(row) + STATE, code); }
+
+    @Override
+    public void setPriorityCode(int row, byte code) {
+        records.set(JAVA_BYTE, base(row) + PRIORITY, code); }
+
+    @Override
+    public void setUpdatedTime(int row, long time) {
+        records.set(JAVA_LONG, base(row) + UPDATED, time); }
+
+    @Override
+    public void setTitle(int row, String title) {
+        Objects.checkIndex(row, size);
+        writeString(row, TITLE_OFFSET, TITLE_LENGTH, Objects.requireNonNull(title, "title"));
+    }
+
+    @Override
+    public void setDescription(int row, String description) {
+        Objects.checkIndex(row, size);
+        writeString(row, DESCRIPTION_OFFSET, DESCRIPTION_LENGTH, description);
+    }
+
+    /**
+     * @return off-heap bytes currently reserved (records + string region)
+     */
+    public long reservedBytes() {
+        return records.byteSize() + strings.byteSize(); }
+
+    /** Release all off-heap memory; the store is unusable afterwards. */
+    @Override
+    public void close() {
+        recordArena.close();
+        stringArena.close();
+    }
+
+    // ------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------
+
+    private long base(int row) {
+        return Objects.checkIndex(row, size) * RECORD_BYTES; }
+
+    private static long offset(String field) {
+        return RECORD.byteOffset(groupElement(field)); }
+
+    private String readString(long base, long offsetField, long lengthField) {
+        int length = records.get(JAVA_INT, base + lengthField);
+        if (length == 0) return "";
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(strings, JAVA_BYTE, records.get(JAVA_INT, base + offsetField), bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** append value's UTF-8 bytes and point the row's (offset, length) fields at them */
+    private void writeString(int row, long offsetField, long lengthField, String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        long base = row * RECORD_BYTES;
+        stringGarbage += records.get(JAVA_INT, base + lengthField); // previous value is dead
+        clearString(base, offsetField, lengthField);                // and excluded from compaction
+        ensureStringCapacity(bytes.length);
+        MemorySegment.copy(bytes, 0, strings, JAVA_BYTE, stringTop, bytes.length);
+        records.set(JAVA_INT, base + offsetField, (int) stringTop);
+        records.set(JAVA_INT, base + lengthField, bytes.length);
+        stringTop += bytes.length;
+    }
+
+    private void clearString(long base, long offsetField, long lengthField) {
+        records.set(JAVA_INT, base + offsetField, 0);
+        records.set(JAVA_INT, base + lengthField, 0);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > capacity) {
+            int grown = Math.max(required, capacity + (capacity >> 1)); // grow by 1.5x
+            Arena next = Arena.ofShared();
+            MemorySegment moved = next.allocate(grown * RECORD_BYTES, JAVA_LONG.byteAlignment());
+            MemorySegment.copy(records, 0, moved, 0, size * RECORD_BYTES);
+            recordArena.close(); // free the old block now rather than at GC time
+            recordArena = next;
+            records = moved;
+            capacity = grown;
+        }
+        index.ensureRows(required, size);
+    }
+
+    /**
+     * Make room for extra string bytes. When the region is full, live strings are copied compactly into a
+     * new region (dropping garbage) sized at 1.5x the live data plus the request.
+     */
+    private void ensureStringCapacity(int extra) {
+        if (stringTop + extra <= strings.byteSize()) return;
+        long live = stringTop - stringGarbage;
+        long needed = live + extra;
+        long grown = Math.max(INITIAL_STRING_BYTES, needed + (needed >> 1));
+        if (grown > Integer.MAX_VALUE) throw new IllegalStateException("String region exceeds 2 GB");
+        Arena next = Arena.ofShared();
+        MemorySegment compacted = next.allocate(grown, 1);
+        long top = 0;
+        for (int row = 0; row < size; row++) {
+            top = moveString(row * RECORD_BYTES, TITLE_OFFSET, TITLE_LENGTH, compacted, top);
+            top = moveString(row * RECORD_BYTES, DESCRIPTION_OFFSET, DESCRIPTION_LENGTH, compacted, top);
+        }
+        stringArena.close();
+        stringArena = next;
+        strings = compacted;
+        stringTop = top;
+        stringGarbage = 0;
+    }
+
+    private long moveString(long base, long offsetField, long lengthField, MemorySegment target, long top) {
+        int length = records.get(JAVA_INT, base + lengthField);
+        MemorySegment.copy(strings, records.get(JAVA_INT, base + offsetField), target, top, length);
+        records.set(JAVA_INT, base + offsetField, (int) top);
+        return top + length;
+    }
+}
@@ -0,0 +1,38 @@
+package il.ac.hit.project.main.model.store;
+
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.TaskState;
+
+/**
+ * Byte encoding of the stable storage codes ({@link ITaskState.StateType#getCode()},
+ * {@link TaskPriority#getCode()}) shared by task stores; decoding is array-indexed.
+ */
+public final class StoreCodes {
+    /** state code -> public state enum */
+    private static final TaskState[] STATES = new TaskState[ITaskState.StateType.values().length];
+
+    static {
+        for (ITaskState.StateType type : ITaskState.StateType.values()) {
+            STATES[type.getCode()] = TaskState.fromStateType(type);
+        }
+    }
+
+    private StoreCodes() { /* static utility */ }
+
+    /** @return code for a state type */
+    public static byte code(ITaskState.StateType type) {
+        return (byte) type.getCode(); }
+
+    /** @return code for a priority */
+    public static byte code(TaskPriority priority) {
+        return (byte) priority.getCode(); }
+
+    /** @return decoded state */
+    public static TaskState state(byte code) {
+        return STATES[code]; }
+
+    /** @return decoded priority */
+    public static TaskPriority priority(byte code) {
+        return TaskPriority.fromCode(code); }
+}
@@ -0,0 +1,108 @@
+package il.ac.hit.project.main.model.store;
+
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.TaskState;
+
+/**
+ * Flyweight {@link ITaskDetails} over one row of an {@link ITaskStore}.
+ * Holds only the store reference and row index; every getter reads the columns and every mutator writes
+ * through to them (bumping the updated time like {@code Task} does). Mutators do not publish observer
+ * notifications: the store is a data holder, change events belong to the owning component.
+ * <p>
+ * A view is tied to a row index, not to a task: after {@link ITaskStore#remove(int)} moves another task into
+ * the row, re-obtain views via {@link ITaskStore#rowOf(int)}.
+ */
+public final class TaskRowView implements ITaskDetails {
+    private final ITaskStore store;
+    private final int row;
+
+    /**
+     * @param store backing store
+     * @param row row index in the store
+     */
+    TaskRowView(ITaskStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    /** @return row index this view reads */
+    public int getRow() {
+        return row; }
+
+    /** @return backing store */
+    public ITaskStore getStore() {
+        return store; }
+
+    @Override
+    public int getId() {
+        return store.id(row); }
+
+    @Override
+    public String getTitle() {
+        return store.title(row); }
+
+    @Override
+    public String getDescription() {
+        return store.description(row); }
+
+    @Override
+    public TaskState getState() {
+        return store.state(row); }
+
+    @Override
+    public TaskPriority getPriority() {
+        return store.priority(row); }
+
+    @Override
+    public long getCreationTime() {
+        return store.creationTime(row); }
+
+    @Override
+    public long getUpdatedTime() {
+        return store.updatedTime(row); }
+
+    @Override
+    public void setId(int id) {
+        store.setId(row, id); }
+
+    @Override
+    public void setTitle(String title) {
+        if (title == null || title.isBlank()) throw new IllegalArgumentException("title cannot be null/blank");
+        store.setTitle(row, title); touch(); }
+
+    @Override
+    public void setDescription(String description) {
+        store.setDescription(row, description == null ? "" : description); touch(); }
+
+    @Override
+    public void setState(ITaskState state) {
+        if (state == null) throw new IllegalArgumentException("state cannot be null");
+        store.setStateCode(row, StoreCodes.code(state.getStateType())); touch(); }
+
+    @Override
+    public void setPriority(TaskPriority priority) {
+        if (priority == null) throw new IllegalArgumentException("priority cannot be null");
+        store.setPriorityCode(row, StoreCodes.code(priority)); touch(); }
+
+    private void touch() { /* mirror Task: any edit refreshes the updated time */
+        store.setUpdatedTime(row, System.currentTimeMillis()); }
+
+    @Override
+    public String toString() {
+        return String.format("TaskRowView{row=%d, id=%d, title='%s', state=%s, priority=%s}",
+                row, getId(), getTitle(), getState(), getPriority());
+    }
+
+    @Override
+    public boolean equals(Object obj) { /* same store and same task id */
+        if (this == obj) return true;
+        if (!(obj instanceof TaskRowView other)) return false;
+        return store == other.store && getId() == other.getId();
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(getId()); }
+}
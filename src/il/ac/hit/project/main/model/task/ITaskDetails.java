@@ -14,15 +14,29 @@ public interface ITaskDetails extends ITask {
      */
     TaskPriority getPriority();
     /**
-     * Get the creation date of the task
-     * @return creation date
+     * Get the creation time of the task (allocation-free accessor)
+     * @return creation time in epoch millis
      */
-    Date getCreationDate();
+    long getCreationTime();
     /**
-     * Get the last updated date of the task
-     * @return updated date
+     * Get the last updated time of the task (allocation-free accessor)
+     * @return updated time in epoch millis
      */
-    Date getUpdatedDate();
+    long getUpdatedTime();
+    /**
+     * Get the creation date of the task (compatibility adapter over {@link #getCreationTime()})
+     * @return new Date instance for the creation time
+     */
+    default Date getCreationDate() {
+        return new Date(getCreationTime());
+    }
+    /**
+     * Get the last updated date of the task (compatibility adapter over {@link #getUpdatedTime()})
+     * @return new Date instance for the updated time
+     */
+    default Date getUpdatedDate() {
+        return new Date(getUpdatedTime());
+    }
 
     // Mutators
     /**
@@ -22,10 +22,53 @@ public interface ITaskState {
      */
     enum StateType {
         /** To Do state */
-        TODO,
+        TODO(0),
         /** In Progress state */
-        IN_PROGRESS,
+        IN_PROGRESS(1),
         /** Completed state */
-        COMPLETED
+        COMPLETED(2);
+
+        /** code -> type lookup (index = code) */
+        private static final StateType[] BY_CODE = new StateType[3];
+
+        static {
+            for (StateType t : values()) BY_CODE[t.code] = t;
+        }
+
+        /** stable compact code persisted in storage (SMALLINT column, snapshots); never reuse or renumber */
+        private final int code;
+
+        StateType(int code) {
+            this.code = code;
+        }
+
+        /**
+         * @return stable storage code (0 = TODO, 1 = IN_PROGRESS, 2 = COMPLETED)
+         */
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * Decode a storage code (array-indexed, no parsing).
+         * @param code stored code
+         * @return state type
+         * @throws IllegalArgumentException if the code is unknown
+         */
+        public static StateType fromCode(int code) {
+            if (code < 0 || code >= BY_CODE.length) throw new IllegalArgumentException("Unknown state code: " + code);
+            return BY_CODE[code];
+        }
+
+        /**
+         * @return the State pattern singleton for this type
+         */
+        public ITaskState toState() {
+            return switch (this) {
+                case TODO -> ToDoState.getInstance();
+                case IN_PROGRESS -> InProgressState.getInstance();
+                case COMPLETED -> CompletedState.getInstance();
+            };
+        }
     }
 }
@@ -2,6 +2,8 @@ package il.ac.hit.project.main.model.task;
 
 import il.ac.hit.project.main.view.TaskAttributeSubject;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Concrete implementation of ITask interface.
@@ -13,13 +15,14 @@ public class Task implements ITaskDetails {
     private String title;
     private String description;
     private ITaskState state;
-    private final Date createdDate;
-    private Date updatedDate;
+    private final long createdTime;   // epoch millis (allocation-free storage)
+    private long updatedTime;         // epoch millis
     private TaskPriority priority;
 
 
     /**
-     * Full constructor used by DAO hydration.
+     * Full constructor for new tasks.
+     * Assigns fields directly (no observer events): a task under construction has no subscribers' rows yet.
      * @param id id value
      * @param title non-null, non-blank title
      * @param description may be null -> stored as empty
@@ -28,13 +31,52 @@ public class Task implements ITaskDetails {
      * @param priority non-null priority
      */
     public Task(int id, String title, String description, ITaskState state, Date createdDate, TaskPriority priority) {
-        setId(id);
-        this.createdDate = createdDate == null ? new Date() : createdDate;
-        this.updatedDate = new Date();
-        setTitle(title);
-        setDescription(description);
-        setState(state);
-        setPriority(priority);
+        this(id, title, description, state, priority,
+                createdDate == null ? System.currentTimeMillis() : createdDate.getTime(), System.currentTimeMillis());
+    }
+
+    /**
+     * Silent field-assigning constructor shared by the public constructor and {@link #hydrate}.
+     */
+    private Task(int id, String title, String description, ITaskState state, TaskPriority priority,
+                 long createdTime, long updatedTime) {
+        this.id = id;
+        this.title = requireTitle(title);
+        this.description = normalizeDescription(description);
+        this.state = requireState(state);
+        this.priority = requirePriority(priority);
+        this.createdTime = createdTime;
+        this.updatedTime = updatedTime;
+    }
+
+    /**
+     * Hydration factory for rebuilding a stored task (DAO rows, cache snapshots).
+     * Assigns every field as persisted: timestamps are not touched and no observer events are fired,
+     * so loading N tasks costs N allocations instead of ~4N change notifications.
+     * @param id stored id
+     * @param title non-null, non-blank title
+     * @param description may be null -> stored as empty
+     * @param state non-null state strategy
+     * @param priority non-null priority
+     * @param createdTime stored creation time (epoch millis)
+     * @param updatedTime stored last update time (epoch millis)
+     * @return hydrated task
+     */
+    public static Task hydrate(int id, String title, String description, ITaskState state, TaskPriority priority,
+                               long createdTime, long updatedTime) {
+        return new Task(id, title, description, state, priority, createdTime, updatedTime);
+    }
+
+    /**
+     * {@link Date} adapter for {@link #hydrate(int, String, String, ITaskState, TaskPriority, long, long)}.
+     * @param createdDate stored creation date (if null current time)
+     * @param updatedDate stored last update date (if null creation date)
+     * @return hydrated task
+     */
+    public static Task hydrate(int id, String title, String description, ITaskState state, TaskPriority priority,
+                               Date createdDate, Date updatedDate) {
+        long created = createdDate == null ? System.currentTimeMillis() : createdDate.getTime();
+        return hydrate(id, title, description, state, priority, created, updatedDate == null ? created : updatedDate.getTime());
     }
 
     @Override
@@ -55,9 +97,8 @@ public class Task implements ITaskDetails {
     @Override
     public void setTitle(String title) {
         /* Validate & update title; notify observers if changed */
-        if (title == null || title.isBlank()) throw new IllegalArgumentException("title cannot be null/blank");
         String oldTitle = this.title;
-        this.title = title;
+        this.title = requireTitle(title);
         touchAndNotifyUpdatedDate();
         if (oldTitle != null && !oldTitle.equals(title)) {
             getAttributeSubject().notifyTitleChanged(this, oldTitle, title);
@@ -72,7 +113,7 @@ public class Task implements ITaskDetails {
     @Override
     public void setDescription(String description) {
         /* Normalize null to empty string and notify on change */
-        String normalized = description == null ? "" : description;
+        String normalized = normalizeDescription(description);
         String oldDescription = this.description;
         this.description = normalized;
         touchAndNotifyUpdatedDate();
@@ -92,9 +133,8 @@ public class Task implements ITaskDetails {
     @Override
     public void setState(ITaskState state) {
         /* Replace state strategy instance and fire observer event */
-        if (state == null) throw new IllegalArgumentException("state cannot be null");
         ITaskState oldState = this.state;
-        this.state = state;
+        this.state = requireState(state);
         touchAndNotifyUpdatedDate();
         if (oldState != null && oldState != state) {
             getAttributeSubject().notifyStateChanged(this, oldState, state);
@@ -109,43 +149,101 @@ public class Task implements ITaskDetails {
     @Override
     public void setPriority(TaskPriority priority) {
         /* Update priority with validation and notify observers */
-        if (priority == null) throw new IllegalArgumentException("priority cannot be null");
         TaskPriority oldPriority = this.priority;
-        this.priority = priority;
+        this.priority = requirePriority(priority);
         touchAndNotifyUpdatedDate();
         if (oldPriority != null && oldPriority != priority) {
             getAttributeSubject().notifyPriorityChanged(this, oldPriority, priority);
         }
     }
 
+    /**
+     * Apply several field edits as one transaction.
+     * All changed fields are assigned first, then updatedDate is bumped once and a single
+     * {@link TaskChange} describing every changed attribute is published (instead of one attribute
+     * event plus one updated-date event per setter).
+     * @param edit edits to apply (null components keep the current value)
+     * @return published change, or null if the edit did not change any value (nothing is bumped or fired)
+     * @throws IllegalArgumentException if edit null
+     */
+    public TaskChange apply(TaskEdit edit) {
+        if (edit == null) throw new IllegalArgumentException("edit cannot be null");
+        String oldTitle = title, oldDescription = description;
+        ITaskState oldState = state;
+        TaskPriority oldPriority = priority;
+        long oldUpdated = updatedTime;
+
+        Set<TaskAttribute> changed = EnumSet.noneOf(TaskAttribute.class);
+        if (edit.title() != null && !edit.title().equals(oldTitle)) changed.add(TaskAttribute.TITLE);
+        if (edit.description() != null && !edit.description().equals(oldDescription)) changed.add(TaskAttribute.DESCRIPTION);
+        if (edit.state() != null && edit.state() != oldState) changed.add(TaskAttribute.STATE);
+        if (edit.priority() != null && edit.priority() != oldPriority) changed.add(TaskAttribute.PRIORITY);
+        if (changed.isEmpty()) return null; // no-op edit: keep timestamp, stay silent
+
+        if (changed.contains(TaskAttribute.TITLE)) this.title = edit.title();
+        if (changed.contains(TaskAttribute.DESCRIPTION)) this.description = edit.description();
+        if (changed.contains(TaskAttribute.STATE)) this.state = edit.state();
+        if (changed.contains(TaskAttribute.PRIORITY)) this.priority = edit.priority();
+        this.updatedTime = System.currentTimeMillis(); // single bump for the whole edit
+        changed.add(TaskAttribute.UPDATED_DATE);
+
+        TaskChange change = new TaskChange(this, changed,
+                oldTitle, title, oldDescription, description, oldState, state,
+                oldPriority, priority, oldUpdated, updatedTime);
+        getAttributeSubject().notifyTaskChanged(change);
+        return change;
+    }
+
     @Override
-    public Date getCreationDate() {
-        return createdDate; }
+    public long getCreationTime() {
+        return createdTime; }
 
     @Override
-    public Date getUpdatedDate() {
-        return updatedDate; }
-    /* Return last modification timestamp */
+    public long getUpdatedTime() {
+        return updatedTime; }
+    /* Return last modification timestamp (epoch millis) */
 
     /**
-     * Sets the last updated date of the task.
-     * @param updatedDate date to set
+     * Sets the last updated time of the task (no event; used when syncing with storage).
+     * @param updatedTime epoch millis
+     */
+    public void setUpdatedTime(long updatedTime) {
+        this.updatedTime = updatedTime; }
+
+    /**
+     * Sets the last updated date of the task ({@link Date} adapter for {@link #setUpdatedTime(long)}).
+     * @param updatedDate date to set (null -> now)
      */
     public void setUpdatedDate(Date updatedDate) {
-        this.updatedDate = updatedDate == null ? new Date() : updatedDate; }
+        this.updatedTime = updatedDate == null ? System.currentTimeMillis() : updatedDate.getTime(); }
 
     /**
-     * Helper that updates updatedDate and notifies observers about the timestamp change.
+     * Helper that updates updatedTime and notifies observers about the timestamp change.
      */
     private void touchAndNotifyUpdatedDate() {
-        /* Record old timestamp then update & broadcast change */
-        Date oldDate = this.updatedDate;
-        this.updatedDate = new Date();
-        if (oldDate != null) {
-            getAttributeSubject().notifyUpdatedDateChanged(this, oldDate, this.updatedDate);
-        }
+        /* Record old timestamp then update & broadcast change (primitive, no Date allocation) */
+        long oldTime = this.updatedTime;
+        this.updatedTime = System.currentTimeMillis();
+        getAttributeSubject().notifyUpdatedTimeChanged(this, oldTime, this.updatedTime);
     }
 
+    // -------------------- Validation helpers (shared by constructors & setters) --------------------
+
+    private static String requireTitle(String title) {
+        if (title == null || title.isBlank()) throw new IllegalArgumentException("title cannot be null/blank");
+        return title; }
+
+    private static String normalizeDescription(String description) {
+        return description == null ? "" : description; }
+
+    private static ITaskState requireState(ITaskState state) {
+        if (state == null) throw new IllegalArgumentException("state cannot be null");
+        return state; }
+
+    private static TaskPriority requirePriority(TaskPriority priority) {
+        if (priority == null) throw new IllegalArgumentException("priority cannot be null");
+        return priority; }
+
     /** @return global attribute subject singleton */
     public static TaskAttributeSubject getAttributeSubject() {
         return TaskAttributeSubject.getInstance(); }
@@ -154,7 +252,7 @@ public class Task implements ITaskDetails {
     @Override
     public String toString() { /* Diagnostic representation */
         return String.format("Task{id=%d, title='%s', description='%s', state=%s, priority=%s, created=%s, updated=%s}",
-                id, title, description, state.getStateType(), priority, createdDate, updatedDate);
+                id, title, description, state.getStateType(), priority, new Date(createdTime), new Date(updatedTime));
     }
 
     @Override
@@ -0,0 +1,17 @@
+package il.ac.hit.project.main.model.task;
+
+/**
+ * Mutable attributes of a task that can appear in a {@link TaskChange}.
+ */
+public enum TaskAttribute {
+    /** Task title */
+    TITLE,
+    /** Task description */
+    DESCRIPTION,
+    /** Workflow state */
+    STATE,
+    /** Priority level */
+    PRIORITY,
+    /** Last-modified timestamp */
+    UPDATED_DATE
+}
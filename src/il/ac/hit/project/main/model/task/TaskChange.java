@@ -0,0 +1,55 @@
+package il.ac.hit.project.main.model.task;
+
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Immutable description of one atomic change to a task, carrying old and new values for every attribute.
+ * Attributes not listed in {@link #attributes()} have equal old and new values.
+ * @param task affected task (reflects the new values)
+ * @param attributes attributes whose value changed (never empty for a published change)
+ * @param oldTitle previous title
+ * @param newTitle current title
+ * @param oldDescription previous description
+ * @param newDescription current description
+ * @param oldState previous state
+ * @param newState current state
+ * @param oldPriority previous priority
+ * @param newPriority current priority
+ * @param oldUpdatedTime previous updated timestamp (epoch millis)
+ * @param newUpdatedTime current updated timestamp (epoch millis)
+ */
+public record TaskChange(
+    ITask task,
+    Set<TaskAttribute> attributes,
+    String oldTitle, String newTitle,
+    String oldDescription, String newDescription,
+    ITaskState oldState, ITaskState newState,
+    TaskPriority oldPriority, TaskPriority newPriority,
+    long oldUpdatedTime, long newUpdatedTime
+) {
+    /**
+     * Defensive copy of the attribute set.
+     */
+    public TaskChange {
+        attributes = Set.copyOf(attributes);
+    }
+
+    /** @return previous updated timestamp as a Date (compatibility adapter) */
+    public Date oldUpdatedDate() {
+        return new Date(oldUpdatedTime);
+    }
+
+    /** @return current updated timestamp as a Date (compatibility adapter) */
+    public Date newUpdatedDate() {
+        return new Date(newUpdatedTime);
+    }
+
+    /**
+     * @param attribute attribute to check
+     * @return true if the attribute changed in this event
+     */
+    public boolean changed(TaskAttribute attribute) {
+        return attributes.contains(attribute);
+    }
+}
@@ -0,0 +1,18 @@
+package il.ac.hit.project.main.model.task;
+
+/**
+ * Immutable set of field edits applied atomically through {@link Task#apply(TaskEdit)}.
+ * A null component means "keep the current value".
+ * @param title new title (non-blank) or null
+ * @param description new description (empty string clears it) or null
+ * @param state new state strategy or null
+ * @param priority new priority or null
+ */
+public record TaskEdit(String title, String description, ITaskState state, TaskPriority priority) {
+    /**
+     * Validates supplied components eagerly so a bad edit fails before any field is touched.
+     */
+    public TaskEdit {
+        if (title != null && title.isBlank()) throw new IllegalArgumentException("title cannot be blank");
+    }
+}
@@ -7,23 +7,36 @@ package il.ac.hit.project.main.model.task;
  */
 public enum TaskPriority {
     /** Low importance / can be deferred */
-    LOW("Low"),
+    LOW("Low", 0),
     /** Medium importance / default */
-    MEDIUM("Medium"),
+    MEDIUM("Medium", 1),
     /** High importance / requires attention soon */
-    HIGH("High");
+    HIGH("High", 2);
+
+    /** code -> priority lookup (index = code) */
+    private static final TaskPriority[] BY_CODE = new TaskPriority[3];
+
+    static {
+        for (TaskPriority p : values()) BY_CODE[p.code] = p;
+    }
 
     /**
      * Display name for the priority
      */
     private final String displayName;
+    /**
+     * Stable compact code persisted in storage (SMALLINT column, snapshots); never reuse or renumber
+     */
+    private final int code;
 
     /**
      * Constructor for TaskPriority
      * @param displayName label shown in UI
+     * @param code stable storage code
      */
-    TaskPriority(String displayName) {
+    TaskPriority(String displayName, int code) {
         this.displayName = displayName;
+        this.code = code;
     }
 
     /**
@@ -39,9 +52,28 @@ public enum TaskPriority {
         return displayName;
     }
 
+    /**
+     * Get the stable storage code
+     * @return code (0 = LOW, 1 = MEDIUM, 2 = HIGH)
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Decode a storage code (array-indexed, no parsing).
+     * @param code stored code
+     * @return corresponding TaskPriority
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static TaskPriority fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) throw new IllegalArgumentException("Unknown priority code: " + code);
+        return BY_CODE[code];
+    }
+
     /**
      * For backward-compatible parsing of stored priority strings
-     * (display names or enum names).
+     * (display names or enum names). Used for legacy rows written before the code columns existed.
      * @param raw raw value from the database
      * @return corresponding TaskPriority
      */
@@ -49,19 +81,10 @@ public enum TaskPriority {
         if (raw == null || raw.isEmpty()) {
             return LOW; // default fallback
         }
-        // First try exact enum name (expected canonical storage form)
-        try {
-            return TaskPriority.valueOf(raw);
-        } catch (IllegalArgumentException ignore) { /* fall through */ }
-        // Try case-insensitive enum name match
-        for (TaskPriority p : values()) {
-            if (p.name().equalsIgnoreCase(raw)) {
-                return p;
-            }
-        }
-        // Try case-insensitive display name (legacy stored form: "Low", "Medium", "High")
-        for (TaskPriority p : values()) {
-            if (p.displayName.equalsIgnoreCase(raw)) {
+        // Enum names and legacy display names ("Low", "Medium", "High") differ only in case,
+        // so a single case-insensitive pass covers both without a throwing valueOf
+        for (TaskPriority p : BY_CODE) {
+            if (p.name().equalsIgnoreCase(raw) || p.displayName.equalsIgnoreCase(raw)) {
                 return p;
             }
         }
@@ -2,6 +2,8 @@ package il.ac.hit.project.main.view;
 
 import il.ac.hit.project.main.model.task.ITask;
 import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
 import il.ac.hit.project.main.model.task.TaskPriority;
 import java.util.Date;
 
@@ -43,12 +45,40 @@ public interface ITaskAttributeObserver {
     void onDescriptionChanged(ITask task, String oldDescription, String newDescription);
 
     /**
-     * Called when a task's updated timestamp changes.
+     * Called when a task's updated timestamp changes (primitive form published by the model).
+     * The default adapts to {@link #onUpdatedDateChanged} for observers written against Dates;
+     * override this instead to avoid allocating two Dates per event.
+     * @param task affected task
+     * @param oldTime prior timestamp (epoch millis)
+     * @param newTime new timestamp (epoch millis)
+     */
+    default void onUpdatedTimeChanged(ITask task, long oldTime, long newTime) {
+        onUpdatedDateChanged(task, new Date(oldTime), new Date(newTime));
+    }
+
+    /**
+     * Called when a task's updated timestamp changes (legacy {@link Date} form).
+     * Only reached through the default {@link #onUpdatedTimeChanged}; no-op unless overridden.
      * @param task affected task
      * @param oldDate prior timestamp
      * @param newDate new timestamp
      */
-    void onUpdatedDateChanged(ITask task, Date oldDate, Date newDate);
+    default void onUpdatedDateChanged(ITask task, Date oldDate, Date newDate) { }
+
+    /**
+     * Called once for an atomic multi-attribute edit ({@code Task.apply}).
+     * The default implementation fans the change out to the matching single-attribute callbacks,
+     * so existing observers keep working; override it to react once per edit.
+     * @param change combined change (old and new values of every attribute)
+     */
+    default void onTaskChanged(TaskChange change) {
+        ITask task = change.task();
+        if (change.changed(TaskAttribute.TITLE)) onTitleChanged(task, change.oldTitle(), change.newTitle());
+        if (change.changed(TaskAttribute.DESCRIPTION)) onDescriptionChanged(task, change.oldDescription(), change.newDescription());
+        if (change.changed(TaskAttribute.STATE)) onStateChanged(task, change.oldState(), change.newState());
+        if (change.changed(TaskAttribute.PRIORITY)) onPriorityChanged(task, change.oldPriority(), change.newPriority());
+        if (change.changed(TaskAttribute.UPDATED_DATE)) onUpdatedTimeChanged(task, change.oldUpdatedTime(), change.newUpdatedTime());
+    }
 
     /**
      * Called when a task is added.
@@ -61,4 +91,11 @@ public interface ITaskAttributeObserver {
      * @param task removed task
      */
     void onTaskRemoved(ITask task);
+
+    /**
+     * Called after the last event of a consumed batch under ring-buffer dispatch, once per observer that
+     * received at least one event of that batch; a place to do per-batch work (repaint, recompute) once.
+     * Other dispatch modes never call it. No-op by default.
+     */
+    default void onEndOfBatch() { }
 }
@@ -0,0 +1,31 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.TaskChange;
+import java.util.List;
+
+/**
+ * Observer for coalesced task changes emitted by {@link TaskChangeBatcher}: one callback per batch window
+ * instead of one per attribute notification.
+ */
+public interface ITaskChangeBatchObserver {
+    /**
+     * Called once per batch with the merged attribute changes.
+     * @param changes one merged change per edited task, in first-edit order (may be empty when the batch
+     *                only added or removed tasks)
+     */
+    void onBatch(List<TaskChange> changes);
+
+    /**
+     * Called once per batch with merged changes and membership changes. The default forwards to
+     * {@link #onBatch(List)}; override it to react to additions / removals as well.
+     * Removals apply before additions; an added task already reflects its latest values, so it never also
+     * appears in {@code changes}.
+     * @param changes one merged change per edited task, in first-edit order
+     * @param added tasks added during the window (not removed again)
+     * @param removed tasks removed during the window (that existed before it)
+     */
+    default void onBatch(List<TaskChange> changes, List<ITask> added, List<ITask> removed) {
+        onBatch(changes);
+    }
+}
@@ -13,4 +13,14 @@ public interface ITasksObserver {
      * @param tasks immutable snapshot (never null, may be empty)
      */
     void onTasksChanged(List<ITask> tasks);
+
+    /**
+     * Notified with the structure of a visible list change (inserted / removed / moved positions and
+     * changed ids) relative to the previous notification. Diffs arrive in publication order.
+     * The default falls back to {@link #onTasksChanged(List)} with the full new list.
+     * @param diff change from the previously published list (never null)
+     */
+    default void onTasksChanged(TaskListDiff diff) {
+        onTasksChanged(diff.tasks());
+    }
 }
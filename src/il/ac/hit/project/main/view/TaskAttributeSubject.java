@@ -2,21 +2,105 @@ package il.ac.hit.project.main.view;
 
 import il.ac.hit.project.main.model.task.ITask;
 import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
 import il.ac.hit.project.main.model.task.TaskPriority;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Subject class for Task attribute changes using Observer pattern.
  * Publishes fine‑grained change events (state/title/priority/etc.) to registered observers.
  * Acts as a lightweight event bus decoupling model changes from UI refresh logic.
+ * <p>
+ * Subscriptions can be targeted ({@link #subscribe}): restricted to a set of task ids and/or to event types.
+ * Registrations are indexed by event type (and by task id for id-restricted ones), so a publish only visits
+ * observers interested in that event; an observer watching one task or only state changes costs nothing
+ * for unrelated events. For a given event, observers that accept every task are called first (in
+ * registration order), then the ones restricted to that task.
+ * </p>
+ * <p>
+ * Threading:
+ * <ul>
+ *   <li>The registry is a copy-on-write list: publishing iterates a lock-free snapshot, so observers may
+ *       register or unregister from any thread, even from inside a callback, without
+ *       ConcurrentModificationException.</li>
+ *   <li>{@link DispatchMode#SYNCHRONOUS} (default): callbacks run on the publishing thread before the
+ *       notify method returns; observer exceptions propagate to the publisher.</li>
+ *   <li>{@link DispatchMode#ASYNCHRONOUS}: each event is wrapped in a {@link TaskChangeEvent} and appended to a
+ *       bounded per-observer mailbox drained by dedicated dispatcher threads. An observer sees events in
+ *       publish order and is never invoked concurrently with itself; a slow observer only delays its own
+ *       mailbox. When a mailbox is full the configured {@link OverflowPolicy} applies. Observer exceptions
+ *       are logged and do not stop delivery.</li>
+ *   <li>{@link DispatchMode#RING_BUFFER}: notify methods write into a preallocated slot of a
+ *       {@link TaskEventRingBuffer} (no per-event allocation, multi-producer claim) and return; one
+ *       dispatcher thread consumes slots in sequence order, in batches, calling every interested observer
+ *       and then {@link ITaskAttributeObserver#onEndOfBatch()} once per observer per batch. Lossless: a full
+ *       ring makes publishers wait. Observer exceptions are logged and do not stop delivery.</li>
+ * </ul>
  */
 public class TaskAttributeSubject {
     /** Singleton instance */
     private static final TaskAttributeSubject instance = new TaskAttributeSubject();
-    /** Registered observers list (no duplicates enforcement for simplicity) */
-    private final List<ITaskAttributeObserver> observers = new ArrayList<>();
+    /** default per-observer mailbox capacity for asynchronous dispatch */
+    public static final int DEFAULT_MAILBOX_CAPACITY = 1024;
+    /** default number of dispatcher threads for asynchronous dispatch */
+    public static final int DEFAULT_DISPATCHER_THREADS = 2;
+    /** numbering for ring consumer thread names */
+    private static final AtomicInteger RING_THREADS = new AtomicInteger();
+    /** max events one dispatcher run delivers before yielding its thread to other mailboxes */
+    private static final int DRAIN_BATCH = 64;
+
+    /**
+     * How notifications reach observers.
+     */
+    public enum DispatchMode {
+        /** invoke callbacks on the publishing thread (default) */
+        SYNCHRONOUS,
+        /** queue events to per-observer mailboxes drained by dispatcher threads */
+        ASYNCHRONOUS,
+        /** write events into preallocated ring-buffer slots consumed in batches by one dispatcher thread */
+        RING_BUFFER
+    }
+
+    /**
+     * What an asynchronous publish does when an observer's mailbox is full.
+     */
+    public enum OverflowPolicy {
+        /** wait for room (back-pressure on the publisher; never loses events). Do not publish from an
+         *  observer callback under this policy: a dispatcher thread waiting on its own pool can deadlock. */
+        BLOCK,
+        /** discard the event being published */
+        DROP_NEWEST,
+        /** discard the oldest queued event to make room (observer keeps the latest state) */
+        DROP_OLDEST
+    }
+
+    /** Registered observers (copy-on-write: lock-free snapshot iteration, duplicates allowed) */
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    /** immutable dispatch index over {@link #registrations}, rebuilt on every (un)registration */
+    private volatile Index index = Index.EMPTY;
+    /** active asynchronous configuration (null => synchronous or ring-buffer dispatch) */
+    private volatile AsyncDispatch async = null;
+    /** active ring-buffer configuration (null => synchronous or asynchronous dispatch) */
+    private volatile RingDispatch ring = null;
+    /** events discarded by DROP_NEWEST / DROP_OLDEST since startup */
+    private final AtomicLong droppedEvents = new AtomicLong();
 
     /** Private constructor for singleton */
     private TaskAttributeSubject() {}
@@ -30,15 +114,263 @@ public class TaskAttributeSubject {
     }
 
     /**
-     * Register an observer for task attribute changes.
+     * Register an observer for task attribute changes (every event, every task).
      * @param observer observer to add (ignored if null)
      * Purpose: register observer (null tolerated)
      */
     public void addObserver(ITaskAttributeObserver observer) {
-        observers.add(observer);
+        if (observer != null) register(new Registration(observer, ALL_TYPES, null));
+    }
+
+    /**
+     * Unregister an observer (first registration of that instance, targeted or not). Events still queued
+     * for it in asynchronous mode are discarded.
+     * @param observer observer to remove
+     * @return true if it was registered
+     * Purpose: unregister observer
+     */
+    public boolean removeObserver(ITaskAttributeObserver observer) {
+        for (Registration r : registrations) {
+            if (r.observer == observer && unregister(r)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Register an observer for a subset of events. A {@link TaskChangeEvent.Type#TASK_CHANGED} event reaches
+     * the observer when it subscribed to TASK_CHANGED or to any attribute type the change touches; it is then
+     * delivered whole through {@link ITaskAttributeObserver#onTaskChanged}.
+     * @param observer observer to add (non-null)
+     * @param taskIds task ids of interest (null => every task)
+     * @param types event types of interest (null => every type)
+     * @return handle that cancels this subscription
+     * @throws IllegalArgumentException if observer null or a filter set is empty
+     * Purpose: targeted registration (per task / per attribute)
+     */
+    public Subscription subscribe(ITaskAttributeObserver observer, Set<Integer> taskIds, Set<TaskChangeEvent.Type> types) {
+        if (observer == null) throw new IllegalArgumentException("observer cannot be null");
+        if (taskIds != null && taskIds.isEmpty()) throw new IllegalArgumentException("taskIds cannot be empty (use null for all)");
+        if (types != null && types.isEmpty()) throw new IllegalArgumentException("types cannot be empty (use null for all)");
+        int mask = ALL_TYPES;
+        if (types != null) {
+            mask = 0;
+            for (TaskChangeEvent.Type type : types) mask |= bit(type);
+        }
+        int[] ids = taskIds == null ? null : taskIds.stream().mapToInt(Integer::intValue).distinct().toArray();
+        Registration r = new Registration(observer, mask, ids);
+        register(r);
+        return new Subscription(r);
+    }
+
+    /**
+     * Register an observer for every event of one task (e.g. a details panel).
+     * @param observer observer to add (non-null)
+     * @param taskId task of interest
+     * @return handle that cancels this subscription
+     */
+    public Subscription subscribeToTask(ITaskAttributeObserver observer, int taskId) {
+        return subscribe(observer, Set.of(taskId), null);
+    }
+
+    /**
+     * Register an observer for some event types on every task (e.g. a state counter).
+     * @param observer observer to add (non-null)
+     * @param first first event type of interest
+     * @param rest further event types
+     * @return handle that cancels this subscription
+     */
+    public Subscription subscribeToTypes(ITaskAttributeObserver observer, TaskChangeEvent.Type first, TaskChangeEvent.Type... rest) {
+        return subscribe(observer, null, EnumSet.of(first, rest));
+    }
+
+    /**
+     * Handle of one registration; {@link #cancel()} (or close) stops delivery. Idempotent.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final Registration registration;
+
+        private Subscription(Registration registration) {
+            this.registration = registration;
+        }
+
+        /**
+         * Stop delivery to this registration (queued asynchronous events are discarded).
+         * @return true if this call removed it, false if already cancelled
+         */
+        public boolean cancel() {
+            return unregister(registration); }
+
+        /** @return true while the registration is active */
+        public boolean isActive() {
+            return !registration.removed; }
+
+        @Override
+        public void close() {
+            cancel(); }
+    }
+
+    private synchronized void register(Registration r) {
+        registrations.add(r);
+        index = Index.build(registrations);
+    }
+
+    private synchronized boolean unregister(Registration r) {
+        if (!registrations.remove(r)) return false;
+        r.removed = true;
+        index = Index.build(registrations);
+        return true;
     }
 
-    // -------------------- Notification Helpers (iterate snapshot order) --------------------
+    // -------------------- Dispatch configuration --------------------
+
+    /**
+     * Switch to asynchronous dispatch with default sizing ({@link #DEFAULT_DISPATCHER_THREADS} threads,
+     * {@link #DEFAULT_MAILBOX_CAPACITY} events per observer, {@link OverflowPolicy#BLOCK}).
+     * Purpose: enable non-blocking publishing with lossless defaults
+     */
+    public void useAsynchronousDispatch() {
+        useAsynchronousDispatch(DEFAULT_DISPATCHER_THREADS, DEFAULT_MAILBOX_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Switch to asynchronous dispatch on dedicated daemon threads.
+     * Events already queued under a previous configuration are still delivered (ordering relative to
+     * events published after the switch is not guaranteed).
+     * @param dispatcherThreads number of dispatcher threads (>= 1)
+     * @param mailboxCapacity per-observer queue bound (>= 1)
+     * @param policy behavior when a mailbox is full
+     * @throws IllegalArgumentException on invalid arguments
+     * Purpose: enable non-blocking publishing
+     */
+    public synchronized void useAsynchronousDispatch(int dispatcherThreads, int mailboxCapacity, OverflowPolicy policy) {
+        if (dispatcherThreads < 1) throw new IllegalArgumentException("dispatcherThreads must be >= 1");
+        if (mailboxCapacity < 1) throw new IllegalArgumentException("mailboxCapacity must be >= 1");
+        if (policy == null) throw new IllegalArgumentException("policy cannot be null");
+        stopDispatchers();
+        async = new AsyncDispatch(dispatcherThreads, mailboxCapacity, policy);
+    }
+
+    /**
+     * Switch to ring-buffer dispatch with {@link TaskEventRingBuffer#DEFAULT_CAPACITY} slots.
+     * Purpose: allocation-free publishing for bulk updates
+     */
+    public void useRingBufferDispatch() {
+        useRingBufferDispatch(TaskEventRingBuffer.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Switch to ring-buffer dispatch (see class comment). Events still pending under a previous
+     * configuration are delivered by it.
+     * @param capacity ring slots (power of two)
+     * @throws IllegalArgumentException if capacity not a power of two
+     * Purpose: allocation-free publishing for bulk updates
+     */
+    public synchronized void useRingBufferDispatch(int capacity) {
+        RingDispatch next = new RingDispatch(capacity); // validates before tearing down the current mode
+        stopDispatchers();
+        ring = next;
+    }
+
+    /**
+     * Return to synchronous dispatch (default). Events already queued are still delivered asynchronously.
+     * Purpose: restore on-thread delivery
+     */
+    public synchronized void useSynchronousDispatch() {
+        stopDispatchers();
+    }
+
+    /** Detach the current asynchronous / ring configuration, letting it finish what it already accepted. */
+    private void stopDispatchers() {
+        AsyncDispatch previousAsync = async;
+        RingDispatch previousRing = ring;
+        async = null;
+        ring = null;
+        if (previousAsync != null) previousAsync.executor.shutdown(); // lets queued mailbox runs finish
+        if (previousRing != null) previousRing.buffer.halt(); // consumer drains, later stragglers run inline
+    }
+
+    /**
+     * @return current dispatch mode
+     */
+    public DispatchMode getDispatchMode() {
+        if (ring != null) return DispatchMode.RING_BUFFER;
+        return async == null ? DispatchMode.SYNCHRONOUS : DispatchMode.ASYNCHRONOUS;
+    }
+
+    /**
+     * @return number of events discarded by drop overflow policies
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Wait until every observer mailbox is empty and idle (asynchronous mode) and the ring is consumed
+     * (ring-buffer mode), e.g. before shutdown or in tests.
+     * @param timeout max wait
+     * @param unit timeout unit
+     * @return true if all queued events were delivered in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isQuiescent()) {
+            if (System.nanoTime() - deadline >= 0) return false;
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    private boolean isQuiescent() {
+        RingDispatch r0 = ring;
+        if (r0 != null && !r0.buffer.isDrained()) return false;
+        for (Registration r : registrations) {
+            Mailbox m = r.mailbox;
+            if (m != null && (m.scheduled.get() || !m.queue.isEmpty())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Deliver one event according to the dispatch mode, visiting only interested registrations.
+     * (Ring-buffer mode copies the envelope into a slot; notify methods skip the envelope entirely.)
+     * @param event event envelope
+     * Purpose: single publish path for every notify method
+     */
+    public void publish(TaskChangeEvent event) {
+        RingDispatch r0 = ring;
+        if (r0 != null) {
+            r0.buffer.publish(event.type(), event.task(), event.oldValue(), event.newValue(), event.oldTime(), event.newTime());
+            return;
+        }
+        Index idx = index;
+        int attributes = attributeBitsOf(event.type(), event.oldValue());
+        int mask = eventMask(event.type(), attributes);
+        AsyncDispatch dispatch = async;
+        for (Registration r : generalRoute(idx, event.type(), attributes)) {
+            deliver(r, event, dispatch);
+        }
+        if (idx.byTask.isEmpty()) return;
+        Registration[] targeted = idx.byTask.get(event.task().getId());
+        if (targeted == null) return;
+        for (Registration r : targeted) {
+            if ((r.mask & mask) != 0) deliver(r, event, dispatch);
+        }
+    }
+
+    /** Notify path: ring-buffer mode writes straight into a slot, other modes build the envelope. */
+    private void publish(TaskChangeEvent.Type type, ITask task, Object oldValue, Object newValue, long oldTime, long newTime) {
+        RingDispatch r0 = ring;
+        if (r0 != null) r0.buffer.publish(type, task, oldValue, newValue, oldTime, newTime);
+        else publish(new TaskChangeEvent(type, task, oldValue, newValue, oldTime, newTime));
+    }
+
+    private static void deliver(Registration r, TaskChangeEvent event, AsyncDispatch dispatch) {
+        if (dispatch == null) event.dispatchTo(r.observer);
+        else r.mailboxFor(dispatch).enqueue(event);
+    }
+
+    // -------------------- Notification Helpers (registration order) --------------------
 
     /**
      * Notify observers about a state change.
@@ -48,9 +380,7 @@ public class TaskAttributeSubject {
      * Purpose: broadcast state change
      */
     public void notifyStateChanged(ITask task, ITaskState oldState, ITaskState newState) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onStateChanged(task, oldState, newState);
-        }
+        publish(TaskChangeEvent.Type.STATE, task, oldState, newState, 0, 0);
     }
 
     /**
@@ -61,9 +391,7 @@ public class TaskAttributeSubject {
      * Purpose: broadcast title change
      */
     public void notifyTitleChanged(ITask task, String oldTitle, String newTitle) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onTitleChanged(task, oldTitle, newTitle);
-        }
+        publish(TaskChangeEvent.Type.TITLE, task, oldTitle, newTitle, 0, 0);
     }
 
     /**
@@ -74,9 +402,7 @@ public class TaskAttributeSubject {
      * Purpose: broadcast priority change
      */
     public void notifyPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onPriorityChanged(task, oldPriority, newPriority);
-        }
+        publish(TaskChangeEvent.Type.PRIORITY, task, oldPriority, newPriority, 0, 0);
     }
 
     /**
@@ -87,9 +413,7 @@ public class TaskAttributeSubject {
      * Purpose: broadcast description change
      */
     public void notifyDescriptionChanged(ITask task, String oldDescription, String newDescription) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onDescriptionChanged(task, oldDescription, newDescription);
-        }
+        publish(TaskChangeEvent.Type.DESCRIPTION, task, oldDescription, newDescription, 0, 0);
     }
 
     /**
@@ -100,9 +424,27 @@ public class TaskAttributeSubject {
      * Purpose: broadcast updated timestamp change
      */
     public void notifyUpdatedDateChanged(ITask task, Date oldDate, Date newDate) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onUpdatedDateChanged(task, oldDate, newDate);
-        }
+        notifyUpdatedTimeChanged(task, oldDate.getTime(), newDate.getTime());
+    }
+
+    /**
+     * Notify observers about an updated timestamp change (primitive, allocation-free form).
+     * @param task affected task
+     * @param oldTime previous updated time (epoch millis)
+     * @param newTime new updated time (epoch millis)
+     * Purpose: broadcast updated timestamp change
+     */
+    public void notifyUpdatedTimeChanged(ITask task, long oldTime, long newTime) {
+        publish(TaskChangeEvent.Type.UPDATED_TIME, task, null, null, oldTime, newTime);
+    }
+
+    /**
+     * Notify observers about an atomic multi-attribute change (one event per edit).
+     * @param change combined change description
+     * Purpose: broadcast combined change
+     */
+    public void notifyTaskChanged(TaskChange change) {
+        publish(TaskChangeEvent.Type.TASK_CHANGED, change.task(), change, null, 0, 0);
     }
 
     /**
@@ -111,9 +453,7 @@ public class TaskAttributeSubject {
      * Purpose: broadcast addition
      */
     public void notifyTaskAdded(ITask task) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onTaskAdded(task);
-        }
+        publish(TaskChangeEvent.Type.TASK_ADDED, task, null, null, 0, 0);
     }
 
     /**
@@ -122,8 +462,263 @@ public class TaskAttributeSubject {
      * Purpose: broadcast removal
      */
     public void notifyTaskRemoved(ITask task) {
-        for (ITaskAttributeObserver observer : observers) {
-            observer.onTaskRemoved(task);
+        publish(TaskChangeEvent.Type.TASK_REMOVED, task, null, null, 0, 0);
+    }
+
+    // -------------------- Subscription index --------------------
+
+    /** mask accepting every event type */
+    private static final int ALL_TYPES = (1 << TaskChangeEvent.Type.values().length) - 1;
+
+    private static int bit(TaskChangeEvent.Type type) {
+        return 1 << type.ordinal(); }
+
+    /** @return bit per changed attribute (TaskAttribute ordinals) */
+    private static int attributeBits(TaskChange change) {
+        int bits = 0;
+        for (TaskAttribute attribute : change.attributes()) bits |= 1 << attribute.ordinal();
+        return bits;
+    }
+
+    /** @return event type bits matching a set of attribute bits */
+    private static int typeBitsOf(int attributeBits) {
+        int bits = 0;
+        for (TaskAttribute attribute : TaskAttribute.values()) {
+            if ((attributeBits & (1 << attribute.ordinal())) != 0) bits |= bit(typeOf(attribute));
+        }
+        return bits;
+    }
+
+    private static TaskChangeEvent.Type typeOf(TaskAttribute attribute) {
+        return switch (attribute) {
+            case TITLE -> TaskChangeEvent.Type.TITLE;
+            case DESCRIPTION -> TaskChangeEvent.Type.DESCRIPTION;
+            case STATE -> TaskChangeEvent.Type.STATE;
+            case PRIORITY -> TaskChangeEvent.Type.PRIORITY;
+            case UPDATED_DATE -> TaskChangeEvent.Type.UPDATED_TIME;
+        };
+    }
+
+    /** @return attribute bits of a TASK_CHANGED event (0 for other types) */
+    private static int attributeBitsOf(TaskChangeEvent.Type type, Object oldValue) {
+        return type == TaskChangeEvent.Type.TASK_CHANGED ? attributeBits((TaskChange) oldValue) : 0; }
+
+    /** @return type bits an event matches (a combined change also matches its attributes' types) */
+    private static int eventMask(TaskChangeEvent.Type type, int attributes) {
+        return type == TaskChangeEvent.Type.TASK_CHANGED ? bit(type) | typeBitsOf(attributes) : bit(type); }
+
+    /** @return id-agnostic registrations interested in the event */
+    private static Registration[] generalRoute(Index idx, TaskChangeEvent.Type type, int attributes) {
+        return type == TaskChangeEvent.Type.TASK_CHANGED ? idx.byChange[attributes] : idx.byType[type.ordinal()]; }
+
+    /**
+     * Immutable routing tables, rebuilt (copy-on-write) whenever the registry changes so publishing never locks.
+     * @param byType id-agnostic registrations interested in each single-attribute / membership event type
+     * @param byChange id-agnostic registrations interested in a TASK_CHANGED with the given attribute bits
+     * @param byTask id-restricted registrations per task id (type mask checked at dispatch)
+     */
+    private record Index(Registration[][] byType, Registration[][] byChange, Map<Integer, Registration[]> byTask) {
+        /** number of attribute combinations a TaskChange can carry (declared here: the singleton is built
+         *  before the outer class's non-constant statics are initialized) */
+        static final int ATTRIBUTE_COMBINATIONS = 1 << TaskAttribute.values().length;
+        static final Index EMPTY = build(List.of());
+
+        static Index build(List<Registration> registrations) {
+            TaskChangeEvent.Type[] types = TaskChangeEvent.Type.values();
+            Registration[][] byType = new Registration[types.length][];
+            for (TaskChangeEvent.Type type : types) {
+                byType[type.ordinal()] = select(registrations, bit(type));
+            }
+            Registration[][] byChange = new Registration[ATTRIBUTE_COMBINATIONS][];
+            for (int attributes = 0; attributes < ATTRIBUTE_COMBINATIONS; attributes++) {
+                byChange[attributes] = select(registrations, bit(TaskChangeEvent.Type.TASK_CHANGED) | typeBitsOf(attributes));
+            }
+            Map<Integer, List<Registration>> perTask = new HashMap<>();
+            for (Registration r : registrations) {
+                if (r.taskIds == null) continue;
+                for (int id : r.taskIds) perTask.computeIfAbsent(id, _ -> new ArrayList<>()).add(r);
+            }
+            Map<Integer, Registration[]> byTask = new HashMap<>(perTask.size() * 2);
+            perTask.forEach((id, list) -> byTask.put(id, list.toArray(new Registration[0])));
+            return new Index(byType, byChange, byTask);
+        }
+
+        /** @return id-agnostic registrations (in registration order) whose mask intersects the given bits */
+        private static Registration[] select(List<Registration> registrations, int bits) {
+            List<Registration> selected = new ArrayList<>();
+            for (Registration r : registrations) {
+                if (r.taskIds == null && (r.mask & bits) != 0) selected.add(r);
+            }
+            return selected.toArray(new Registration[0]);
+        }
+    }
+
+    // -------------------- Asynchronous dispatch internals --------------------
+
+    /** Immutable asynchronous configuration with its dispatcher pool. */
+    private static final class AsyncDispatch {
+        final ExecutorService executor;
+        final int mailboxCapacity;
+        final OverflowPolicy policy;
+
+        AsyncDispatch(int threads, int mailboxCapacity, OverflowPolicy policy) {
+            AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "task-event-dispatcher-" + counter.incrementAndGet());
+                t.setDaemon(true); // never keep the JVM alive
+                return t;
+            });
+            this.mailboxCapacity = mailboxCapacity;
+            this.policy = policy;
+        }
+    }
+
+    /**
+     * Ring-buffer configuration: the ring plus its consumer-side handler, which routes each slot through the
+     * current index and tracks which observers saw the batch so each gets one {@code onEndOfBatch}.
+     */
+    private final class RingDispatch implements TaskEventRingBuffer.IEventHandler {
+        final TaskEventRingBuffer buffer;
+        /** observers that received an event in the current batch (consumer side only) */
+        private final List<Registration> touched = new ArrayList<>();
+
+        RingDispatch(int capacity) {
+            this.buffer = new TaskEventRingBuffer(capacity, this, "task-event-ring-" + RING_THREADS.incrementAndGet());
+        }
+
+        @Override
+        public void onEvent(TaskEventRingBuffer.Slot event, long sequence, boolean endOfBatch) {
+            Index idx = index;
+            int attributes = attributeBitsOf(event.type(), event.oldValue());
+            for (Registration r : generalRoute(idx, event.type(), attributes)) {
+                consume(r, event);
+            }
+            if (!idx.byTask.isEmpty()) {
+                Registration[] targeted = idx.byTask.get(event.task().getId());
+                if (targeted != null) {
+                    int mask = eventMask(event.type(), attributes);
+                    for (Registration r : targeted) {
+                        if ((r.mask & mask) != 0) consume(r, event);
+                    }
+                }
+            }
+            if (endOfBatch) endBatch();
+        }
+
+        private void consume(Registration r, TaskEventRingBuffer.Slot event) {
+            if (r.removed) return;
+            if (!touched.contains(r)) touched.add(r); // a handful of observers: linear check beats hashing
+            try {
+                event.dispatchTo(r.observer);
+            } catch (RuntimeException e) {
+                System.err.println("Task event observer failed: " + e);
+            }
+        }
+
+        private void endBatch() {
+            for (Registration r : touched) {
+                try {
+                    r.observer.onEndOfBatch();
+                } catch (RuntimeException e) {
+                    System.err.println("Task event observer failed: " + e);
+                }
+            }
+            touched.clear();
+        }
+    }
+
+    /** One observer registration with its lazily created mailbox. */
+    private final class Registration {
+        final ITaskAttributeObserver observer;
+        final int mask;     // bit per TaskChangeEvent.Type of interest
+        final int[] taskIds; // ids of interest (null => every task)
+        volatile Mailbox mailbox;
+        volatile boolean removed;
+
+        Registration(ITaskAttributeObserver observer, int mask, int[] taskIds) {
+            this.observer = observer;
+            this.mask = mask;
+            this.taskIds = taskIds;
+        }
+
+        /** @return mailbox bound to the given configuration (replaced when the configuration changes) */
+        Mailbox mailboxFor(AsyncDispatch dispatch) {
+            Mailbox m = mailbox;
+            if (m != null && m.dispatch == dispatch) return m;
+            synchronized (this) {
+                if (mailbox == null || mailbox.dispatch != dispatch) mailbox = new Mailbox(this, dispatch);
+                return mailbox;
+            }
+        }
+    }
+
+    /**
+     * Bounded FIFO of pending events for one observer. At most one dispatcher run drains it at a time
+     * (guarded by {@code scheduled}), which gives per-observer ordering without locks around the callback.
+     */
+    private final class Mailbox implements Runnable {
+        final Registration owner;
+        final AsyncDispatch dispatch;
+        final BlockingQueue<TaskChangeEvent> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Mailbox(Registration owner, AsyncDispatch dispatch) {
+            this.owner = owner;
+            this.dispatch = dispatch;
+            this.queue = new ArrayBlockingQueue<>(dispatch.mailboxCapacity);
+        }
+
+        void enqueue(TaskChangeEvent event) {
+            if (!queue.offer(event)) {
+                switch (dispatch.policy) {
+                    case BLOCK -> {
+                        schedule(); // make sure someone is draining before waiting for room
+                        try {
+                            queue.put(event);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            droppedEvents.incrementAndGet(); // publisher gave up: account for the loss
+                            return;
+                        }
+                    }
+                    case DROP_NEWEST -> droppedEvents.incrementAndGet();
+                    case DROP_OLDEST -> {
+                        while (!queue.offer(event)) { // competing publishers may refill the slot
+                            if (queue.poll() != null) droppedEvents.incrementAndGet();
+                        }
+                    }
+                }
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatch.executor.execute(this);
+                } catch (RejectedExecutionException e) { // configuration replaced meanwhile: drain here
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int n = 0; n < DRAIN_BATCH; n++) {
+                    TaskChangeEvent event = queue.poll();
+                    if (event == null) break;
+                    if (owner.removed) continue; // unregistered: discard leftovers
+                    try {
+                        event.dispatchTo(owner.observer);
+                    } catch (RuntimeException e) {
+                        System.err.println("Task event observer failed: " + e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) schedule(); // more arrived (or batch limit hit): continue later
+            }
         }
     }
 }
@@ -0,0 +1,333 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalescing layer between {@link TaskAttributeSubject} and consumers that only need to refresh once per
+ * burst of edits (ViewModel recompute, table repaint).
+ * <p>
+ * Attribute notifications arriving within one window (default {@value #DEFAULT_WINDOW_MILLIS} ms, about one
+ * display frame) are merged per task id: the first old value and the latest new value of each attribute are
+ * kept, attributes that end where they started are dropped, and every edited task yields a single
+ * {@link TaskChange}. When the window closes, each {@link ITaskChangeBatchObserver} gets exactly one
+ * {@code onBatch} callback on the batcher's timer thread (or on the caller of {@link #flush()}).
+ * Adding and then removing a task within a window cancels out; edits to a task added in the same
+ * window are folded into the addition.
+ * </p>
+ * Thread-safe: events may be published from any thread; batches are delivered one at a time, in order.
+ */
+public class TaskChangeBatcher implements ITaskAttributeObserver, AutoCloseable {
+    /** default coalescing window (~one 60 Hz frame) */
+    public static final long DEFAULT_WINDOW_MILLIS = 16;
+    /** lazily created application-wide batcher attached to {@link Task#getAttributeSubject()} */
+    private static TaskChangeBatcher instance;
+
+    private final long windowNanos;
+    private final ScheduledExecutorService timer;
+    private final List<ITaskChangeBatchObserver> observers = new CopyOnWriteArrayList<>();
+    private final Object deliveryLock = new Object(); // serializes batch delivery (timer vs explicit flush)
+    // ---- current window (guarded by this) ----
+    private Map<Integer, Pending> pending = new LinkedHashMap<>();
+    private Map<Integer, ITask> added = new LinkedHashMap<>();
+    private Map<Integer, ITask> removed = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+    private TaskAttributeSubject subject; // attached subject (null if detached)
+
+    /**
+     * Create a batcher with the default window. Not attached to any subject.
+     */
+    public TaskChangeBatcher() {
+        this(DEFAULT_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a batcher with a custom window. Not attached to any subject.
+     * @param window coalescing window (0 delivers as soon as the timer thread runs)
+     * @param unit window unit
+     * @throws IllegalArgumentException if window negative or unit null
+     */
+    public TaskChangeBatcher(long window, TimeUnit unit) {
+        if (window < 0) throw new IllegalArgumentException("window cannot be negative");
+        if (unit == null) throw new IllegalArgumentException("unit cannot be null");
+        this.windowNanos = unit.toNanos(window);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "task-change-batcher");
+            t.setDaemon(true); // never keep the JVM alive
+            return t;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.timer = executor;
+    }
+
+    /**
+     * @return application-wide batcher (default window) attached to the global attribute subject
+     * Purpose: shared batching point for ViewModel and View
+     */
+    public static synchronized TaskChangeBatcher getInstance() {
+        if (instance == null) {
+            instance = new TaskChangeBatcher();
+            instance.attach(Task.getAttributeSubject());
+        }
+        return instance;
+    }
+
+    /**
+     * Start receiving notifications from a subject (detaching from any previous one).
+     * @param subject source subject (non-null)
+     * @throws IllegalArgumentException if subject null
+     */
+    public synchronized void attach(TaskAttributeSubject subject) {
+        if (subject == null) throw new IllegalArgumentException("subject cannot be null");
+        detach();
+        this.subject = subject;
+        subject.addObserver(this);
+    }
+
+    /**
+     * Stop receiving notifications. Changes already gathered are still delivered.
+     */
+    public synchronized void detach() {
+        if (subject != null) {
+            subject.removeObserver(this);
+            subject = null;
+        }
+    }
+
+    /**
+     * Register a batch observer.
+     * @param observer observer to add (ignored if null)
+     */
+    public void addObserver(ITaskChangeBatchObserver observer) {
+        if (observer != null) observers.add(observer);
+    }
+
+    /**
+     * Unregister a batch observer.
+     * @param observer observer to remove
+     * @return true if it was registered
+     */
+    public boolean removeObserver(ITaskChangeBatchObserver observer) {
+        return observers.remove(observer);
+    }
+
+    /** @return coalescing window in milliseconds */
+    public long getWindowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(windowNanos); }
+
+    /**
+     * Close the current window now and deliver it on the calling thread (no-op if nothing is pending).
+     * Purpose: deterministic delivery for shutdown and tests
+     */
+    public void flush() {
+        synchronized (deliveryLock) { // keep batches ordered even when the timer fires concurrently
+            List<TaskChange> changes;
+            List<ITask> addedTasks;
+            List<ITask> removedTasks;
+            synchronized (this) {
+                flushScheduled = false;
+                if (pending.isEmpty() && added.isEmpty() && removed.isEmpty()) return;
+                changes = new ArrayList<>(pending.size());
+                for (Pending p : pending.values()) {
+                    TaskChange change = p.toChange();
+                    if (change != null) changes.add(change);
+                }
+                addedTasks = new ArrayList<>(added.values());
+                removedTasks = new ArrayList<>(removed.values());
+                pending = new LinkedHashMap<>(); // swap so publishers never wait on delivery
+                added = new LinkedHashMap<>();
+                removed = new LinkedHashMap<>();
+            }
+            if (changes.isEmpty() && addedTasks.isEmpty() && removedTasks.isEmpty()) return; // edits cancelled out
+            List<TaskChange> changesView = List.copyOf(changes);
+            List<ITask> addedView = List.copyOf(addedTasks);
+            List<ITask> removedView = List.copyOf(removedTasks);
+            for (ITaskChangeBatchObserver observer : observers) {
+                try {
+                    observer.onBatch(changesView, addedView, removedView);
+                } catch (RuntimeException e) { // one failing observer must not starve the others
+                    System.err.println("Task change batch observer failed: " + e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Detach, deliver anything pending and stop the timer thread.
+     */
+    @Override
+    public void close() {
+        detach();
+        timer.shutdownNow();
+        flush();
+    }
+
+    // ------------------------------------------------------------
+    // Gathering (ITaskAttributeObserver)
+    // ------------------------------------------------------------
+
+    @Override
+    public synchronized void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) {
+        Pending p = pendingFor(task);
+        if (p != null) p.state(oldState, newState);
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+        Pending p = pendingFor(task);
+        if (p != null) p.title(oldTitle, newTitle);
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) {
+        Pending p = pendingFor(task);
+        if (p != null) p.priority(oldPriority, newPriority);
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onDescriptionChanged(ITask task, String oldDescription, String newDescription) {
+        Pending p = pendingFor(task);
+        if (p != null) p.description(oldDescription, newDescription);
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onUpdatedTimeChanged(ITask task, long oldTime, long newTime) {
+        Pending p = pendingFor(task);
+        if (p != null) p.updatedTime(oldTime, newTime);
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onTaskChanged(TaskChange change) {
+        Pending p = pendingFor(change.task());
+        if (p != null) {
+            if (change.changed(TaskAttribute.TITLE)) p.title(change.oldTitle(), change.newTitle());
+            if (change.changed(TaskAttribute.DESCRIPTION)) p.description(change.oldDescription(), change.newDescription());
+            if (change.changed(TaskAttribute.STATE)) p.state(change.oldState(), change.newState());
+            if (change.changed(TaskAttribute.PRIORITY)) p.priority(change.oldPriority(), change.newPriority());
+            if (change.changed(TaskAttribute.UPDATED_DATE)) p.updatedTime(change.oldUpdatedTime(), change.newUpdatedTime());
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onTaskAdded(ITask task) {
+        added.put(task.getId(), task);
+        pending.remove(task.getId()); // the addition already carries the latest values
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void onTaskRemoved(ITask task) {
+        int id = task.getId();
+        pending.remove(id);
+        if (added.remove(id) == null) removed.put(id, task); // added + removed in one window cancel out
+        scheduleFlush();
+    }
+
+    /**
+     * @return merge slot for the task, or null when the task was added in this window
+     */
+    private synchronized Pending pendingFor(ITask task) {
+        int id = task.getId();
+        if (added.containsKey(id)) return null;
+        Pending p = pending.get(id);
+        if (p == null) {
+            p = new Pending();
+            pending.put(id, p);
+        }
+        p.task = task; // latest instance wins (caches may swap instances with the same id)
+        return p;
+    }
+
+    private synchronized void scheduleFlush() {
+        /* Purpose: open a window on the first event; later events ride along */
+        if (flushScheduled || timer.isShutdown()) return; // closed: wait for an explicit flush
+        flushScheduled = true;
+        timer.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Per-task merge slot: first old value and latest new value of every attribute touched in the window.
+     * Guarded by the owning batcher's monitor.
+     */
+    private static final class Pending {
+        ITask task;
+        final EnumSet<TaskAttribute> touched = EnumSet.noneOf(TaskAttribute.class);
+        String oldTitle, newTitle;
+        String oldDescription, newDescription;
+        ITaskState oldState, newState;
+        TaskPriority oldPriority, newPriority;
+        long oldUpdatedTime, newUpdatedTime;
+
+        void title(String oldValue, String newValue) {
+            if (touched.add(TaskAttribute.TITLE)) oldTitle = oldValue;
+            newTitle = newValue;
+        }
+
+        void description(String oldValue, String newValue) {
+            if (touched.add(TaskAttribute.DESCRIPTION)) oldDescription = oldValue;
+            newDescription = newValue;
+        }
+
+        void state(ITaskState oldValue, ITaskState newValue) {
+            if (touched.add(TaskAttribute.STATE)) oldState = oldValue;
+            newState = newValue;
+        }
+
+        void priority(TaskPriority oldValue, TaskPriority newValue) {
+            if (touched.add(TaskAttribute.PRIORITY)) oldPriority = oldValue;
+            newPriority = newValue;
+        }
+
+        void updatedTime(long oldValue, long newValue) {
+            if (touched.add(TaskAttribute.UPDATED_DATE)) oldUpdatedTime = oldValue;
+            newUpdatedTime = newValue;
+        }
+
+        /**
+         * @return merged change, or null if every touched attribute ended where it started
+         */
+        TaskChange toChange() {
+            EnumSet<TaskAttribute> changed = EnumSet.noneOf(TaskAttribute.class);
+            if (touched.contains(TaskAttribute.TITLE) && !Objects.equals(oldTitle, newTitle)) changed.add(TaskAttribute.TITLE);
+            if (touched.contains(TaskAttribute.DESCRIPTION) && !Objects.equals(oldDescription, newDescription)) changed.add(TaskAttribute.DESCRIPTION);
+            if (touched.contains(TaskAttribute.STATE) && oldState.getStateType() != newState.getStateType()) changed.add(TaskAttribute.STATE);
+            if (touched.contains(TaskAttribute.PRIORITY) && oldPriority != newPriority) changed.add(TaskAttribute.PRIORITY);
+            if (touched.contains(TaskAttribute.UPDATED_DATE) && oldUpdatedTime != newUpdatedTime) changed.add(TaskAttribute.UPDATED_DATE);
+            if (changed.isEmpty()) return null;
+            ITaskDetails details = (ITaskDetails) task; // untouched attributes: old == new == current value
+            boolean title = touched.contains(TaskAttribute.TITLE);
+            boolean description = touched.contains(TaskAttribute.DESCRIPTION);
+            boolean state = touched.contains(TaskAttribute.STATE);
+            boolean priority = touched.contains(TaskAttribute.PRIORITY);
+            boolean updated = touched.contains(TaskAttribute.UPDATED_DATE);
+            ITaskState currentState = state ? null : details.getState().toStateType().toState();
+            return new TaskChange(task, changed,
+                title ? oldTitle : details.getTitle(), title ? newTitle : details.getTitle(),
+                description ? oldDescription : details.getDescription(), description ? newDescription : details.getDescription(),
+                state ? oldState : currentState, state ? newState : currentState,
+                priority ? oldPriority : details.getPriority(), priority ? newPriority : details.getPriority(),
+                updated ? oldUpdatedTime : details.getUpdatedTime(), updated ? newUpdatedTime : details.getUpdatedTime());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskPriority;
+
+/**
+ * Immutable envelope for one {@link TaskAttributeSubject} notification, so events can be queued and delivered
+ * later (asynchronous dispatch) and replayed to any {@link ITaskAttributeObserver} via {@link #dispatchTo}.
+ * @param type which callback the event maps to
+ * @param task affected task
+ * @param oldValue previous value (state / title / priority / description), the {@link TaskChange} for
+ *                 {@link Type#TASK_CHANGED}, or null
+ * @param newValue new value, or null
+ * @param oldTime previous updated time for {@link Type#UPDATED_TIME} (epoch millis)
+ * @param newTime new updated time for {@link Type#UPDATED_TIME} (epoch millis)
+ */
+public record TaskChangeEvent(Type type, ITask task, Object oldValue, Object newValue, long oldTime, long newTime) {
+
+    /**
+     * Kind of notification (one per observer callback).
+     */
+    public enum Type {
+        STATE, TITLE, PRIORITY, DESCRIPTION, UPDATED_TIME, TASK_CHANGED, TASK_ADDED, TASK_REMOVED
+    }
+
+    /** @return state change event */
+    public static TaskChangeEvent stateChanged(ITask task, ITaskState oldState, ITaskState newState) {
+        return new TaskChangeEvent(Type.STATE, task, oldState, newState, 0, 0); }
+
+    /** @return title change event */
+    public static TaskChangeEvent titleChanged(ITask task, String oldTitle, String newTitle) {
+        return new TaskChangeEvent(Type.TITLE, task, oldTitle, newTitle, 0, 0); }
+
+    /** @return priority change event */
+    public static TaskChangeEvent priorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) {
+        return new TaskChangeEvent(Type.PRIORITY, task, oldPriority, newPriority, 0, 0); }
+
+    /** @return description change event */
+    public static TaskChangeEvent descriptionChanged(ITask task, String oldDescription, String newDescription) {
+        return new TaskChangeEvent(Type.DESCRIPTION, task, oldDescription, newDescription, 0, 0); }
+
+    /** @return updated-time change event */
+    public static TaskChangeEvent updatedTimeChanged(ITask task, long oldTime, long newTime) {
+        return new TaskChangeEvent(Type.UPDATED_TIME, task, null, null, oldTime, newTime); }
+
+    /** @return combined multi-attribute change event */
+    public static TaskChangeEvent taskChanged(TaskChange change) {
+        return new TaskChangeEvent(Type.TASK_CHANGED, change.task(), change, null, 0, 0); }
+
+    /** @return task added event */
+    public static TaskChangeEvent taskAdded(ITask task) {
+        return new TaskChangeEvent(Type.TASK_ADDED, task, null, null, 0, 0); }
+
+    /** @return task removed event */
+    public static TaskChangeEvent taskRemoved(ITask task) {
+        return new TaskChangeEvent(Type.TASK_REMOVED, task, null, null, 0, 0); }
+
+    /**
+     * Invoke the observer callback matching this event.
+     * @param observer target observer
+     */
+    public void dispatchTo(ITaskAttributeObserver observer) {
+        dispatch(observer, type, task, oldValue, newValue, oldTime, newTime);
+    }
+
+    /** Shared callback mapping (also used by the reusable ring-buffer slots). */
+    static void dispatch(ITaskAttributeObserver observer, Type type, ITask task, Object oldValue, Object newValue,
+                         long oldTime, long newTime) {
+        switch (type) {
+            case STATE -> observer.onStateChanged(task, (ITaskState) oldValue, (ITaskState) newValue);
+            case TITLE -> observer.onTitleChanged(task, (String) oldValue, (String) newValue);
+            case PRIORITY -> observer.onPriorityChanged(task, (TaskPriority) oldValue, (TaskPriority) newValue);
+            case DESCRIPTION -> observer.onDescriptionChanged(task, (String) oldValue, (String) newValue);
+            case UPDATED_TIME -> observer.onUpdatedTimeChanged(task, oldTime, newTime);
+            case TASK_CHANGED -> observer.onTaskChanged((TaskChange) oldValue);
+            case TASK_ADDED -> observer.onTaskAdded(task);
+            case TASK_REMOVED -> observer.onTaskRemoved(task);
+        }
+    }
+}
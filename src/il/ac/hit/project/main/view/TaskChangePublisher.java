@@ -0,0 +1,332 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive-streams ({@link Flow}) view of the attribute change bus: every attribute change published on an
+ * attached {@link TaskAttributeSubject} becomes one {@link TaskChange} item (single-attribute notifications
+ * are wrapped with the task's current values for the other attributes).
+ * <p>
+ * Each subscriber gets its own bounded buffer and is fed only what it has {@link Flow.Subscription#request
+ * requested}, on the publisher's executor, so a slow consumer (exporter, sync agent) never slows the
+ * publishing thread: offering an item is a short, non-blocking buffer operation. When a buffer is full the
+ * subscriber's {@link BackpressureStrategy} decides what happens. Task additions / removals are not items
+ * (membership changes reach observers through {@link ITasksObserver}).
+ * </p>
+ * Signals to one subscriber are serialized; {@code onSubscribe} always comes first. A non-positive request
+ * or an exception thrown by the subscriber cancels its subscription with {@code onError}.
+ */
+public class TaskChangePublisher implements Flow.Publisher<TaskChange>, ITaskAttributeObserver, AutoCloseable {
+    /** default per-subscriber buffer size */
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    /**
+     * What happens to an item offered to a subscriber whose buffer is full.
+     */
+    public enum BackpressureStrategy {
+        /** keep everything up to the capacity; overflowing cancels the subscription with an error */
+        BUFFER,
+        /** discard the oldest buffered item to make room */
+        DROP_OLDEST,
+        /** keep only the most recent undelivered item (capacity is ignored) */
+        LATEST_ONLY
+    }
+
+    private final Executor executor;
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong droppedItems = new AtomicLong();
+    private volatile boolean closed = false;
+    private TaskAttributeSubject subject; // attached subject (null if detached)
+
+    /**
+     * Create a publisher delivering on the common fork-join pool.
+     */
+    public TaskChangePublisher() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a publisher delivering on the given executor.
+     * @param executor runs subscriber signals (non-null)
+     * @throws IllegalArgumentException if executor null
+     */
+    public TaskChangePublisher(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("executor cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Start publishing a subject's changes (detaching from any previous one).
+     * @param subject source subject (non-null)
+     * @throws IllegalArgumentException if subject null
+     */
+    public synchronized void attach(TaskAttributeSubject subject) {
+        if (subject == null) throw new IllegalArgumentException("subject cannot be null");
+        detach();
+        this.subject = subject;
+        subject.addObserver(this);
+    }
+
+    /**
+     * Stop receiving changes from the subject. Subscriptions stay open.
+     */
+    public synchronized void detach() {
+        if (subject != null) {
+            subject.removeObserver(this);
+            subject = null;
+        }
+    }
+
+    /**
+     * Subscribe with the default {@link BackpressureStrategy#BUFFER} strategy and capacity.
+     * @param subscriber subscriber (non-null)
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super TaskChange> subscriber) {
+        subscribe(subscriber, BackpressureStrategy.BUFFER, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Subscribe with an explicit buffering strategy. Subscribing the same subscriber twice signals
+     * {@code onError} to the second attempt; subscribing after {@link #close()} completes immediately.
+     * @param subscriber subscriber (non-null)
+     * @param strategy behavior when the subscriber's buffer is full (non-null)
+     * @param capacity buffer bound (>= 1)
+     * @throws NullPointerException if subscriber null (Flow contract)
+     * @throws IllegalArgumentException if strategy null or capacity < 1
+     */
+    public void subscribe(Flow.Subscriber<? super TaskChange> subscriber, BackpressureStrategy strategy, int capacity) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        if (strategy == null) throw new IllegalArgumentException("strategy cannot be null");
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        BufferedSubscription subscription = new BufferedSubscription(subscriber, strategy,
+                strategy == BackpressureStrategy.LATEST_ONLY ? 1 : capacity);
+        for (BufferedSubscription existing : subscriptions) {
+            if (existing.subscriber == subscriber) {
+                subscription.fail(new IllegalStateException("Duplicate subscription"));
+                return;
+            }
+        }
+        subscriptions.add(subscription);
+        if (closed) subscription.complete();
+        subscription.schedule(); // delivers onSubscribe
+    }
+
+    /** @return number of active subscriptions */
+    public int getSubscriberCount() {
+        return subscriptions.size(); }
+
+    /** @return items discarded by DROP_OLDEST / LATEST_ONLY buffers */
+    public long getDroppedItemCount() {
+        return droppedItems.get(); }
+
+    /**
+     * Offer one change to every subscriber (applying each one's strategy). Never blocks.
+     * @param change change to publish
+     */
+    public void offer(TaskChange change) {
+        if (closed) return;
+        for (BufferedSubscription s : subscriptions) s.offer(change);
+    }
+
+    /**
+     * Detach and complete every subscription once its buffered items are delivered.
+     */
+    @Override
+    public void close() {
+        detach();
+        closed = true;
+        for (BufferedSubscription s : subscriptions) s.complete();
+    }
+
+    // ------------------------------------------------------------
+    // Event bus -> TaskChange
+    // ------------------------------------------------------------
+
+    @Override
+    public void onTaskChanged(TaskChange change) {
+        offer(change); }
+
+    @Override
+    public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+        offer(single(task, TaskAttribute.TITLE, oldTitle, newTitle, 0, 0)); }
+
+    @Override
+    public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) {
+        offer(single(task, TaskAttribute.DESCRIPTION, oldDescription, newDescription, 0, 0)); }
+
+    @Override
+    public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) {
+        offer(single(task, TaskAttribute.STATE, oldState, newState, 0, 0)); }
+
+    @Override
+    public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) {
+        offer(single(task, TaskAttribute.PRIORITY, oldPriority, newPriority, 0, 0)); }
+
+    @Override
+    public void onUpdatedTimeChanged(ITask task, long oldTime, long newTime) {
+        offer(single(task, TaskAttribute.UPDATED_DATE, null, null, oldTime, newTime)); }
+
+    @Override
+    public void onTaskAdded(ITask task) { /* membership changes are not TaskChange items */ }
+
+    @Override
+    public void onTaskRemoved(ITask task) { /* membership changes are not TaskChange items */ }
+
+    /** @return change of one attribute; the other attributes carry the task's current value as old and new */
+    private static TaskChange single(ITask task, TaskAttribute attribute, Object oldValue, Object newValue, long oldTime, long newTime) {
+        ITaskDetails d = (ITaskDetails) task;
+        String title = d.getTitle();
+        String description = d.getDescription();
+        ITaskState state = d.getState().toStateType().toState();
+        TaskPriority priority = d.getPriority();
+        long updated = d.getUpdatedTime();
+        return new TaskChange(task, Set.of(attribute),
+            attribute == TaskAttribute.TITLE ? (String) oldValue : title,
+            attribute == TaskAttribute.TITLE ? (String) newValue : title,
+            attribute == TaskAttribute.DESCRIPTION ? (String) oldValue : description,
+            attribute == TaskAttribute.DESCRIPTION ? (String) newValue : description,
+            attribute == TaskAttribute.STATE ? (ITaskState) oldValue : state,
+            attribute == TaskAttribute.STATE ? (ITaskState) newValue : state,
+            attribute == TaskAttribute.PRIORITY ? (TaskPriority) oldValue : priority,
+            attribute == TaskAttribute.PRIORITY ? (TaskPriority) newValue : priority,
+            attribute == TaskAttribute.UPDATED_DATE ? oldTime : updated,
+            attribute == TaskAttribute.UPDATED_DATE ? newTime : updated);
+    }
+
+    // ------------------------------------------------------------
+    // Per-subscriber buffer + serialized drain loop
+    // ------------------------------------------------------------
+
+    /**
+     * One subscriber's buffer, demand and delivery state. All subscriber signals run inside {@link #run()},
+     * which the work-in-progress counter keeps single-threaded.
+     */
+    private final class BufferedSubscription implements Flow.Subscription, Runnable {
+        final Flow.Subscriber<? super TaskChange> subscriber;
+        final BackpressureStrategy strategy;
+        final int capacity;
+        private final ArrayDeque<TaskChange> buffer = new ArrayDeque<>(); // guarded by itself
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile boolean completing = false;
+        private volatile Throwable error = null;
+        private boolean subscribed = false; // drain loop only
+
+        BufferedSubscription(Flow.Subscriber<? super TaskChange> subscriber, BackpressureStrategy strategy, int capacity) {
+            this.subscriber = subscriber;
+            this.strategy = strategy;
+            this.capacity = capacity;
+        }
+
+        void offer(TaskChange change) {
+            if (cancelled || completing) return;
+            boolean overflow = false;
+            synchronized (buffer) {
+                if (buffer.size() >= capacity) {
+                    switch (strategy) {
+                        case BUFFER -> overflow = true;
+                        case DROP_OLDEST, LATEST_ONLY -> {
+                            buffer.pollFirst();
+                            droppedItems.incrementAndGet();
+                        }
+                    }
+                }
+                if (!overflow) buffer.addLast(change);
+            }
+            if (overflow) fail(new IllegalStateException("Subscriber buffer overflow (" + capacity + " items)"));
+            else schedule();
+        }
+
+        void complete() {
+            completing = true;
+            schedule();
+        }
+
+        void fail(Throwable t) {
+            if (error == null) error = t;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("non-positive request: " + n));
+                return;
+            }
+            demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n); // cap at "unbounded"
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            synchronized (buffer) { buffer.clear(); }
+        }
+
+        void schedule() {
+            if (wip.getAndIncrement() == 0) executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            try {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                while (!cancelled) {
+                    Throwable failure = error;
+                    if (failure != null) {
+                        cancel();
+                        subscriber.onError(failure);
+                        return;
+                    }
+                    if (demand.get() == 0) break;
+                    TaskChange next;
+                    synchronized (buffer) { next = buffer.pollFirst(); }
+                    if (next == null) break;
+                    demand.decrementAndGet();
+                    subscriber.onNext(next);
+                }
+                if (!cancelled && completing && error == null && isEmpty()) {
+                    cancel();
+                    subscriber.onComplete();
+                }
+            } catch (RuntimeException e) { // misbehaving subscriber: stop feeding it
+                if (!cancelled) {
+                    cancel();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            synchronized (buffer) { return buffer.isEmpty(); }
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Optional append-only journal of the events flowing through {@link TaskAttributeSubject}, kept in a
+ * memory-mapped file so derived state (counters, indexes, a fresh ViewModel's caches) can be rebuilt by
+ * {@link #replay replaying} from an offset instead of re-scanning the database.
+ * <p>
+ * Observer callbacks only capture a {@link TaskJournalEntry} and queue it (blocking when the queue is full,
+ * never dropping); a background writer drains the queue in batches, appends the encoded records to the
+ * mapping (grown by remapping as needed), then publishes the new end offset in the file header and forces
+ * the batch to disk. Replay only reads up to the last published end, so a crash mid-batch never exposes a
+ * torn record.
+ * </p>
+ * Layout (big-endian):
+ * <pre>
+ *   header (32 bytes): int magic | short format | short reserved | long endOffset | 16 reserved bytes
+ *   record: int length | byte type | int taskId | long timestamp | byte changedAttributes | payload
+ * </pre>
+ * The payload holds old + new values of the attributes the event type carries (strings as int byte length,
+ * -1 for null, then UTF-8; state / priority as byte codes; times as longs); additions also hold the creation time.
+ * Single-file, single-writer: open a given file from one journal instance at a time.
+ */
+public class TaskEventJournal implements ITaskAttributeObserver, AutoCloseable {
+    /** offset of the first record (pass to {@link #replay} to read the whole journal) */
+    public static final long FIRST_OFFSET = 32;
+    /** queued entries before publishers wait for the writer */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    /** "TJL1" marker guarding against foreign files */
+    private static final int MAGIC = 0x544A4C31;
+    /** bump when the record layout changes */
+    private static final short FORMAT = 1;
+    private static final int END_OFFSET_POSITION = 8;
+    private static final int INITIAL_MAPPING = 1 << 20;
+    /** max entries the writer encodes before publishing the end offset and forcing */
+    private static final int WRITE_BATCH = 1024;
+    /** queue marker asking the writer to finish */
+    private static final TaskJournalEntry STOP = new TaskJournalEntry(-1, 0, TaskChangeEvent.Type.TASK_REMOVED, 0,
+            Set.of(), null, null, null, null, null, null, null, null, 0, 0, 0);
+
+    private final File file;
+    private final FileChannel channel;
+    private final BlockingQueue<TaskJournalEntry> queue;
+    private final Thread writer;
+    private final AtomicLong appended = new AtomicLong();
+    private volatile long written = 0;             // entries persisted (compared against appended)
+    private volatile MappedByteBuffer mapped;      // replaced (never shrunk) when the file grows
+    private volatile long endOffset;               // committed end: records in [FIRST_OFFSET, endOffset) are complete
+    private volatile boolean closed = false;
+    private volatile IOException failure = null;   // first writer failure (journal stops writing)
+    private ByteBuffer scratch = ByteBuffer.allocate(256); // writer thread only
+    private TaskAttributeSubject subject;           // attached subject (null if detached)
+
+    private TaskEventJournal(File file, FileChannel channel, MappedByteBuffer mapped, long endOffset, int queueCapacity) {
+        this.file = file;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.endOffset = endOffset;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::writeLoop, "task-event-journal");
+        writer.setDaemon(true); // close() drains; never keep the JVM alive
+        writer.start();
+    }
+
+    /**
+     * Open (or create) a journal file and start its writer. Existing records are kept and new ones appended.
+     * @param file journal file
+     * @return open journal (not attached to any subject)
+     * @throws IOException if the file cannot be mapped or is not a journal of the current format
+     */
+    public static TaskEventJournal open(File file) throws IOException {
+        return open(file, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Open (or create) a journal file with a custom queue bound.
+     * @param file journal file
+     * @param queueCapacity entries queued before publishers wait (>= 1)
+     * @return open journal (not attached to any subject)
+     * @throws IOException if the file cannot be mapped or is not a journal of the current format
+     * @throws IllegalArgumentException if file null or queueCapacity < 1
+     */
+    public static TaskEventJournal open(File file, int queueCapacity) throws IOException {
+        if (file == null) throw new IllegalArgumentException("file cannot be null");
+        if (queueCapacity < 1) throw new IllegalArgumentException("queueCapacity must be >= 1");
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, INITIAL_MAPPING));
+            long end;
+            if (size < FIRST_OFFSET) { // new file: write the header
+                mapped.putInt(0, MAGIC);
+                mapped.putShort(4, FORMAT);
+                mapped.putLong(END_OFFSET_POSITION, FIRST_OFFSET);
+                mapped.force();
+                end = FIRST_OFFSET;
+            } else {
+                if (mapped.getInt(0) != MAGIC || mapped.getShort(4) != FORMAT) throw new IOException("Not a task journal: " + file);
+                end = mapped.getLong(END_OFFSET_POSITION);
+                if (end < FIRST_OFFSET || end > size) throw new IOException("Corrupted task journal header: " + file);
+            }
+            return new TaskEventJournal(file, channel, mapped, end, queueCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Start journaling a subject's events (detaching from any previous one).
+     * @param subject source subject (non-null)
+     * @throws IllegalArgumentException if subject null
+     */
+    public synchronized void attach(TaskAttributeSubject subject) {
+        if (subject == null) throw new IllegalArgumentException("subject cannot be null");
+        detach();
+        this.subject = subject;
+        subject.addObserver(this);
+    }
+
+    /**
+     * Stop journaling. Entries already queued are still written.
+     */
+    public synchronized void detach() {
+        if (subject != null) {
+            subject.removeObserver(this);
+            subject = null;
+        }
+    }
+
+    /** @return journal file */
+    public File getFile() {
+        return file; }
+
+    /** @return end of the last persisted record (resume offset for a consumer that is up to date) */
+    public long getEndOffset() {
+        return endOffset; }
+
+    /**
+     * Queue one event for writing (waits while the queue is full). Ignored once closed or failed.
+     * @param event event to journal
+     */
+    public void append(TaskChangeEvent event) {
+        if (closed || failure != null) return;
+        TaskJournalEntry entry = TaskJournalEntry.of(event, System.currentTimeMillis());
+        try {
+            queue.put(entry);
+            appended.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait until everything appended so far is persisted.
+     * @param timeout max wait
+     * @param unit timeout unit
+     * @return true if written in time (false on timeout or writer failure)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitWritten(long timeout, TimeUnit unit) throws InterruptedException {
+        long target = appended.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (written < target) {
+            if (failure != null || System.nanoTime() - deadline >= 0) return false;
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Read persisted records in order, starting at an offset returned by an earlier replay (or
+     * {@link #FIRST_OFFSET}). Records written concurrently after the call starts are left for the next replay.
+     * @param fromOffset record boundary to start at
+     * @param consumer receives each entry (with its offset)
+     * @return offset just past the last replayed record (pass it to the next replay to continue)
+     * @throws IllegalArgumentException if fromOffset is outside the persisted range
+     */
+    public long replay(long fromOffset, Consumer<TaskJournalEntry> consumer) {
+        long end = endOffset; // read before the mapping: the mapping always covers the published end
+        ByteBuffer buffer = mapped;
+        if (fromOffset < FIRST_OFFSET || fromOffset > end) throw new IllegalArgumentException("offset out of range: " + fromOffset);
+        Reader reader = new Reader(buffer, fromOffset);
+        while (reader.position < end) {
+            consumer.accept(reader.next());
+        }
+        return reader.position;
+    }
+
+    /**
+     * Detach, write everything queued, force it to disk and release the file.
+     * @throws IOException if the writer failed or the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        detach();
+        if (!closed) {
+            closed = true;
+            try {
+                queue.put(STOP);
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.close();
+        }
+        if (failure != null) throw failure;
+    }
+
+    // ------------------------------------------------------------
+    // Observer callbacks (capture + queue)
+    // ------------------------------------------------------------
+
+    @Override
+    public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) {
+        append(TaskChangeEvent.stateChanged(task, oldState, newState)); }
+
+    @Override
+    public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+        append(TaskChangeEvent.titleChanged(task, oldTitle, newTitle)); }
+
+    @Override
+    public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) {
+        append(TaskChangeEvent.priorityChanged(task, oldPriority, newPriority)); }
+
+    @Override
+    public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) {
+        append(TaskChangeEvent.descriptionChanged(task, oldDescription, newDescription)); }
+
+    @Override
+    public void onUpdatedTimeChanged(ITask task, long oldTime, long newTime) {
+        append(TaskChangeEvent.updatedTimeChanged(task, oldTime, newTime)); }
+
+    @Override
+    public void onTaskChanged(TaskChange change) {
+        append(TaskChangeEvent.taskChanged(change)); }
+
+    @Override
+    public void onTaskAdded(ITask task) {
+        append(TaskChangeEvent.taskAdded(task)); }
+
+    @Override
+    public void onTaskRemoved(ITask task) {
+        append(TaskChangeEvent.taskRemoved(task)); }
+
+    // ------------------------------------------------------------
+    // Writer
+    // ------------------------------------------------------------
+
+    private void writeLoop() {
+        List<TaskJournalEntry> batch = new ArrayList<>(WRITE_BATCH);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, WRITE_BATCH - 1);
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.get(i) == STOP) { // identity: entries racing in behind close() are dropped
+                    batch.subList(i, batch.size()).clear();
+                    stop = true;
+                    break;
+                }
+            }
+            int count = batch.size();
+            if (count > 0 && failure == null) {
+                try {
+                    writeBatch(batch);
+                } catch (IOException e) {
+                    failure = e;
+                    System.err.println("Task event journal write failed: " + e.getMessage());
+                }
+            }
+            written += count; // counts failed batches too so awaitWritten can report the failure
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<TaskJournalEntry> batch) throws IOException {
+        long position = endOffset;
+        for (TaskJournalEntry entry : batch) {
+            ByteBuffer record = encode(entry);
+            int length = record.remaining();
+            MappedByteBuffer target = ensureMapped(position + length);
+            target.put((int) position, record, 0, length);
+            position += length;
+        }
+        MappedByteBuffer target = mapped;
+        target.putLong(END_OFFSET_POSITION, position); // commit the batch in the header...
+        target.force();                                 // ...and make it durable
+        endOffset = position;                           // then let in-process readers see it
+    }
+
+    private MappedByteBuffer ensureMapped(long required) throws IOException {
+        MappedByteBuffer current = mapped;
+        if (required <= current.capacity()) return current;
+        if (required > Integer.MAX_VALUE) throw new IOException("Task journal is full (2 GB): " + file);
+        long size = Math.min(Integer.MAX_VALUE, Math.max(required, (long) current.capacity() * 2));
+        current.force(); // flush the old mapping's dirty pages before switching
+        MappedByteBuffer grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mapped = grown;
+        return grown;
+    }
+
+    // ------------------------------------------------------------
+    // Codec
+    // ------------------------------------------------------------
+
+    /** @return scratch buffer (flipped) holding the encoded record */
+    private ByteBuffer encode(TaskJournalEntry e) {
+        ByteBuffer out = scratch;
+        out.clear();
+        out.position(4); // length filled in below
+        out.put((byte) e.type().ordinal());
+        out.putInt(e.taskId());
+        out.putLong(e.timestamp());
+        out.put((byte) attributeBits(e.attributes()));
+        TaskChangeEvent.Type type = e.type();
+        if (hasTitle(type)) { out = putString(out, e.oldTitle()); out = putString(out, e.newTitle()); }
+        if (hasDescription(type)) { out = putString(out, e.oldDescription()); out = putString(out, e.newDescription()); }
+        out = ensureScratch(out, 36);
+        if (hasState(type)) { out.put(stateCode(e.oldState())); out.put(stateCode(e.newState())); }
+        if (hasPriority(type)) { out.put(priorityCode(e.oldPriority())); out.put(priorityCode(e.newPriority())); }
+        if (hasUpdatedTime(type)) { out.putLong(e.oldUpdatedTime()); out.putLong(e.newUpdatedTime()); }
+        if (type == TaskChangeEvent.Type.TASK_ADDED) out.putLong(e.creationTime());
+        out.putInt(0, out.position() - 4);
+        out.flip();
+        return out;
+    }
+
+    private ByteBuffer putString(ByteBuffer out, String s) {
+        if (s == null) {
+            out = ensureScratch(out, 4);
+            out.putInt(-1);
+            return out;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out = ensureScratch(out, 4 + bytes.length);
+        out.putInt(bytes.length);
+        out.put(bytes);
+        return out;
+    }
+
+    /** @return scratch buffer with room for more bytes (grown and swapped in if needed) */
+    private ByteBuffer ensureScratch(ByteBuffer out, int more) {
+        if (out.remaining() >= more) return out;
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + more));
+        out.flip();
+        grown.put(out);
+        scratch = grown;
+        return grown;
+    }
+
+    /** Sequential decoder over the mapping (absolute reads: safe alongside the writer). */
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private long position;
+
+        Reader(ByteBuffer buffer, long position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        TaskJournalEntry next() {
+            long offset = position;
+            int length = buffer.getInt((int) position);
+            position += 4;
+            TaskChangeEvent.Type type = TaskChangeEvent.Type.values()[buffer.get((int) position++)];
+            int taskId = readInt();
+            long timestamp = readLong();
+            Set<TaskAttribute> attributes = attributesOf(buffer.get((int) position++));
+            String oldTitle = null, newTitle = null, oldDescription = null, newDescription = null;
+            ITaskState.StateType oldState = null, newState = null;
+            TaskPriority oldPriority = null, newPriority = null;
+            long oldUpdated = 0, newUpdated = 0, created = 0;
+            if (hasTitle(type)) { oldTitle = readString(); newTitle = readString(); }
+            if (hasDescription(type)) { oldDescription = readString(); newDescription = readString(); }
+            if (hasState(type)) { oldState = stateOf(buffer.get((int) position++)); newState = stateOf(buffer.get((int) position++)); }
+            if (hasPriority(type)) { oldPriority = priorityOf(buffer.get((int) position++)); newPriority = priorityOf(buffer.get((int) position++)); }
+            if (hasUpdatedTime(type)) { oldUpdated = readLong(); newUpdated = readLong(); }
+            if (type == TaskChangeEvent.Type.TASK_ADDED) created = readLong();
+            position = offset + 4 + length; // trust the length prefix (lets newer fields be skipped)
+            return new TaskJournalEntry(offset, timestamp, type, taskId, attributes, oldTitle, newTitle,
+                    oldDescription, newDescription, oldState, newState, oldPriority, newPriority, oldUpdated, newUpdated, created);
+        }
+
+        private int readInt() {
+            int v = buffer.getInt((int) position);
+            position += 4;
+            return v;
+        }
+
+        private long readLong() {
+            long v = buffer.getLong((int) position);
+            position += 8;
+            return v;
+        }
+
+        private String readString() {
+            int length = readInt();
+            if (length < 0) return null;
+            byte[] bytes = new byte[length];
+            buffer.get((int) position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // ---- payload shape per event type ----
+
+    private static boolean hasTitle(TaskChangeEvent.Type t) {
+        return t == TaskChangeEvent.Type.TITLE || carriesAll(t); }
+
+    private static boolean hasDescription(TaskChangeEvent.Type t) {
+        return t == TaskChangeEvent.Type.DESCRIPTION || carriesAll(t); }
+
+    private static boolean hasState(TaskChangeEvent.Type t) {
+        return t == TaskChangeEvent.Type.STATE || carriesAll(t); }
+
+    private static boolean hasPriority(TaskChangeEvent.Type t) {
+        return t == TaskChangeEvent.Type.PRIORITY || carriesAll(t); }
+
+    private static boolean hasUpdatedTime(TaskChangeEvent.Type t) {
+        return t == TaskChangeEvent.Type.UPDATED_TIME || carriesAll(t); }
+
+    private static boolean carriesAll(TaskChangeEvent.Type t) {
+        return t == TaskChangeEvent.Type.TASK_CHANGED || t == TaskChangeEvent.Type.TASK_ADDED; }
+
+    private static int attributeBits(Set<TaskAttribute> attributes) {
+        int bits = 0;
+        for (TaskAttribute a : attributes) bits |= 1 << a.ordinal();
+        return bits;
+    }
+
+    private static Set<TaskAttribute> attributesOf(int bits) {
+        EnumSet<TaskAttribute> set = EnumSet.noneOf(TaskAttribute.class);
+        for (TaskAttribute a : TaskAttribute.values()) {
+            if ((bits & (1 << a.ordinal())) != 0) set.add(a);
+        }
+        return set;
+    }
+
+    private static byte stateCode(ITaskState.StateType state) {
+        return state == null ? -1 : (byte) state.getCode(); }
+
+    private static ITaskState.StateType stateOf(byte code) {
+        return code < 0 ? null : ITaskState.StateType.fromCode(code); }
+
+    private static byte priorityCode(TaskPriority priority) {
+        return priority == null ? -1 : (byte) priority.getCode(); }
+
+    private static TaskPriority priorityOf(byte code) {
+        return code < 0 ? null : TaskPriority.fromCode(code); }
+}
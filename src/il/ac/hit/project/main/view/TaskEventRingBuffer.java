@@ -0,0 +1,294 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Disruptor-style ring of preallocated, reusable event slots with many publishers and one consumer thread.
+ * <p>
+ * Publishers claim a sequence ({@link #next()}), fill the slot it maps to ({@link #get(long)}) and
+ * {@link #publish(long)} it; nothing is allocated per event. The consumer thread hands every published slot
+ * to the {@link IEventHandler} in sequence order, in batches: it takes everything published since its last
+ * pass and flags the last event with {@code endOfBatch}, so handlers can defer expensive work (repaint,
+ * recompute) to once per batch. A slot is only reused after the consumer has processed it; when the ring
+ * is full publishers wait (spin, then yield, then park briefly) for the consumer to catch up.
+ * </p>
+ * After {@link #halt()} the consumer drains what was claimed and exits; events published after that are
+ * processed on the publishing thread, so nothing is lost across dispatch mode switches.
+ * Handlers must not publish into a full ring from the consumer thread (it would wait on itself).
+ */
+public final class TaskEventRingBuffer {
+    /** default ring size (events in flight) */
+    public static final int DEFAULT_CAPACITY = 4096;
+    /** busy-spin iterations before an idle consumer starts yielding */
+    private static final int CONSUMER_SPINS = 1_000;
+    /** yields before an idle consumer parks */
+    private static final int CONSUMER_YIELDS = 100;
+
+    /**
+     * Batch-aware consumer callback, invoked on the consumer thread in sequence order.
+     */
+    @FunctionalInterface
+    public interface IEventHandler {
+        /**
+         * @param event slot holding the event (valid only during this call; the ring reuses it)
+         * @param sequence sequence number of the event
+         * @param endOfBatch true for the last event currently available
+         */
+        void onEvent(Slot event, long sequence, boolean endOfBatch);
+    }
+
+    /**
+     * Mutable, reusable counterpart of {@link TaskChangeEvent}. Written by exactly one publisher between
+     * {@link #next()} and {@link #publish(long)}, read by the consumer afterwards.
+     */
+    public static final class Slot {
+        private TaskChangeEvent.Type type;
+        private ITask task;
+        private Object oldValue;
+        private Object newValue;
+        private long oldTime;
+        private long newTime;
+
+        /**
+         * Fill the slot (same meaning as the {@link TaskChangeEvent} components).
+         * @param type event type
+         * @param task affected task
+         * @param oldValue previous value or null
+         * @param newValue new value or null
+         * @param oldTime previous updated time (UPDATED_TIME only)
+         * @param newTime new updated time (UPDATED_TIME only)
+         */
+        public void set(TaskChangeEvent.Type type, ITask task, Object oldValue, Object newValue, long oldTime, long newTime) {
+            this.type = type;
+            this.task = task;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.oldTime = oldTime;
+            this.newTime = newTime;
+        }
+
+        /** @return event type */
+        public TaskChangeEvent.Type type() {
+            return type; }
+
+        /** @return affected task */
+        public ITask task() {
+            return task; }
+
+        /** @return previous value (or the TaskChange for TASK_CHANGED) */
+        public Object oldValue() {
+            return oldValue; }
+
+        /** @return new value */
+        public Object newValue() {
+            return newValue; }
+
+        /** @return previous updated time */
+        public long oldTime() {
+            return oldTime; }
+
+        /** @return new updated time */
+        public long newTime() {
+            return newTime; }
+
+        /**
+         * Invoke the observer callback matching this event.
+         * @param observer target observer
+         */
+        public void dispatchTo(ITaskAttributeObserver observer) {
+            TaskChangeEvent.dispatch(observer, type, task, oldValue, newValue, oldTime, newTime);
+        }
+
+        /** @return immutable copy (for handlers that must keep the event beyond the callback) */
+        public TaskChangeEvent toEvent() {
+            return new TaskChangeEvent(type, task, oldValue, newValue, oldTime, newTime); }
+
+        private void clear() { /* drop references so consumed slots do not pin tasks in memory */
+            task = null;
+            oldValue = null;
+            newValue = null;
+        }
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final int indexShift;
+    /** per slot: round (sequence >>> indexShift) of the last published event, -1 initially */
+    private final AtomicIntegerArray available;
+    /** highest claimed sequence */
+    private final AtomicLong cursor = new AtomicLong(-1);
+    /** highest sequence the consumer has finished with (gates slot reuse) */
+    private volatile long processed = -1;
+    private volatile boolean consumerWaiting = false;
+    private volatile boolean halted = false;
+    private boolean exited = false; // guarded by this
+    private boolean draining = false; // guarded by this: inline drain in progress (reentrant publish guard)
+    private final IEventHandler handler;
+    private final Thread consumer;
+
+    /**
+     * Create the ring and start its consumer thread (daemon).
+     * @param capacity number of slots (power of two)
+     * @param handler consumer callback
+     * @param threadName consumer thread name
+     * @throws IllegalArgumentException if capacity not a positive power of two or handler null
+     */
+    public TaskEventRingBuffer(int capacity, IEventHandler handler, String threadName) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("capacity must be a power of two");
+        if (handler == null) throw new IllegalArgumentException("handler cannot be null");
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) slots[i] = new Slot(); // preallocate: publishing never allocates
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.available = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) available.set(i, -1);
+        this.handler = handler;
+        this.consumer = new Thread(this::consumeLoop, threadName);
+        consumer.setDaemon(true); // never keep the JVM alive
+        consumer.start();
+    }
+
+    /** @return number of slots */
+    public int getCapacity() {
+        return slots.length; }
+
+    /**
+     * Claim the next sequence, waiting while the ring is full.
+     * @return claimed sequence (must be published)
+     */
+    public long next() {
+        long sequence = cursor.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        for (int spins = 0; wrapPoint > processed; spins++) { // slot still holds an unconsumed event
+            if (halted) drainIfStopped();
+            backOff(spins);
+        }
+        return sequence;
+    }
+
+    /**
+     * @param sequence claimed sequence
+     * @return slot the sequence maps to
+     */
+    public Slot get(long sequence) {
+        return slots[(int) (sequence & mask)]; }
+
+    /**
+     * Make a claimed slot visible to the consumer.
+     * @param sequence sequence returned by {@link #next()}
+     */
+    public void publish(long sequence) {
+        available.set((int) (sequence & mask), (int) (sequence >>> indexShift)); // volatile: pairs with consumerWaiting
+        if (consumerWaiting) LockSupport.unpark(consumer);
+        if (halted) drainIfStopped(); // consumer may already be gone
+    }
+
+    /**
+     * Claim, fill and publish one event.
+     * @param type event type
+     * @param task affected task
+     * @param oldValue previous value or null
+     * @param newValue new value or null
+     * @param oldTime previous updated time
+     * @param newTime new updated time
+     */
+    public void publish(TaskChangeEvent.Type type, ITask task, Object oldValue, Object newValue, long oldTime, long newTime) {
+        long sequence = next();
+        get(sequence).set(type, task, oldValue, newValue, oldTime, newTime);
+        publish(sequence);
+    }
+
+    /** @return true when every claimed event has been processed */
+    public boolean isDrained() {
+        return processed == cursor.get(); }
+
+    /**
+     * Stop the consumer once everything claimed so far is processed. Later publishes are handled inline.
+     */
+    public void halt() {
+        halted = true;
+        LockSupport.unpark(consumer);
+    }
+
+    // ------------------------------------------------------------
+    // Consumer
+    // ------------------------------------------------------------
+
+    private void consumeLoop() {
+        long next = processed + 1;
+        while (true) {
+            long last = highestPublished(next, cursor.get());
+            if (last >= next) {
+                process(next, last);
+                next = last + 1;
+                continue;
+            }
+            if (halted && tryExit()) return;
+            awaitPublish(next);
+        }
+    }
+
+    private void process(long first, long last) {
+        for (long sequence = first; sequence <= last; sequence++) {
+            Slot slot = slots[(int) (sequence & mask)];
+            try {
+                handler.onEvent(slot, sequence, sequence == last);
+            } catch (RuntimeException e) { // a failing handler must not stop the pipeline
+                System.err.println("Task event handler failed: " + e);
+            }
+            slot.clear();
+        }
+        processed = last; // frees the slots for publishers
+    }
+
+    /** @return highest sequence in [low, high] such that every sequence from low up to it is published */
+    private long highestPublished(long low, long high) {
+        for (long sequence = low; sequence <= high; sequence++) {
+            if (!isPublished(sequence)) return sequence - 1;
+        }
+        return high;
+    }
+
+    private boolean isPublished(long sequence) {
+        return available.get((int) (sequence & mask)) == (int) (sequence >>> indexShift); }
+
+    private void awaitPublish(long sequence) {
+        for (int spins = 0; spins < CONSUMER_SPINS + CONSUMER_YIELDS; spins++) { // bursts usually resume quickly
+            if (isPublished(sequence) || halted) return;
+            if (spins < CONSUMER_SPINS) Thread.onSpinWait();
+            else Thread.yield();
+        }
+        consumerWaiting = true; // volatile write, then re-check: a publisher either sees the flag or we see its event
+        if (!isPublished(sequence) && !halted) LockSupport.park(this);
+        consumerWaiting = false;
+    }
+
+    private synchronized boolean tryExit() {
+        if (processed != cursor.get()) return false; // claimed events still in flight
+        exited = true;
+        return true;
+    }
+
+    /** After the consumer exited: process whatever is published on the calling thread. */
+    private synchronized void drainIfStopped() {
+        if (!exited || draining) return; // a handler publishing during the drain is picked up by the loop below
+        draining = true;
+        try {
+            long next = processed + 1;
+            for (long last; (last = highestPublished(next, cursor.get())) >= next; next = last + 1) {
+                process(next, last);
+            }
+        } finally {
+            draining = false;
+        }
+    }
+
+    private static void backOff(int spins) {
+        if (spins < 100) Thread.onSpinWait();
+        else if (spins < 10_000) Thread.yield(); // consumer is running: it frees slots within microseconds
+        else LockSupport.parkNanos(1_000L);
+    }
+}
@@ -0,0 +1,96 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * One {@link TaskEventJournal} record: a self-contained copy of a {@link TaskChangeEvent} that does not
+ * reference live task objects, so it can be replayed in another run or by another consumer.
+ * Values an event does not carry are null (strings / enums) or 0 (times). {@link TaskChangeEvent.Type#TASK_ADDED}
+ * records carry the task's initial values in both the old and new components;
+ * {@link TaskChangeEvent.Type#TASK_REMOVED} records carry only the id.
+ * @param offset byte offset of the record in the journal (-1 before it is written)
+ * @param timestamp wall-clock time the event was journaled (epoch millis)
+ * @param type event type
+ * @param taskId affected task id
+ * @param attributes attributes whose value changed (empty for additions / removals)
+ * @param oldTitle previous title
+ * @param newTitle new title
+ * @param oldDescription previous description
+ * @param newDescription new description
+ * @param oldState previous state
+ * @param newState new state
+ * @param oldPriority previous priority
+ * @param newPriority new priority
+ * @param oldUpdatedTime previous updated time (epoch millis)
+ * @param newUpdatedTime new updated time (epoch millis)
+ * @param creationTime creation time (TASK_ADDED only, epoch millis)
+ */
+public record TaskJournalEntry(
+    long offset, long timestamp, TaskChangeEvent.Type type, int taskId, Set<TaskAttribute> attributes,
+    String oldTitle, String newTitle,
+    String oldDescription, String newDescription,
+    ITaskState.StateType oldState, ITaskState.StateType newState,
+    TaskPriority oldPriority, TaskPriority newPriority,
+    long oldUpdatedTime, long newUpdatedTime,
+    long creationTime
+) {
+    /**
+     * Defensive copy of the attribute set.
+     */
+    public TaskJournalEntry {
+        attributes = Set.copyOf(attributes);
+    }
+
+    /**
+     * Capture an event (reads the task for additions, so call it when the event is published).
+     * @param event published event
+     * @param timestamp journal time (epoch millis)
+     * @return unwritten entry (offset -1)
+     */
+    public static TaskJournalEntry of(TaskChangeEvent event, long timestamp) {
+        int id = event.task().getId();
+        return switch (event.type()) {
+            case TITLE -> new TaskJournalEntry(-1, timestamp, event.type(), id, EnumSet.of(TaskAttribute.TITLE),
+                    (String) event.oldValue(), (String) event.newValue(), null, null, null, null, null, null, 0, 0, 0);
+            case DESCRIPTION -> new TaskJournalEntry(-1, timestamp, event.type(), id, EnumSet.of(TaskAttribute.DESCRIPTION),
+                    null, null, (String) event.oldValue(), (String) event.newValue(), null, null, null, null, 0, 0, 0);
+            case STATE -> new TaskJournalEntry(-1, timestamp, event.type(), id, EnumSet.of(TaskAttribute.STATE), null, null, null, null,
+                    ((ITaskState) event.oldValue()).getStateType(), ((ITaskState) event.newValue()).getStateType(), null, null, 0, 0, 0);
+            case PRIORITY -> new TaskJournalEntry(-1, timestamp, event.type(), id, EnumSet.of(TaskAttribute.PRIORITY),
+                    null, null, null, null, null, null, (TaskPriority) event.oldValue(), (TaskPriority) event.newValue(), 0, 0, 0);
+            case UPDATED_TIME -> new TaskJournalEntry(-1, timestamp, event.type(), id, EnumSet.of(TaskAttribute.UPDATED_DATE),
+                    null, null, null, null, null, null, null, null, event.oldTime(), event.newTime(), 0);
+            case TASK_CHANGED -> {
+                TaskChange c = (TaskChange) event.oldValue();
+                yield new TaskJournalEntry(-1, timestamp, event.type(), id, c.attributes(),
+                        c.oldTitle(), c.newTitle(), c.oldDescription(), c.newDescription(),
+                        c.oldState().getStateType(), c.newState().getStateType(), c.oldPriority(), c.newPriority(),
+                        c.oldUpdatedTime(), c.newUpdatedTime(), 0);
+            }
+            case TASK_ADDED -> {
+                ITaskDetails d = (ITaskDetails) event.task();
+                ITaskState.StateType state = d.getState().toStateType();
+                yield new TaskJournalEntry(-1, timestamp, event.type(), id, Set.of(),
+                        d.getTitle(), d.getTitle(), d.getDescription(), d.getDescription(), state, state,
+                        d.getPriority(), d.getPriority(), d.getUpdatedTime(), d.getUpdatedTime(), d.getCreationTime());
+            }
+            case TASK_REMOVED -> new TaskJournalEntry(-1, timestamp, event.type(), id, Set.of(),
+                    null, null, null, null, null, null, null, null, 0, 0, 0);
+        };
+    }
+
+    /**
+     * @param offset position the entry was written at
+     * @return copy of this entry with the given offset
+     */
+    TaskJournalEntry at(long offset) {
+        return new TaskJournalEntry(offset, timestamp, type, taskId, attributes, oldTitle, newTitle, oldDescription,
+                newDescription, oldState, newState, oldPriority, newPriority, oldUpdatedTime, newUpdatedTime, creationTime);
+    }
+}
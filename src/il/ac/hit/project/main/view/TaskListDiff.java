@@ -0,0 +1,147 @@
+package il.ac.hit.project.main.view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structured difference between two consecutive visible task lists published by the ViewModel.
+ * <p>
+ * Positions refer to the {@link #previous()} list (removals, move sources) or the {@link #tasks()} list
+ * (insertions, move targets). A move is a retained task whose order relative to the other retained tasks
+ * changed; the moves are minimal (tasks on a longest increasing run of old positions stay put). Applying
+ * {@link #rowsToDelete()} in descending order and then {@link #rowsToInsert()} in ascending order turns
+ * the previous list into the new one. {@link #changedIds()} names retained tasks whose values changed,
+ * whose rows need repainting.
+ * </p>
+ * The index arrays are owned by the diff and must not be modified.
+ * @param previous list the diff applies to (as last published)
+ * @param tasks new visible list (full snapshot for observers that ignore the structure)
+ * @param removed ascending positions in previous of tasks no longer visible
+ * @param inserted ascending positions in tasks of newly visible tasks
+ * @param moves retained tasks that changed relative position (ascending by target)
+ * @param changedIds ids of tasks whose attribute values changed since the previous list
+ */
+public record TaskListDiff(List<ITask> previous, List<ITask> tasks, int[] removed, int[] inserted,
+                           List<Move> moves, Set<Integer> changedIds) {
+
+    /**
+     * One retained task changing position.
+     * @param from position in the previous list
+     * @param to position in the new list
+     */
+    public record Move(int from, int to) { }
+
+    /**
+     * Compute the diff between two lists of distinct tasks (identified by id). Common leading and trailing
+     * runs are skipped with a plain scan; the window between them is diffed in O(w + m log m) for w tasks
+     * and m retained tasks. Identical list instances short-circuit to a structure-free diff.
+     * @param previous last published list (non-null)
+     * @param tasks new list (non-null)
+     * @param changedIds ids whose values changed (non-null)
+     * @return diff from previous to tasks
+     * @throws IllegalArgumentException if an argument is null
+     */
+    public static TaskListDiff compute(List<ITask> previous, List<ITask> tasks, Set<Integer> changedIds) {
+        if (previous == null || tasks == null || changedIds == null) {
+            throw new IllegalArgumentException("previous, tasks and changedIds cannot be null");
+        }
+        Set<Integer> changed = Set.copyOf(changedIds);
+        if (previous == tasks) return new TaskListDiff(previous, tasks, new int[0], new int[0], List.of(), changed);
+
+        // single-task edits leave long common runs at both ends: diff only the window in between
+        int start = 0;
+        int common = Math.min(previous.size(), tasks.size());
+        while (start < common && previous.get(start).getId() == tasks.get(start).getId()) start++;
+        int previousEnd = previous.size();
+        int tasksEnd = tasks.size();
+        while (previousEnd > start && tasksEnd > start
+                && previous.get(previousEnd - 1).getId() == tasks.get(tasksEnd - 1).getId()) {
+            previousEnd--;
+            tasksEnd--;
+        }
+
+        Map<Integer, Integer> oldIndex = new HashMap<>((previousEnd - start) * 2);
+        for (int i = start; i < previousEnd; i++) oldIndex.put(previous.get(i).getId(), i);
+        boolean[] kept = new boolean[previousEnd - start];
+        int[] inserted = new int[tasksEnd - start];
+        int[] retainedFrom = new int[tasksEnd - start];
+        int[] retainedTo = new int[tasksEnd - start];
+        int insertedCount = 0;
+        int retainedCount = 0;
+        for (int j = start; j < tasksEnd; j++) {
+            Integer i = oldIndex.get(tasks.get(j).getId());
+            if (i == null) {
+                inserted[insertedCount++] = j;
+            } else {
+                kept[i - start] = true;
+                retainedFrom[retainedCount] = i;
+                retainedTo[retainedCount++] = j;
+            }
+        }
+        int[] removed = new int[previousEnd - start - retainedCount];
+        for (int i = 0, r = 0; i < kept.length; i++) {
+            if (!kept[i]) removed[r++] = start + i;
+        }
+        boolean[] stays = longestIncreasingRun(retainedFrom, retainedCount);
+        Move[] moves = new Move[retainedCount];
+        int moveCount = 0;
+        for (int k = 0; k < retainedCount; k++) {
+            if (!stays[k]) moves[moveCount++] = new Move(retainedFrom[k], retainedTo[k]);
+        }
+        return new TaskListDiff(previous, tasks, removed, Arrays.copyOf(inserted, insertedCount),
+                List.of(Arrays.copyOf(moves, moveCount)), changed);
+    }
+
+    /** @return true if tasks were added, removed or reordered */
+    public boolean isStructural() {
+        return removed.length > 0 || inserted.length > 0 || !moves.isEmpty(); }
+
+    /** @return number of row deletions + insertions needed to apply the diff */
+    public int rowOperationCount() {
+        return removed.length + inserted.length + 2 * moves.size(); }
+
+    /** @return ascending positions in previous to delete (removals and move sources) */
+    public int[] rowsToDelete() {
+        int[] rows = Arrays.copyOf(removed, removed.length + moves.size());
+        for (int k = 0; k < moves.size(); k++) rows[removed.length + k] = moves.get(k).from();
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    /** @return ascending positions in tasks to insert (insertions and move targets) */
+    public int[] rowsToInsert() {
+        int[] rows = Arrays.copyOf(inserted, inserted.length + moves.size());
+        for (int k = 0; k < moves.size(); k++) rows[inserted.length + k] = moves.get(k).to();
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    /**
+     * Mark one longest strictly increasing subsequence (patience sorting, O(n log n)).
+     * @param values sequence (distinct values)
+     * @param n number of values used
+     * @return flags: true for members of the subsequence
+     */
+    private static boolean[] longestIncreasingRun(int[] values, int n) {
+        int[] tailIndex = new int[n];   // index of the smallest tail of each run length
+        int[] predecessor = new int[n];
+        int length = 0;
+        for (int k = 0; k < n; k++) {
+            int lo = 0, hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[tailIndex[mid]] < values[k]) lo = mid + 1; else hi = mid;
+            }
+            predecessor[k] = lo > 0 ? tailIndex[lo - 1] : -1;
+            tailIndex[lo] = k;
+            if (lo == length) length++;
+        }
+        boolean[] member = new boolean[n];
+        for (int k = length == 0 ? -1 : tailIndex[length - 1]; k >= 0; k = predecessor[k]) member[k] = true;
+        return member;
+    }
+}
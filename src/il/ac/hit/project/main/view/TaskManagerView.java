@@ -9,7 +9,9 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.io.File;
 import java.io.IOException;
 import java.awt.event.ActionEvent;
@@ -18,7 +20,7 @@ import java.awt.event.ActionEvent;
  * Swing-based view (View in MVVM) for managing tasks.
  * Responsible strictly for presentation & delegating user actions to the ViewModel.
  */
-public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttributeObserver, IView {
+public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttributeObserver, ITaskChangeBatchObserver, IView {
     // ----------------------------- UI Fields -----------------------------
     private final JFrame window;
     private final JPanel contentPane;
@@ -45,6 +47,7 @@ public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttr
     private transient IViewModel viewModel;
     private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
     private transient List<ITask> currentTasks;
+    private final transient Map<Integer, Integer> rowById = new HashMap<>(); // task id -> table row (EDT only)
 
     private static final String SEARCH_PLACEHOLDER = "Search…";
 
@@ -208,19 +211,71 @@ public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttr
         });
     }
     /** {@inheritDoc} */
-    @Override public void onUpdatedDateChanged(ITask task, java.util.Date oldDate, java.util.Date newDate) {
-        /* Purpose: refresh updated timestamp cell */
-        SwingUtilities.invokeLater(() -> updateSpecificTaskInTable(task, 6, dateFormat.format(newDate)));
+    @Override public void onUpdatedTimeChanged(ITask task, long oldTime, long newTime) {
+        /* Purpose: refresh updated timestamp cell (format only when rendering) */
+        SwingUtilities.invokeLater(() -> updateSpecificTaskInTable(task, 6, dateFormat.format(new java.util.Date(newTime))));
     }
 
-    private void updateSpecificTaskInTable(ITask task, int column, Object newValue) {
-        /* Purpose: locate row by task id and update one cell */
-        for (int row = 0; row < tableModel.getRowCount(); row++) {
-            if (((Integer) tableModel.getValueAt(row, 0)) == task.getId()) {
-                tableModel.setValueAt(newValue, row, column);
-                break;
+    /** {@inheritDoc} */
+    @Override public void onTaskChanged(TaskChange change) {
+        /* Purpose: apply a whole atomic edit with one EDT hop and one row lookup */
+        SwingUtilities.invokeLater(() -> applyChange(change));
+    }
+
+    // ----------------------------- Observer Callbacks (Batched) -----------------------------
+    /** {@inheritDoc} */
+    @Override public void onBatch(List<TaskChange> changes) {
+        onBatch(changes, List.of(), List.of());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onBatch(List<TaskChange> changes, List<ITask> added, List<ITask> removed) {
+        /* Purpose: apply a whole batch window with a single EDT hop (one repaint) */
+        SwingUtilities.invokeLater(() -> {
+            // rows of added / removed tasks arrive as a TaskListDiff from the ViewModel
+            for (ITask task : removed) {
+                if (selectedTask != null && selectedTask.getId() == task.getId()) clearForm();
             }
+            for (TaskChange change : changes) applyChange(change);
+        });
+    }
+
+    private void applyChange(TaskChange change) {
+        /* Purpose: write the changed attributes of one task into its row and the form (EDT only) */
+        ITask task = change.task();
+        int row = findRowForTask(task);
+        boolean selected = selectedTask != null && selectedTask.getId() == task.getId();
+        if (change.changed(TaskAttribute.TITLE)) {
+            if (row >= 0) tableModel.setValueAt(change.newTitle(), row, 1);
+            if (selected) taskTitleInputF.setText(change.newTitle());
+        }
+        if (change.changed(TaskAttribute.DESCRIPTION)) {
+            if (row >= 0) tableModel.setValueAt(change.newDescription(), row, 2);
+            if (selected) descriptionInputTA.setText(change.newDescription());
+        }
+        if (change.changed(TaskAttribute.STATE)) {
+            if (row >= 0) tableModel.setValueAt(change.newState().getDisplayName(), row, 3);
+            if (selected) taskStateComboBox.setSelectedItem(change.newState());
         }
+        if (change.changed(TaskAttribute.PRIORITY)) {
+            if (row >= 0) tableModel.setValueAt(change.newPriority().getDisplayName(), row, 4);
+            if (selected) taskPriorityComboBox.setSelectedItem(change.newPriority());
+        }
+        if (change.changed(TaskAttribute.UPDATED_DATE) && row >= 0) {
+            tableModel.setValueAt(dateFormat.format(new java.util.Date(change.newUpdatedTime())), row, 6);
+        }
+    }
+
+    private int findRowForTask(ITask task) {
+        /* Purpose: locate table row index by task id (-1 if not shown) without scanning the table */
+        Integer row = rowById.get(task.getId());
+        return row == null ? -1 : row;
+    }
+
+    private void updateSpecificTaskInTable(ITask task, int column, Object newValue) {
+        /* Purpose: locate row by task id and update one cell */
+        int row = findRowForTask(task);
+        if (row >= 0) tableModel.setValueAt(newValue, row, column);
     }
 
     private void setupLayout() {
@@ -290,7 +345,7 @@ public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttr
         sortComboBox.addActionListener(this::onSortChanged);
         searchClearButton.addActionListener(this::onSearchClear);
         searchField.addKeyListener(new java.awt.event.KeyAdapter() {
-            @Override public void keyReleased(java.awt.event.KeyEvent e) { applySearchAndFilters(); }});
+            @Override public void keyReleased(java.awt.event.KeyEvent e) { searchAsYouType(); }});
         searchField.addActionListener(this::onSearchEnter);
     }
 
@@ -379,6 +434,12 @@ public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttr
         applySearchAndFilters();
     }
 
+    private void searchAsYouType() {
+        /* Purpose: hand keystrokes to the debounced search (the state filter is unchanged) */
+        String searchText = searchField.getText().trim(); if (SEARCH_PLACEHOLDER.equals(searchText)) searchText = "";
+        if (viewModel instanceof TasksViewModel tvm) tvm.searchAsYouType(searchText);
+    }
+
     private void applySearchAndFilters() {
         /* Purpose: apply current text + state filters */
         String searchText = searchField.getText().trim(); if (SEARCH_PLACEHOLDER.equals(searchText)) searchText = "";
@@ -424,18 +485,64 @@ public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttr
     /** {@inheritDoc} */
     @Override public void onTasksChanged(List<ITask> tasks) {
         /* Purpose: refresh table model with provided task list */
+        SwingUtilities.invokeLater(() -> renderAll(tasks));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Applies the diff with row-level table events (selection and scroll position survive); falls back to a
+     * full re-render if the table does not show the diff's base list or most rows change anyway.
+     */
+    @Override public void onTasksChanged(TaskListDiff diff) {
+        /* Purpose: insert / delete / move only the affected rows */
         SwingUtilities.invokeLater(() -> {
-            tableModel.setRowCount(0);
-            for (ITask task : tasks) {
-                String createdDate = ((ITaskDetails) task).getCreationDate() != null ? dateFormat.format(((ITaskDetails) task).getCreationDate()) : "N/A";
-                String updatedDate = ((ITaskDetails) task).getUpdatedDate() != null ? dateFormat.format(((ITaskDetails) task).getUpdatedDate()) : "N/A";
-                tableModel.addRow(new Object[]{
-                        task.getId(), task.getTitle(), task.getDescription(), task.getState().getDisplayName(), ((ITaskDetails) task).getPriority().getDisplayName(), createdDate, updatedDate });
+            List<ITask> tasks = diff.tasks();
+            if (diff.previous() != currentTasks || diff.rowOperationCount() > tasks.size() / 2 + 8) {
+                renderAll(tasks);
+                return;
+            }
+            int[] deleted = diff.rowsToDelete();
+            for (int i = deleted.length - 1; i >= 0; i--) tableModel.removeRow(deleted[i]);
+            for (int row : diff.rowsToInsert()) tableModel.insertRow(row, rowFor(tasks.get(row)));
+            if (diff.isStructural()) indexRows(tasks);
+            for (int id : diff.changedIds()) {
+                Integer row = rowById.get(id);
+                if (row != null) refreshRow(row, tasks.get(row));
             }
             currentTasks = tasks; updateStatusBar(tasks); deleteAllButton.setEnabled(!tasks.isEmpty());
         });
     }
 
+    private void renderAll(List<ITask> tasks) {
+        /* Purpose: rebuild every row (EDT only) */
+        tableModel.setRowCount(0);
+        for (ITask task : tasks) tableModel.addRow(rowFor(task));
+        indexRows(tasks);
+        currentTasks = tasks; updateStatusBar(tasks); deleteAllButton.setEnabled(!tasks.isEmpty());
+    }
+
+    private void indexRows(List<ITask> tasks) {
+        /* Purpose: rebuild the id -> row index (EDT only) */
+        rowById.clear();
+        for (int row = 0; row < tasks.size(); row++) rowById.put(tasks.get(row).getId(), row);
+    }
+
+    private Object[] rowFor(ITask task) {
+        /* Purpose: table cells of one task */
+        String createdDate = dateFormat.format(new java.util.Date(((ITaskDetails) task).getCreationTime()));
+        String updatedDate = dateFormat.format(new java.util.Date(((ITaskDetails) task).getUpdatedTime()));
+        return new Object[]{
+                task.getId(), task.getTitle(), task.getDescription(), task.getState().getDisplayName(), ((ITaskDetails) task).getPriority().getDisplayName(), createdDate, updatedDate };
+    }
+
+    private void refreshRow(int row, ITask task) {
+        /* Purpose: rewrite the cells of one row (only cells whose value differs fire events) */
+        Object[] cells = rowFor(task);
+        for (int column = 1; column < cells.length; column++) {
+            if (!cells[column].equals(tableModel.getValueAt(row, column))) tableModel.setValueAt(cells[column], row, column);
+        }
+    }
+
     private void updateStatusBar(List<ITask> tasks) {
         /* Purpose: show quick count summary */
         statusBar.setText("Showing " + (tasks == null ? 0 : tasks.size()) + " tasks");
@@ -448,8 +555,8 @@ public class TaskManagerView extends JPanel implements ITasksObserver, ITaskAttr
         if (viewModel instanceof TasksViewModel tvm) tvm.addObserver(this);
     }
     /** {@inheritDoc} */
-    @Override public void start() { /* Purpose: register attribute observer & show window */
-        Task.getAttributeSubject().addObserver(this);
+    @Override public void start() { /* Purpose: register batched change observer & show window */
+        TaskChangeBatcher.getInstance().addObserver(this); // one EDT hop per batch window, not per attribute
         SwingUtilities.invokeLater(() -> window.setVisible(true));
     }
 
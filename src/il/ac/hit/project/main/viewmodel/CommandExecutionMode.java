@@ -0,0 +1,41 @@
+package il.ac.hit.project.main.viewmodel;
+
+/**
+ * How the ViewModel runs its asynchronous commands. Both modes keep the per-task ordering of
+ * {@link StripedExecutor}; they differ in the threads behind the lanes.
+ * @author Course
+ */
+public enum CommandExecutionMode {
+    /** 8 lanes on dedicated platform threads (at most 8 commands blocked on the database at once) */
+    PLATFORM_THREADS(8),
+    /** 1024 lanes on virtual threads started on demand (cap database concurrency with a DAO throttle) */
+    VIRTUAL_THREADS(1024);
+
+    /** system property selecting the mode at startup ("platform" or "virtual") */
+    public static final String PROPERTY = "taskapp.commands";
+
+    private final int stripes;
+
+    CommandExecutionMode(int stripes) {
+        this.stripes = stripes; }
+
+    /** @return number of serial lanes */
+    public int getStripes() {
+        return stripes; }
+
+    /**
+     * @param name thread name prefix
+     * @return new executor for this mode
+     */
+    public StripedExecutor createExecutor(String name) {
+        return this == VIRTUAL_THREADS ? StripedExecutor.ofVirtualThreads(stripes, name) : new StripedExecutor(stripes, name);
+    }
+
+    /**
+     * Mode named by the {@link #PROPERTY} system property.
+     * @return VIRTUAL_THREADS if the property is "virtual" (any case), otherwise PLATFORM_THREADS
+     */
+    public static CommandExecutionMode fromSystemProperty() {
+        return "virtual".equalsIgnoreCase(System.getProperty(PROPERTY)) ? VIRTUAL_THREADS : PLATFORM_THREADS;
+    }
+}
@@ -0,0 +1,101 @@
+package il.ac.hit.project.main.viewmodel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and throughput counters for ViewModel commands, used to compare execution modes.
+ * <p>
+ * Latency is measured from submission to completion (queueing included); queue wait from submission to
+ * start. Latencies are also counted in power-of-two buckets, so percentiles are reported as the upper
+ * bound of their bucket (within 2x). Recording is lock-free and cheap enough to stay on in production.
+ * </p>
+ * @author Course
+ */
+public class CommandMetrics {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder latencyTotal = new LongAdder();
+    private final LongAdder queueTotal = new LongAdder();
+    private final AtomicLong latencyMax = new AtomicLong();
+    private final AtomicLong firstSubmit = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastCompletion = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    /**
+     * Point-in-time view of the counters.
+     * @param completed commands completed
+     * @param meanLatencyNanos mean submission-to-completion time
+     * @param p99LatencyNanos 99th percentile latency (bucket upper bound)
+     * @param maxLatencyNanos worst latency
+     * @param meanQueueNanos mean submission-to-start time
+     * @param throughputPerSecond completed commands per second between the first submission and the last completion
+     */
+    public record Snapshot(long completed, long meanLatencyNanos, long p99LatencyNanos, long maxLatencyNanos,
+                           long meanQueueNanos, double throughputPerSecond) { }
+
+    /** Empty metrics. */
+    public CommandMetrics() {
+        for (int i = 0; i < BUCKETS; i++) histogram[i] = new LongAdder();
+    }
+
+    /**
+     * Wrap a command so its timings are recorded when it runs.
+     * @param command command to measure (non-null)
+     * @return measuring command, to be submitted right away
+     */
+    public Runnable measure(Runnable command) {
+        long submitted = System.nanoTime();
+        firstSubmit.accumulateAndGet(submitted, Math::min);
+        return () -> {
+            long started = System.nanoTime();
+            try {
+                command.run();
+            } finally {
+                long finished = System.nanoTime();
+                record(started - submitted, finished - submitted);
+                lastCompletion.accumulateAndGet(finished, Math::max);
+            }
+        };
+    }
+
+    private void record(long queueNanos, long latencyNanos) {
+        completed.increment();
+        queueTotal.add(queueNanos);
+        latencyTotal.add(latencyNanos);
+        latencyMax.accumulateAndGet(latencyNanos, Math::max);
+        histogram[BUCKETS - Long.numberOfLeadingZeros(Math.max(1, latencyNanos))].increment();
+    }
+
+    /** @return current counters (not atomic across fields while commands run) */
+    public Snapshot snapshot() {
+        long count = completed.sum();
+        if (count == 0) return new Snapshot(0, 0, 0, 0, 0, 0.0);
+        long rank = (long) Math.ceil(count * 0.99);
+        long seen = 0;
+        long p99 = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i].sum();
+            if (seen >= rank) {
+                p99 = (1L << i) - 1; // bucket upper bound (i = 63 wraps to Long.MAX_VALUE)
+                break;
+            }
+        }
+        long elapsed = lastCompletion.get() - firstSubmit.get();
+        double throughput = elapsed > 0 ? count * 1e9 / elapsed : 0.0;
+        return new Snapshot(count, latencyTotal.sum() / count, Math.min(p99, latencyMax.get()), latencyMax.get(),
+            queueTotal.sum() / count, throughput);
+    }
+
+    /** Clear all counters (e.g. between benchmark rounds; not atomic with concurrently finishing commands). */
+    public void reset() {
+        completed.reset();
+        latencyTotal.reset();
+        queueTotal.reset();
+        latencyMax.set(0);
+        firstSubmit.set(Long.MAX_VALUE);
+        lastCompletion.set(Long.MIN_VALUE);
+        for (LongAdder bucket : histogram) bucket.reset();
+    }
+}
@@ -0,0 +1,122 @@
+package il.ac.hit.project.main.viewmodel;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Debounced, cancellable scheduling for search-as-you-type.
+ * <p>
+ * Every {@link #submit(String)} starts a new generation and (re)arms a timer; the search only runs once the
+ * query has been stable for the debounce delay (default {@value #DEFAULT_DEBOUNCE_MILLIS} ms), on a single
+ * background thread (never the EDT). Older generations are superseded: a pending run is cancelled outright,
+ * and a running computation is expected to poll {@link #isCurrent(long)} and stop early.
+ * </p>
+ * @author Course
+ */
+public class DebouncedSearch implements AutoCloseable {
+    /** default quiet period between the last keystroke and the search */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    /**
+     * Search computation run for the latest stable query.
+     */
+    @FunctionalInterface
+    public interface ISearchTask {
+        /**
+         * @param query query to apply
+         * @param generation generation of this run (poll {@link DebouncedSearch#isCurrent(long)} to stop early)
+         */
+        void run(String query, long generation);
+    }
+
+    private final ISearchTask task;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long debounceMillis;
+    private ScheduledThreadPoolExecutor scheduler; // created on first submit (guarded by this)
+    private ScheduledFuture<?> pending;            // armed timer (guarded by this)
+    private boolean closed = false;                // guarded by this
+
+    /**
+     * @param debounceMillis quiet period before a query runs (>= 0)
+     * @param task search computation (non-null)
+     * @throws IllegalArgumentException if debounceMillis negative or task null
+     */
+    public DebouncedSearch(long debounceMillis, ISearchTask task) {
+        if (task == null) throw new IllegalArgumentException("task cannot be null");
+        this.debounceMillis = requireDebounceMillis(debounceMillis);
+        this.task = task;
+    }
+
+    /**
+     * Schedule a search for the query, superseding any earlier query.
+     * @param query query text (null becomes empty)
+     * @return generation of the scheduled run
+     * @throws IllegalStateException if closed
+     */
+    public synchronized long submit(String query) {
+        if (closed) throw new IllegalStateException("search pipeline closed");
+        long current = supersede();
+        String text = query == null ? "" : query;
+        if (scheduler == null) {
+            scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "task-search");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.setRemoveOnCancelPolicy(true); // cancelled timers do not pile up in the queue
+        }
+        pending = scheduler.schedule(() -> {
+            if (isCurrent(current)) task.run(text, current);
+        }, debounceMillis, TimeUnit.MILLISECONDS);
+        return current;
+    }
+
+    /**
+     * Start a new generation without scheduling a run (e.g. before an immediate search), cancelling the
+     * pending run and signalling any running one to stop.
+     * @return the new generation
+     */
+    public synchronized long supersede() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        return generation.incrementAndGet();
+    }
+
+    /**
+     * @param generation generation handed to a run
+     * @return true if no newer query has been submitted since
+     */
+    public boolean isCurrent(long generation) {
+        return this.generation.get() == generation; }
+
+    /** @return quiet period in milliseconds */
+    public long getDebounceMillis() {
+        return debounceMillis; }
+
+    /**
+     * @param debounceMillis quiet period for subsequent queries (>= 0)
+     * @throws IllegalArgumentException if negative
+     */
+    public void setDebounceMillis(long debounceMillis) {
+        this.debounceMillis = requireDebounceMillis(debounceMillis); }
+
+    /** @return debounceMillis if valid; throws IllegalArgumentException if negative */
+    private static long requireDebounceMillis(long debounceMillis) {
+        if (debounceMillis < 0) throw new IllegalArgumentException("debounceMillis must be >= 0");
+        return debounceMillis;
+    }
+
+    /**
+     * Cancel pending work and stop the background thread.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        supersede();
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+}
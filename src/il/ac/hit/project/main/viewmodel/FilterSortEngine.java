@@ -0,0 +1,130 @@
+package il.ac.hit.project.main.viewmodel;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.strategy.ISortingStrategy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Filter + sort of the task cache into the visible list, sequential for small boards and fork-join
+ * parallel for large ones.
+ * <p>
+ * At or above the threshold the source is snapshotted into an array, filtered with an ordered parallel
+ * stream (matches keep their source order) and sorted with {@link Arrays#parallelSort(Object[], Comparator)},
+ * which is a stable merge sort. The result is therefore identical to the sequential path, ties included.
+ * Strategies without a {@link ISortingStrategy#getComparator() comparator} are sorted sequentially through
+ * {@link ISortingStrategy#sort(List)}. Filters must be side-effect free (the combinators are).
+ * </p>
+ * <p>
+ * A cancellable {@link #apply(Collection, ITaskFilter, ISortingStrategy, BooleanSupplier) apply} polls its
+ * cancellation check while filtering (every {@value #CANCEL_CHECK_INTERVAL} tasks sequentially, per task in
+ * parallel, where remaining workers then skip the filter) and gives up before sorting. A sort that has
+ * started runs to completion: neither {@link List#sort} nor {@link Arrays#parallelSort} can be interrupted.
+ * </p>
+ * @author Course
+ */
+public class FilterSortEngine {
+    /** default task count from which filtering and sorting run in parallel */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+    /** tasks filtered sequentially between cancellation checks */
+    private static final int CANCEL_CHECK_INTERVAL = 256;
+    private static final BooleanSupplier NEVER_CANCELLED = () -> false;
+
+    private volatile int parallelThreshold;
+
+    /**
+     * Engine with {@link #DEFAULT_PARALLEL_THRESHOLD}, or sequential only when the common fork-join pool has a
+     * single worker (splitting and merging would then only add overhead).
+     */
+    public FilterSortEngine() {
+        this(ForkJoinPool.getCommonPoolParallelism() > 1 ? DEFAULT_PARALLEL_THRESHOLD : Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param parallelThreshold task count from which work runs in parallel (>= 1)
+     * @throws IllegalArgumentException if parallelThreshold < 1
+     */
+    public FilterSortEngine(int parallelThreshold) {
+        this.parallelThreshold = requireParallelThreshold(parallelThreshold);
+    }
+
+    /**
+     * Filter the source and sort the matches.
+     * @param source tasks in cache order (non-null; not modified)
+     * @param filter visibility filter (non-null)
+     * @param strategy ordering (nullable: keep source order)
+     * @return new mutable list of matching tasks in strategy order
+     * @throws IllegalArgumentException if source or filter null
+     */
+    public List<ITask> apply(Collection<ITask> source, ITaskFilter filter, ISortingStrategy strategy) {
+        return apply(source, filter, strategy, NEVER_CANCELLED); }
+
+    /**
+     * Filter the source and sort the matches unless cancelled first.
+     * @param source tasks in cache order (non-null; not modified)
+     * @param filter visibility filter (non-null)
+     * @param strategy ordering (nullable: keep source order)
+     * @param cancelled polled while filtering; true abandons the work (non-null)
+     * @return new mutable list of matching tasks in strategy order, or null if cancelled
+     * @throws IllegalArgumentException if source, filter or cancelled null
+     */
+    public List<ITask> apply(Collection<ITask> source, ITaskFilter filter, ISortingStrategy strategy,
+                             BooleanSupplier cancelled) {
+        /* Purpose: pick sequential or parallel execution by size and produce the visible list */
+        if (source == null || filter == null || cancelled == null) {
+            throw new IllegalArgumentException("source, filter and cancelled cannot be null");
+        }
+        if (source.size() < parallelThreshold) {
+            List<ITask> result = new ArrayList<>();
+            int checked = 0;
+            for (ITask task : source) {
+                if (++checked % CANCEL_CHECK_INTERVAL == 0 && cancelled.getAsBoolean()) return null;
+                if (filter.test(task)) result.add(task);
+            }
+            if (cancelled.getAsBoolean()) return null;
+            if (strategy != null) strategy.sort(result);
+            return result;
+        }
+        // array snapshot splits evenly across workers (map value views only split by iteration)
+        ITask[] matches = Arrays.stream(source.toArray(new ITask[0])).parallel()
+            .filter(task -> !cancelled.getAsBoolean() && filter.test(task))
+            .toArray(ITask[]::new);
+        if (cancelled.getAsBoolean()) return null; // matches may be incomplete
+        Comparator<ITask> order = strategy != null ? strategy.getComparator() : null;
+        if (order != null) Arrays.parallelSort(matches, order); // stable, so equal keys keep source order
+        List<ITask> result = new ArrayList<>(Arrays.asList(matches));
+        if (strategy != null && order == null) strategy.sort(result);
+        return result;
+    }
+
+    /**
+     * @param source tasks about to be processed
+     * @return true if {@link #apply} would run in parallel for this source
+     */
+    public boolean isParallel(Collection<ITask> source) {
+        return source.size() >= parallelThreshold; }
+
+    /** @return task count from which work runs in parallel */
+    public int getParallelThreshold() {
+        return parallelThreshold; }
+
+    /**
+     * @param parallelThreshold task count from which work runs in parallel (>= 1; use
+     *        {@link Integer#MAX_VALUE} to stay sequential)
+     * @throws IllegalArgumentException if parallelThreshold < 1
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = requireParallelThreshold(parallelThreshold); }
+
+    /** @return parallelThreshold if valid; throws IllegalArgumentException if < 1 */
+    private static int requireParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) throw new IllegalArgumentException("parallelThreshold must be >= 1");
+        return parallelThreshold;
+    }
+}
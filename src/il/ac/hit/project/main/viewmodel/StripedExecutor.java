@@ -0,0 +1,151 @@
+package il.ac.hit.project.main.viewmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor of serial lanes (stripes): commands submitted with the same key always run one at a time, in
+ * submission order, on the key's lane, while commands for keys on other lanes run in parallel.
+ * <p>
+ * The ViewModel keys commands by task id, so two edits of one task can no longer interleave (no lost
+ * read-modify-write updates) without a global lock serializing edits of unrelated tasks. Commands without a
+ * key are spread over the lanes round-robin. Each lane is a single-thread pool with an unbounded queue, run
+ * either by a dedicated platform thread or, via {@link #ofVirtualThreads(int, String)}, by a virtual thread
+ * that is started on demand and ends when the lane goes idle (so many lanes cost nothing while quiet).
+ * </p>
+ * @author Course
+ */
+public class StripedExecutor extends AbstractExecutorService {
+    /** idle time after which a virtual lane's thread ends */
+    private static final long VIRTUAL_KEEP_ALIVE_MILLIS = 1_000;
+
+    private final ThreadPoolExecutor[] lanes;
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    /**
+     * Lanes each running on one dedicated platform thread.
+     * @param stripes number of serial lanes (>= 1)
+     * @param name thread name prefix (non-null)
+     * @throws IllegalArgumentException if stripes < 1 or name null
+     */
+    public StripedExecutor(int stripes, String name) {
+        this(stripes, name, false);
+    }
+
+    /**
+     * Lanes run by virtual threads: blocking calls (JDBC, file IO) park the virtual thread instead of
+     * occupying a platform thread, so many more lanes can wait on the database at once.
+     * @param stripes number of serial lanes (>= 1)
+     * @param name thread name prefix (non-null)
+     * @return new executor
+     * @throws IllegalArgumentException if stripes < 1 or name null
+     */
+    public static StripedExecutor ofVirtualThreads(int stripes, String name) {
+        return new StripedExecutor(stripes, name, true); }
+
+    private StripedExecutor(int stripes, String name, boolean virtual) {
+        if (stripes < 1) throw new IllegalArgumentException("stripes must be >= 1");
+        if (name == null) throw new IllegalArgumentException("name cannot be null");
+        this.lanes = new ThreadPoolExecutor[stripes];
+        for (int i = 0; i < stripes; i++) {
+            String threadName = name + "-" + i;
+            if (virtual) {
+                lanes[i] = new ThreadPoolExecutor(1, 1, VIRTUAL_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), Thread.ofVirtual().name(threadName).factory());
+                lanes[i].allowCoreThreadTimeOut(true); // idle lanes hold no thread
+            } else {
+                lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    r -> new Thread(r, threadName));
+            }
+        }
+    }
+
+    /**
+     * Run a command on the lane of its key, after every command submitted earlier with a key on that lane.
+     * @param key ordering key (e.g. task id)
+     * @param command command to run (non-null)
+     * @throws java.util.concurrent.RejectedExecutionException if shut down
+     */
+    public void execute(int key, Runnable command) {
+        if (command == null) throw new NullPointerException("command");
+        lanes[stripeFor(key)].execute(command);
+    }
+
+    /**
+     * Keyed variant of {@link #submit(Runnable)}.
+     * @param key ordering key (e.g. task id)
+     * @param command command to run (non-null)
+     * @return future completing when the command has run
+     */
+    public Future<?> submit(int key, Runnable command) {
+        if (command == null) throw new NullPointerException("command");
+        RunnableFuture<Void> future = newTaskFor(command, null);
+        execute(key, future);
+        return future;
+    }
+
+    /** Run an unkeyed command on the next lane (round-robin; no ordering with other commands). */
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) throw new NullPointerException("command");
+        lanes[Math.floorMod(nextLane.getAndIncrement(), lanes.length)].execute(command);
+    }
+
+    /**
+     * @param key ordering key
+     * @return index of the lane running the key's commands
+     */
+    public int stripeFor(int key) {
+        return Math.floorMod(key, lanes.length); } // ids are dense and sequential: modulo spreads them evenly
+
+    /** @return number of lanes */
+    public int getStripeCount() {
+        return lanes.length; }
+
+    /** @return commands completed over all lanes (approximate while running) */
+    public long getCompletedTaskCount() {
+        long completed = 0;
+        for (ThreadPoolExecutor lane : lanes) completed += lane.getCompletedTaskCount();
+        return completed;
+    }
+
+    @Override
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) lane.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = new ArrayList<>();
+        for (ThreadPoolExecutor lane : lanes) pending.addAll(lane.shutdownNow());
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return lanes[0].isShutdown(); }
+
+    @Override
+    public boolean isTerminated() {
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.isTerminated()) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) return false;
+        }
+        return true;
+    }
+}
@@ -6,18 +6,29 @@ import il.ac.hit.project.main.model.report.ReportVisitor;
 import il.ac.hit.project.main.model.report.external.IReportExporter;
 import il.ac.hit.project.main.model.task.TaskPriority;
 import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
 import il.ac.hit.project.main.model.task.Task;
 import il.ac.hit.project.main.model.task.ITaskState;
 import il.ac.hit.project.main.model.task.ToDoState;
 import il.ac.hit.project.main.model.task.InProgressState;
 import il.ac.hit.project.main.model.task.CompletedState;
 import il.ac.hit.project.main.model.task.TaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskEdit;
 import il.ac.hit.project.main.view.ITasksObserver;
-import il.ac.hit.project.main.view.ITaskAttributeObserver;
+import il.ac.hit.project.main.view.ITaskChangeBatchObserver;
+import il.ac.hit.project.main.view.TaskChangeBatcher;
+import il.ac.hit.project.main.view.TaskChangePublisher;
+import il.ac.hit.project.main.view.TaskListDiff;
 import il.ac.hit.project.main.view.IView;
 import il.ac.hit.project.main.view.MessageType;
+import il.ac.hit.project.main.viewmodel.combinator.FilterCompiler;
 import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.SearchKeyIndex;
 import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.persistent.PersistentTaskList;
+import il.ac.hit.project.main.viewmodel.persistent.PersistentTaskMap;
 import il.ac.hit.project.main.viewmodel.strategy.ISortingStrategy;
 import il.ac.hit.project.main.viewmodel.strategy.SortByCreationDateStrategyI;
 import il.ac.hit.project.main.viewmodel.strategy.SortingOption;
@@ -26,42 +37,62 @@ import il.ac.hit.project.main.model.report.external.PdfReportWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Date;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
 
 /**
  * ViewModel for the Task Manager (MVVM).
  * <p>
  * Responsibilities:
  * - Mediates between View (UI) and Model (DAO).
- * - Maintains in-memory task cache and applies filters (Combinator pattern) and sorting (Strategy pattern).
- * - Publishes changes to observers (Observer pattern via ITasksObserver and ITaskAttributeObserver).
+ * - Maintains an id-indexed, insertion-ordered task cache (O(1) lookup / replace / remove) and applies filters (Combinator pattern) and sorting (Strategy pattern);
+ *   single-task changes update the sorted visible list incrementally, filter/strategy changes recompute it.
+ * - Publishes changes to observers (Observer pattern via ITasksObserver; model attribute changes arrive
+ *   coalesced through TaskChangeBatcher).
  * - Coordinates async operations via an ExecutorService.
  * </p>
  * All public methods include validation and never block the Swing EDT directly; long operations
  * are dispatched to an ExecutorService. UI feedback is delegated to the IView abstraction.
  * @author Course
  */
-public class TasksViewModel implements IViewModel {
+public final class TasksViewModel implements IViewModel {
+    /** Logger for the TasksViewModel class */
+    private static final Logger LOGGER = Logger.getLogger(TasksViewModel.class.getName());
+
     // ------------------------------------------------------------
     // Observer Wiring & Core State
     // ------------------------------------------------------------
-    private IView view;                     // reference to view (maybe swapped in tests)
-    private ITasksDAO tasksDAO;             // backing DAO (proxy or concrete)
-    private final List<ITasksObserver> observers = new ArrayList<>(); // bulk observers
-    private List<ITask> tasks = new ArrayList<>();       // visible (after filter + sort)
-    private List<ITask> allTasks = new ArrayList<>();    // full cache from DAO
-    private final ExecutorService service;               // async executor
-    private ISortingStrategy currentISortingStrategy;      // active strategy
-    private ITaskFilter currentFilter = ITaskFilter.all(); // programmatic filter (composed)
-    private String currentSearchText = "";              // UI search value
-    private String currentStateFilter = "All";          // UI state filter value
+    private volatile IView view;            // reference to view (maybe swapped in tests)
+    private volatile ITasksDAO tasksDAO;    // backing DAO (proxy or concrete)
+    private final List<ITasksObserver> observers = new CopyOnWriteArrayList<>(); // bulk observers (added from any thread)
+    private volatile PersistentTaskList tasks = PersistentTaskList.empty(); // visible (after filter + sort); immutable snapshot
+    private final Set<Integer> changedIds = new HashSet<>(); // edited since last notify (guarded by this)
+    private long changeCount;                            // filter / sort recomputes and task edits (guarded by this)
+    private final Object notifyLock = new Object();      // serializes diff computation + delivery
+    private final DebouncedSearch search;                // search-as-you-type pipeline (created last in the constructor)
+    private List<ITask> lastPublished = List.of();       // base of the next diff (guarded by notifyLock)
+    private volatile PersistentTaskMap allTasks = PersistentTaskMap.empty(); // full cache from DAO: id -> task (writes guarded by this)
+    private final StripedExecutor service;               // async executor: commands for one task id run in order
+    private final CommandMetrics commandMetrics = new CommandMetrics(); // per-command latency / throughput
+    private volatile ISortingStrategy currentISortingStrategy; // active strategy
+    private final FilterSortEngine filterSortEngine = new FilterSortEngine(); // sequential / parallel recompute
+    private volatile ITaskFilter currentFilter = ITaskFilter.all(); // programmatic filter (composed)
+    private volatile String currentSearchText = "";     // UI search value
+    private volatile String currentStateFilter = "All"; // UI state filter value
+    private volatile CompiledCombinedFilter compiledFilter; // memoized compiled form of the combined filter
+    private final SearchKeyIndex searchKeys = new SearchKeyIndex(); // lowercased title / description per task
+    private TaskChangePublisher changePublisher;        // lazily attached reactive change stream
 
     /**
      * Construct a new ViewModel.
@@ -70,12 +101,25 @@ public class TasksViewModel implements IViewModel {
      * @throws IllegalArgumentException if tasksDAO null
      */
     public TasksViewModel(ITasksDAO tasksDAO, IView view) {
+        this(tasksDAO, view, CommandExecutionMode.PLATFORM_THREADS);
+    }
+
+    /**
+     * Construct a new ViewModel running its commands in the given mode.
+     * @param tasksDAO model data source (non-null)
+     * @param view view reference (maybe null initially)
+     * @param mode platform or virtual command threads (non-null)
+     * @throws IllegalArgumentException if tasksDAO or mode null
+     */
+    public TasksViewModel(ITasksDAO tasksDAO, IView view, CommandExecutionMode mode) {
         /* Purpose: construct ViewModel, capture DAO & view, initialize executor & default strategy */
         if (tasksDAO == null) throw new IllegalArgumentException("tasksDAO cannot be null");
+        if (mode == null) throw new IllegalArgumentException("mode cannot be null");
         this.tasksDAO = tasksDAO;
         this.view = view;
-        this.service = Executors.newFixedThreadPool(8); // fixed pool for predictable concurrency
+        this.service = mode.createExecutor("task-command"); // per-task ordering, parallel across tasks
         this.currentISortingStrategy = new SortByCreationDateStrategyI(); // default sort
+        this.search = new DebouncedSearch(DebouncedSearch.DEFAULT_DEBOUNCE_MILLIS, this::runSearch); // after other state
         // Initial loading and observer registration occurs after construction in Main
     }
 
@@ -92,67 +136,47 @@ public class TasksViewModel implements IViewModel {
     }
 
     /**
-     * Register granular attribute observers (must be called post-construction).
-     * Wires a ITaskAttributeObserver to react to fine-grained model updates and
-     * re-apply current filters/sorting to refresh the visible list.
+     * Register attribute observers (must be called post-construction).
+     * Subscribes to the shared {@link TaskChangeBatcher} so a burst of fine-grained model updates
+     * (several attributes, several tasks) re-applies the current filters/sorting and notifies
+     * observers once per batch window instead of once per notification. Also attaches the search-key index,
+     * so titles and descriptions are re-lowercased only when they change.
      */
     public void registerAttributeObservers() {
-        /* Purpose: subscribe to fine-grained Task attribute events and trigger recompute */
-        Task.getAttributeSubject().addObserver(new ITaskAttributeObserver() {
-            @Override
-            public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) {
-                /* Purpose: handle state mutation */
-                System.out.println("Task " + task.getId() + " state changed from " +
-                    oldState.getDisplayName() + " to " + newState.getDisplayName());
-                applyFilterAndSort(); // recompute with new state
-                notifyObservers();    // propagate change
-            }
-
-            @Override
-            public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
-                System.out.println("Task " + task.getId() + " title changed from '" +
-                    oldTitle + "' to '" + newTitle + "'");
-                applyFilterAndSort();
-                notifyObservers();
-            }
-
-            @Override
-            public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) {
-                System.out.println("Task " + task.getId() + " priority changed from " +
-                    oldPriority + " to " + newPriority);
-                applyFilterAndSort();
-                notifyObservers();
-            }
-
-            @Override
-            public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) {
-                System.out.println("Task " + task.getId() + " description changed");
-                applyFilterAndSort();
-                notifyObservers();
-            }
-
-            @Override
-            public void onUpdatedDateChanged(ITask task, java.util.Date oldDate, java.util.Date newDate) {
-                System.out.println("Task " + task.getId() + " updated date changed");
-                notifyObservers();
-            }
-
+        /* Purpose: subscribe to coalesced Task change batches and trigger one recompute per batch */
+        searchKeys.attach(Task.getAttributeSubject()); // keep search keys current as titles / descriptions change
+        TaskChangeBatcher.getInstance().addObserver(new ITaskChangeBatchObserver() {
             @Override
-            public void onTaskAdded(ITask task) {
-                System.out.println("Task " + task.getId() + " added");
-                applyFilterAndSort();
-                notifyObservers();
+            public void onBatch(List<TaskChange> changes) {
+                onBatch(changes, List.of(), List.of());
             }
 
             @Override
-            public void onTaskRemoved(ITask task) {
-                System.out.println("Task " + task.getId() + " removed");
-                applyFilterAndSort();
-                notifyObservers();
+            public void onBatch(List<TaskChange> changes, List<ITask> added, List<ITask> removed) {
+                /* Purpose: one recompute + one notify per batch */
+                LOGGER.fine(() -> "Task batch: " + changes.size() + " changed, " +
+                    added.size() + " added, " + removed.size() + " removed");
+                markChanged(changes);
+                if (!added.isEmpty() || !removed.isEmpty() || affectsVisibleList(changes)) {
+                    // membership / order may have changed: move just the touched tasks when possible
+                    if (!applyIncrementally(changes, added, removed)) applyFilterAndSort();
+                }
+                notifyObservers(); // timestamp-only batches just refresh cells
             }
         });
     }
 
+    /**
+     * @param changes merged changes of one batch
+     * @return true if any change touches an attribute filters or sorting read (anything but the updated time)
+     */
+    private static boolean affectsVisibleList(List<TaskChange> changes) {
+        for (TaskChange change : changes) {
+            if (change.attributes().size() > 1 || !change.changed(TaskAttribute.UPDATED_DATE)) return true;
+        }
+        return false;
+    }
+
     /**
      * Add a bulk tasks observer (duplicates allowed for simplicity).
      * @param observer observer instance (ignored if null)
@@ -165,18 +189,37 @@ public class TasksViewModel implements IViewModel {
     /**
      * Notify all registered bulk tasks observers after the internal visible list is updated.
      * If the bound view implements ITasksObserver it is notified first for deterministic ordering.
+     * Observers receive a {@link TaskListDiff} against the previously published list (observers that
+     * ignore diffs get the full list); notifications are delivered one at a time, in order.
      */
     public void notifyObservers() {
         /* Purpose: broadcast visible list changes to all listeners */
-        if (view instanceof ITasksObserver vo) { // primary view update
-            vo.onTasksChanged(tasks);
-        }
-        for (ITasksObserver observer : observers) { // propagate to extras
-            if (observer == view) { continue; } // avoid duplicate notify
-            observer.onTasksChanged(tasks);
+        synchronized (notifyLock) {
+            List<ITask> snapshot;
+            Set<Integer> changed;
+            synchronized (this) { // list and changed ids of the same version
+                snapshot = tasks;
+                changed = Set.copyOf(changedIds);
+                changedIds.clear();
+            }
+            TaskListDiff diff = TaskListDiff.compute(lastPublished, snapshot, changed);
+            lastPublished = snapshot;
+            if (view instanceof ITasksObserver vo) { // primary view update
+                vo.onTasksChanged(diff);
+            }
+            for (ITasksObserver observer : observers) { // propagate to extras
+                if (observer == view) { continue; } // avoid duplicate notify
+                observer.onTasksChanged(diff);
+            }
         }
     }
 
+    /** Record the ids of changed tasks for the next diff's {@link TaskListDiff#changedIds()}. */
+    private synchronized void markChanged(List<TaskChange> changes) {
+        changeCount++; // tasks edited in place: snapshots may be unchanged
+        for (TaskChange change : changes) changedIds.add(change.task().getId());
+    }
+
     // ------------------------------------------------------------
     // Filtering & Sorting
     // ------------------------------------------------------------
@@ -185,27 +228,60 @@ public class TasksViewModel implements IViewModel {
      * Apply current filter + sorting to internal visible list.
      * Rebuilds the tasks field from the allTasks cache after composing active filters.
      */
-    private void applyFilterAndSort() {
+    private synchronized void applyFilterAndSort() {
         /* Purpose: recompute visible tasks from cache using filters & current sort */
+        changeCount++; // an empty result keeps the same (shared empty) list
         ITaskFilter combinedFilter = createCombinedFilter(); // compose UI + programmatic
-        this.tasks = allTasks.stream()
-            .filter(combinedFilter::test)
-            .collect(Collectors.toList()); // new list maintains order for table mapping
-        if (currentISortingStrategy != null) { // strategy may be swapped at runtime
-            currentISortingStrategy.sort(this.tasks);
-        }
+        // new list maintains order for table mapping; large boards are filtered and sorted in parallel
+        this.tasks = PersistentTaskList.of(filterSortEngine.apply(allTasks.values(), combinedFilter, currentISortingStrategy));
     }
 
+    /**
+     * @param threshold task count from which filtering and sorting run in parallel (>= 1)
+     * @throws IllegalArgumentException if threshold < 1
+     */
+    public void setParallelThreshold(int threshold) {
+        filterSortEngine.setParallelThreshold(threshold); }
+
     /**
      * Compose active UI + programmatic filters (Combinator pattern).
      * @return combined AND filter representing current state
      */
     private ITaskFilter createCombinedFilter() {
-        /* Purpose: AND-combine search, state, and programmatic filters */
-        ITaskFilter searchFilter = TaskFilters.bySearchText(currentSearchText); // text match filter
-        ITaskFilter stateFilter = TaskFilters.byStateDisplayName(currentStateFilter); // state display filter
+        return createCombinedFilter(currentSearchText); }
+
+    /**
+     * Compose the filters with a given search text (the others as currently set).
+     * @param searchText search text to match
+     * @return combined AND filter
+     */
+    private ITaskFilter createCombinedFilter(String searchText) {
+        /* Purpose: AND-combine search, state, and programmatic filters, compiled once per combination */
+        String stateFilterName = currentStateFilter;
+        ITaskFilter programmaticFilter = currentFilter;
+        CompiledCombinedFilter cached = compiledFilter;
+        if (cached != null && cached.matches(searchText, stateFilterName, programmaticFilter)) return cached.filter();
+        ITaskFilter searchFilter = TaskFilters.bySearchText(searchText); // text match filter
+        ITaskFilter stateFilter = TaskFilters.byStateDisplayName(stateFilterName); // state display filter
         ITaskFilter combinedUIFilter = searchFilter.and(stateFilter); // AND combine UI filters
-        return combinedUIFilter.and(currentFilter); // include programmatic filter
+        ITaskFilter compiled = FilterCompiler.compile(combinedUIFilter.and(programmaticFilter), searchKeys); // include programmatic filter
+        compiledFilter = new CompiledCombinedFilter(searchText, stateFilterName, programmaticFilter, compiled);
+        return compiled;
+    }
+
+    /**
+     * Last compiled combined filter and the inputs it was built from.
+     * @param searchText search text
+     * @param stateFilter state display filter
+     * @param programmaticFilter programmatic filter (compared by identity)
+     * @param filter compiled filter
+     */
+    private record CompiledCombinedFilter(String searchText, String stateFilter, ITaskFilter programmaticFilter,
+                                          ITaskFilter filter) {
+        boolean matches(String searchText, String stateFilter, ITaskFilter programmaticFilter) {
+            return this.searchText.equals(searchText) && this.stateFilter.equals(stateFilter)
+                && this.programmaticFilter == programmaticFilter;
+        }
     }
 
     /**
@@ -215,6 +291,7 @@ public class TasksViewModel implements IViewModel {
      */
     public void filterTasks(String searchText) {
         /* Purpose: update free-text filter & refresh visible list */
+        search.supersede(); // pending keystroke searches are stale now
         this.currentSearchText = searchText != null ? searchText : ""; // normalize
         applyFilterAndSort();
         notifyObservers();
@@ -247,6 +324,7 @@ public class TasksViewModel implements IViewModel {
      */
     public void clearFilters() {
         /* Purpose: reset all filters to defaults */
+        search.supersede();
         this.currentSearchText = "";
         this.currentStateFilter = "All";
         this.currentFilter = ITaskFilter.all();
@@ -267,6 +345,227 @@ public class TasksViewModel implements IViewModel {
         notifyObservers();
     }
 
+    // ------------------------------------------------------------
+    // Search As You Type
+    // ------------------------------------------------------------
+
+    /**
+     * Search-as-you-type entry point: debounced and run off the EDT. Each call supersedes the previous
+     * query, whose pending or running computation is abandoned; only the latest stable query updates the
+     * visible list and notifies observers.
+     * @param searchText current search field text (null becomes empty)
+     */
+    public void searchAsYouType(String searchText) {
+        /* Purpose: schedule a debounced, cancellable search */
+        search.submit(searchText != null ? searchText : "");
+    }
+
+    /**
+     * @param millis quiet period between the last keystroke and the search (>= 0)
+     * @throws IllegalArgumentException if negative
+     */
+    public void setSearchDebounceMillis(long millis) {
+        search.setDebounceMillis(millis); }
+
+    /**
+     * Run one debounced search. A query that narrows the active one (contains it) only re-filters the
+     * current visible list, which already passes the other filters and is sorted; any other query filters
+     * the whole cache and sorts. The snapshots are read under the lock but filtered and sorted outside it,
+     * so commands and change batches are not held up. Filtering stops as soon as a newer query arrives; a
+     * finished result is published only if the query is still current and the snapshots are unchanged, and
+     * recomputed from the new snapshots otherwise.
+     * @param query search text
+     * @param generation search generation of this run
+     */
+    private void runSearch(String query, long generation) {
+        /* Purpose: compute and publish one search result unless superseded */
+        BooleanSupplier superseded = () -> !search.isCurrent(generation);
+        while (true) {
+            PersistentTaskList visible;
+            PersistentTaskMap cache;
+            String activeQuery;
+            ITaskFilter filter;
+            ISortingStrategy strategy;
+            long changes;
+            synchronized (this) { // one consistent set of immutable snapshots
+                changes = changeCount;
+                visible = tasks;
+                cache = allTasks;
+                activeQuery = currentSearchText;
+                filter = createCombinedFilter(query);
+                strategy = currentISortingStrategy;
+            }
+            List<ITask> result;
+            if (narrows(activeQuery, query)) { // visible list is already filtered and sorted: keep its order
+                ITaskFilter narrower = FilterCompiler.compile(TaskFilters.bySearchText(query), searchKeys);
+                result = filterSortEngine.apply(visible, narrower, null, superseded);
+            } else {
+                result = filterSortEngine.apply(cache.values(), filter, strategy, superseded);
+            }
+            synchronized (this) {
+                if (result == null || superseded.getAsBoolean()) return; // drop the work
+                if (changeCount == changes && tasks == visible && allTasks == cache
+                        && currentSearchText.equals(activeQuery)) {
+                    this.currentSearchText = query;
+                    this.tasks = PersistentTaskList.of(result);
+                    break;
+                }
+            } // filters, sort, cache or tasks changed meanwhile: recompute from the new snapshots
+        }
+        notifyObservers();
+    }
+
+    /**
+     * @return true if every task matching the new query also matches the old one (the new query contains
+     *         the old one, case-insensitively, or the old one matched everything)
+     */
+    private static boolean narrows(String oldQuery, String newQuery) {
+        if (oldQuery.isBlank()) return true;
+        return !newQuery.isBlank() && newQuery.toLowerCase().contains(oldQuery.toLowerCase());
+    }
+
+    // ------------------------------------------------------------
+    // Incremental Maintenance
+    // ------------------------------------------------------------
+
+    /** batches touching more tasks than this are re-filtered and re-sorted from scratch */
+    private static final int INCREMENTAL_LIMIT = 64;
+
+    /**
+     * Apply one batch of model changes to the visible list without a full recompute: only the touched
+     * tasks are re-tested against the active filter and removed / re-inserted in the sorted list by
+     * binary search (O(log n) comparisons each).
+     * @param changes merged attribute changes
+     * @param added tasks added in the batch
+     * @param removed tasks removed in the batch
+     * @return false if the batch needs {@link #applyFilterAndSort()} instead (no strategy comparator,
+     *         or a batch large enough that re-sorting is cheaper)
+     */
+    private synchronized boolean applyIncrementally(List<TaskChange> changes, List<ITask> added, List<ITask> removed) {
+        /* Purpose: move only the tasks a batch touched */
+        Comparator<ITask> order = currentISortingStrategy == null ? null : currentISortingStrategy.getComparator();
+        if (order == null || changes.size() + added.size() + removed.size() > INCREMENTAL_LIMIT) return false;
+        if (changes.size() == 1 && added.isEmpty() && removed.isEmpty()) {
+            applyTaskChange(valuesBefore(changes.getFirst()), changes.getFirst().task());
+            return true;
+        }
+        ITaskFilter filter = createCombinedFilter();
+        PersistentTaskList visible = tasks; // derive the next version; readers keep the published one
+        for (ITask task : removed) { // values unchanged: current values locate the row
+            if (filter.test(task)) visible = removeVisible(visible, task, task, order);
+        }
+        List<ITask> reinsert = new ArrayList<>(changes.size() + added.size());
+        for (TaskChange change : changes) { // take every changed task out first so the rest stays sorted
+            ITask before = valuesBefore(change);
+            PersistentTaskList without = filter.test(before) ? removeVisible(visible, before, change.task(), order) : visible;
+            if (without != visible || isCached(change.task())) reinsert.add(change.task());
+            visible = without;
+        }
+        for (ITask task : added) {
+            if (isCached(task)) reinsert.add(task);
+        }
+        for (ITask task : reinsert) visible = insertVisible(visible, task, filter, order);
+        tasks = visible;
+        return true;
+    }
+
+    /**
+     * Reposition one task after a command edited it (same path as a batch, for immediate feedback).
+     * An edit that keeps the task's row (the common case: only non-sort attributes changed) leaves the
+     * visible list untouched, so observers get a structure-free diff; otherwise a new version shares all
+     * but O(log n) nodes with the published one.
+     * @param before snapshot of the task's values before the edit
+     * @param task edited task
+     */
+    private synchronized void applyTaskChange(ITask before, ITask task) {
+        /* Purpose: incremental refresh for a single edited task */
+        changedIds.add(task.getId());
+        changeCount++; // the visible list may stay as it is
+        Comparator<ITask> order = currentISortingStrategy == null ? null : currentISortingStrategy.getComparator();
+        if (order == null) {
+            applyFilterAndSort();
+            return;
+        }
+        ITaskFilter filter = createCombinedFilter();
+        PersistentTaskList visible = tasks;
+        int row = filter.test(before) ? indexOfVisible(visible, before, task, order) : -1;
+        if (row < 0 && !isCached(task)) return; // event for a task this ViewModel does not hold
+        if (row >= 0 && visible.get(row) == task && filter.test(task) && staysAt(visible, row, task, order)) return;
+        if (row >= 0) visible = visible.removed(row);
+        tasks = insertVisible(visible, task, filter, order);
+    }
+
+    /** @return true if the task at row is still ordered between its neighbours */
+    private static boolean staysAt(List<ITask> visible, int row, ITask task, Comparator<ITask> order) {
+        return (row == 0 || order.compare(visible.get(row - 1), task) < 0)
+            && (row == visible.size() - 1 || order.compare(task, visible.get(row + 1)) < 0);
+    }
+
+    /**
+     * Remove a task from the sorted visible list.
+     * @param visible sorted visible list
+     * @param before task values the list was sorted with
+     * @param task the task (its id identifies the row)
+     * @param order active comparator
+     * @return list without the task, or the same list if the task was not visible
+     */
+    private static PersistentTaskList removeVisible(PersistentTaskList visible, ITask before, ITask task, Comparator<ITask> order) {
+        int i = indexOfVisible(visible, before, task, order);
+        return i < 0 ? visible : visible.removed(i);
+    }
+
+    /**
+     * Locate a task in the sorted visible list: binary search with its old values, then its current values,
+     * then a linear scan by id.
+     * @return row of the task, or -1 if not visible
+     */
+    private static int indexOfVisible(List<ITask> visible, ITask before, ITask task, Comparator<ITask> order) {
+        int id = task.getId();
+        int i = Collections.binarySearch(visible, before, order);
+        if (i < 0 || visible.get(i).getId() != id) {
+            i = before == task ? -1 : Collections.binarySearch(visible, task, order); // already repositioned
+            if (i < 0 || visible.get(i).getId() != id) i = indexOfId(visible, id);    // edited concurrently
+        }
+        return i;
+    }
+
+    /**
+     * Insert a task at its sorted position if it passes the filter (replacing a stale entry with its id).
+     * @return list with the task, or the same list if filtered out
+     */
+    private static PersistentTaskList insertVisible(PersistentTaskList visible, ITask task, ITaskFilter filter, Comparator<ITask> order) {
+        if (!filter.test(task)) return visible;
+        int i = Collections.binarySearch(visible, task, order);
+        return i >= 0 ? visible.with(i, task) : visible.inserted(-i - 1, task);
+    }
+
+    /** @return position of the task with the given id, or -1 (linear fallback) */
+    private static int indexOfId(List<ITask> visible, int id) {
+        int i = 0;
+        for (ITask task : visible) { // iterator: O(1) per step on the tree
+            if (task.getId() == id) return i;
+            i++;
+        }
+        return -1;
+    }
+
+    /** @return true if the task belongs to this ViewModel's cache (events may come from other tasks) */
+    private boolean isCached(ITask task) {
+        return allTasks.containsKey(task.getId()); }
+
+    /** @return detached task carrying a change's old values (probe for the pre-change sort position) */
+    private static ITask valuesBefore(TaskChange change) {
+        return Task.hydrate(change.task().getId(), change.oldTitle(), change.oldDescription(), change.oldState(),
+            change.oldPriority(), ((ITaskDetails) change.task()).getCreationTime(), change.oldUpdatedTime());
+    }
+
+    /** @return detached copy of a task's current values (taken before an edit) */
+    private static ITask valuesOf(ITask task) {
+        ITaskDetails d = (ITaskDetails) task;
+        return Task.hydrate(task.getId(), d.getTitle(), d.getDescription(), d.getState().toStateType().toState(),
+            d.getPriority(), d.getCreationTime(), d.getUpdatedTime());
+    }
+
     // ------------------------------------------------------------
     // Loading & Lifecycle
     // ------------------------------------------------------------
@@ -277,14 +576,14 @@ public class TasksViewModel implements IViewModel {
      */
     public final void loadTasks() {
         /* Purpose: async load from DAO into cache then refresh visible list */
-        getService().submit(() -> {
+        submitCommand(() -> {
             try {
                 ITask[] tasksArray = tasksDAO.getTasks(); // fetch snapshot
-                this.allTasks = new ArrayList<>(Arrays.asList(tasksArray)); // cache copy
+                resetCache(tasksArray);
                 applyFilterAndSort();
                 notifyObservers();
                 if (view != null) {
-                    view.showMessage("Tasks loaded (" + allTasks.size() + ")", MessageType.INFO);
+                    view.showMessage("Tasks loaded (" + tasksArray.length + ")", MessageType.INFO);
                 }
             } catch (TasksDAOException e){
                 System.err.println("Error loading tasks: " + e.getMessage());
@@ -295,8 +594,24 @@ public class TasksViewModel implements IViewModel {
         });
     }
 
+    /** Run a command on any lane, recording its timings. */
+    private void submitCommand(Runnable command) {
+        service.submit(commandMetrics.measure(command)); }
+
+    /** Run a command after earlier commands for the same task, recording its timings. */
+    private void submitCommand(int taskId, Runnable command) {
+        service.submit(taskId, commandMetrics.measure(command)); }
+
+    /**
+     * Latency / throughput of the commands run so far (e.g. to compare {@link CommandExecutionMode}s).
+     * @return live command metrics
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics; }
+
     /**
      * Expose executor service for tests (e.g., graceful shutdown or await completion).
+     * Commands touching one task are keyed by its id on a {@link StripedExecutor}; others run on any lane.
      * @return shared ExecutorService
      */
     public java.util.concurrent.ExecutorService getService() {
@@ -304,11 +619,33 @@ public class TasksViewModel implements IViewModel {
         return service;
     }
 
+    /**
+     * Reactive stream of model attribute changes for consumers that must not slow the UI (exporters,
+     * sync agents). Subscribers pull with {@link Flow.Subscription#request(long)}; use
+     * {@link TaskChangePublisher#subscribe(Flow.Subscriber, TaskChangePublisher.BackpressureStrategy, int)}
+     * to pick a buffering strategy. Created and attached to the task attribute subject on first use.
+     * @return shared change publisher
+     */
+    public synchronized TaskChangePublisher getChangePublisher() {
+        /* Purpose: lazily expose the Flow publisher fed by the attribute event bus */
+        if (changePublisher == null) {
+            changePublisher = new TaskChangePublisher();
+            changePublisher.attach(Task.getAttributeSubject());
+        }
+        return changePublisher;
+    }
+
     /**
      * Gracefully shutdown executor service interrupting lingering tasks after timeout.
+     * Completes the change publisher's subscriptions if it was created.
      */
     public void shutdown() {
         /* Purpose: gracefully terminate executor service */
+        synchronized (this) {
+            if (changePublisher != null) changePublisher.close(); // subscribers get onComplete
+        }
+        searchKeys.detach();
+        search.close(); // stop the search-as-you-type thread
         try {
             service.shutdown(); // begin graceful shutdown
             if (!service.awaitTermination(5, TimeUnit.SECONDS)) { // wait briefly
@@ -320,6 +657,40 @@ public class TasksViewModel implements IViewModel {
         }
     }
 
+    // ------------------------------------------------------------
+    // Task Cache (id index)
+    // ------------------------------------------------------------
+
+    // The cache is a persistent map: writers (serialized by this) publish a new version through the
+    // volatile field, readers take the current version without locking and never see a partial update.
+
+    /** Replace the cache contents with a DAO snapshot (iterated in id order, the DAO's load order). */
+    private synchronized void resetCache(ITask[] snapshot) {
+        this.allTasks = PersistentTaskMap.of(snapshot); }
+
+    /** @return cached task with the id, or null */
+    private ITask cachedTask(int id) {
+        return allTasks.get(id); }
+
+    /** Add a task to the cache (after the DAO assigned its id). */
+    private synchronized void cachePut(ITask task) {
+        allTasks = allTasks.put(task); }
+
+    /** Swap in a fresh instance of a cached task; ignored if the id is not cached. */
+    private synchronized void cacheReplace(ITask task) {
+        allTasks = allTasks.replace(task); }
+
+    /** @return removed task, or null if the id was not cached */
+    private synchronized ITask cacheRemove(int id) {
+        ITask removed = allTasks.get(id);
+        allTasks = allTasks.remove(id);
+        return removed;
+    }
+
+    /** @return consistent snapshot of the cached tasks in id order (O(1); safe to iterate while commands run) */
+    private Collection<ITask> cachedTasks() {
+        return allTasks.values(); }
+
     // ------------------------------------------------------------
     // CRUD Operations
     // ------------------------------------------------------------
@@ -331,11 +702,11 @@ public class TasksViewModel implements IViewModel {
     public void addTask(String title, String description, TaskPriority priority) {
         if (title == null || title.isBlank()) throw new IllegalArgumentException("title cannot be null/blank");
         final TaskPriority effPriority = (priority == null ? TaskPriority.MEDIUM : priority);
-        getService().submit(() -> {
+        submitCommand(() -> {
             try {
                 ITask newTask = new Task(0, title, description, ToDoState.getInstance(), new Date(), effPriority);
                 tasksDAO.addTask(newTask);
-                this.allTasks.add(newTask);
+                cachePut(newTask);
                 Task.getAttributeSubject().notifyTaskAdded(newTask);
                 if (view != null) view.showMessage("Task '" + title + "' added", MessageType.SUCCESS);
             } catch (TasksDAOException e) {
@@ -360,31 +731,26 @@ public class TasksViewModel implements IViewModel {
      */
     public void updateTask(int id, String newTitle, String newDescription, ITaskState newState, TaskPriority newPriority) {
         /* Purpose: mutate task fields & persist asynchronously */
-        getService().submit(() -> {
+        submitCommand(id, () -> { // ordered after earlier commands for this task
             try {
-                Task found = (Task) allTasks.stream() // search cache first
-                        .filter(t -> t.getId() == id)
-                        .findFirst()
-                        .orElse(null);
+                Task found = (Task) cachedTask(id); // search cache first
                 if (found == null) { // fallback: load from DAO
-                    found = (Task) tasksDAO.getTask(id);
+                    found = (Task) tasksDAO.findTask(id);
                     if (found == null) { // not found: notify & exit
                         if (view != null) view.showMessage("Task not found: id=" + id, MessageType.WARNING);
                         return;
                     }
-                    Task finalFound = found;
-                    allTasks.replaceAll(t -> t.getId() == id ? finalFound : t); // sync cache
+                    cacheReplace(found); // sync cache
                 }
                 final Task taskRef = found; // effectively final for lambda clarity
+                ITask before = valuesOf(taskRef);
 
-                taskRef.setTitle(newTitle);
-                taskRef.setDescription(newDescription);
-                taskRef.setState(newState);
-                taskRef.setPriority(newPriority);
+                // one atomic edit -> one updatedDate bump and one combined change event
+                taskRef.apply(new TaskEdit(newTitle, newDescription == null ? "" : newDescription, newState, newPriority));
 
                 tasksDAO.updateTask(taskRef);             // persist updates
-                allTasks.replaceAll(t -> t.getId() == id ? taskRef : t); // refresh cache
-                applyFilterAndSort();                     // recompute visible list
+                cacheReplace(taskRef);                    // refresh cache
+                applyTaskChange(before, taskRef);         // reposition in visible list
                 notifyObservers();                        // push to subscribers
                 if (view != null) {
                     view.showMessage("Task updated: id=" + id, MessageType.SUCCESS);
@@ -412,20 +778,21 @@ public class TasksViewModel implements IViewModel {
      */
     public void moveTaskStateUp(int taskId) {
         /* Purpose: advance task state along workflow */
-        getService().submit(() -> {
+        submitCommand(taskId, () -> { // ordered after earlier commands for this task
             try {
-                Task task = (Task) tasksDAO.getTask(taskId); // fetch fresh instance
+                Task task = (Task) tasksDAO.findTask(taskId); // fetch fresh instance (null if missing)
                 if (task == null) {
                     if (view != null) view.showMessage("Task not found: id=" + taskId, MessageType.WARNING);
                     return;
                 }
+                ITask before = valuesOf(task);                               // pre-edit values
                 TaskState newState = task.getState().next();                 // compute next state
                 ITaskState newITaskState = createITaskStateFromTaskState(newState); // map to strategy
                 task.setState(newITaskState);                                // update model
 
                 tasksDAO.updateTask(task);                                   // persist
-                allTasks.replaceAll(t -> t.getId() == taskId ? task : t);    // sync cache
-                applyFilterAndSort();                                        // refresh view list
+                cacheReplace(task);                                          // sync cache
+                applyTaskChange(before, task);                               // refresh view list
                 notifyObservers();                                           // broadcast
                 if (view != null) {
                     view.showMessage("Task advanced to " + newState.getDisplayName(), MessageType.SUCCESS);
@@ -450,20 +817,21 @@ public class TasksViewModel implements IViewModel {
      */
     public void moveTaskStateDown(int taskId) {
         /* Purpose: regress task state along workflow */
-        getService().submit(() -> {
+        submitCommand(taskId, () -> { // ordered after earlier commands for this task
             try {
-                Task task = (Task) tasksDAO.getTask(taskId);
+                Task task = (Task) tasksDAO.findTask(taskId);
                 if (task == null) {
                     if (view != null) view.showMessage("Task not found: id=" + taskId, MessageType.WARNING);
                     return;
                 }
+                ITask before = valuesOf(task);
                 TaskState newState = task.getState().previous();             // compute previous state
                 ITaskState newITaskState = createITaskStateFromTaskState(newState);
                 task.setState(newITaskState);
 
                 tasksDAO.updateTask(task);
-                allTasks.replaceAll(t -> t.getId() == taskId ? task : t);
-                applyFilterAndSort();
+                cacheReplace(task);
+                applyTaskChange(before, task);
                 notifyObservers();
                 if (view != null) {
                     view.showMessage("Task moved to " + newState.getDisplayName(), MessageType.SUCCESS);
@@ -488,15 +856,10 @@ public class TasksViewModel implements IViewModel {
      */
     public void deleteTask(int id) {
         /* Purpose: remove single task (async) and notify */
-        getService().submit(() -> {
+        submitCommand(id, () -> { // ordered after earlier commands for this task
             try {
-                ITask taskToRemove = allTasks.stream() // locate in cache (for notification only)
-                    .filter(t -> t.getId() == id)
-                    .findFirst()
-                    .orElse(null);
-
                 tasksDAO.deleteTask(id);                // persist deletion
-                this.allTasks.removeIf(task -> task.getId() == id); // prune cache
+                ITask taskToRemove = cacheRemove(id);   // prune cache (removed task for notification)
 
                 if (taskToRemove != null) {             // send granular removal event
                     Task.getAttributeSubject().notifyTaskRemoved(taskToRemove);
@@ -523,11 +886,13 @@ public class TasksViewModel implements IViewModel {
      */
     public void deleteAllTasks() {
         /* Purpose: bulk delete all tasks and clear caches */
-        getService().submit(() -> {
+        submitCommand(() -> {
             try {
                 tasksDAO.deleteTasks();       // remove all in storage
-                this.allTasks.clear();        // clear full cache
-                this.tasks.clear();           // clear visible list
+                synchronized (this) {
+                    this.allTasks = PersistentTaskMap.empty();  // clear full cache
+                    this.tasks = PersistentTaskList.empty();   // fresh visible list (observers keep the old one)
+                }
                 notifyObservers();            // push empty list
                 if (view != null) {
                     view.showMessage("All tasks deleted", MessageType.SUCCESS);
@@ -552,7 +917,7 @@ public class TasksViewModel implements IViewModel {
     public String generateReportTextSync() {
         /* Purpose: build friend-style report synchronously for UI display */
         ReportVisitor visitor = new ReportVisitor();
-        for (ITask task : allTasks) { // visit all cached tasks
+        for (ITask task : cachedTasks()) { // visit all cached tasks
             visitor.visit(task);
         }
         return visitor.generateFriendStyleReport(); // formatting helper
@@ -576,7 +941,7 @@ public class TasksViewModel implements IViewModel {
         File pdfFile = new File(parent, name + ".pdf");
 
         ReportVisitor visitor = new ReportVisitor();
-        for (ITask task : allTasks) { // collect records
+        for (ITask task : cachedTasks()) { // collect records
             visitor.visit(task);
         }
         var records = visitor.getTaskRecords();
@@ -0,0 +1,244 @@
+package il.ac.hit.project.main.viewmodel.combinator;
+
+import il.ac.hit.project.main.model.store.ITaskStore;
+import il.ac.hit.project.main.model.store.StoreCodes;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.All;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.And;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.Not;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.Nothing;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.Or;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.PriorityIs;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.StateIs;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.TextContains;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr.TextField;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Optimizer and compiler for {@link FilterExpr} trees.
+ * <p>
+ * {@link #optimize(ITaskFilter)} flattens nested And / Or, drops {@link All} terms (and folds constants),
+ * removes double negation and duplicate terms, and orders the terms of each And / Or by cost: state and
+ * priority code checks first, text matching after, opaque filters last. {@link #compile(ITaskFilter)} then
+ * turns the optimized tree into one predicate that evaluates each task through a probe, so each text
+ * attribute is read and lowercased at most once per task however many terms search it; given a
+ * {@link SearchKeyIndex}, the object path reads the precomputed keys and lowercases nothing. Reordering
+ * assumes filters are side-effect free (the combinators are).
+ * </p>
+ * @author Course
+ */
+public final class FilterCompiler {
+    private static final int CODE_COST = 1;
+    private static final int TEXT_COST = 10;
+    private static final int OPAQUE_COST = 25;
+
+    private FilterCompiler() { /* static utility */ }
+
+    // ------------------------------------------------------------
+    // Optimizer
+    // ------------------------------------------------------------
+
+    /**
+     * Simplify a filter tree without changing which tasks it matches.
+     * @param filter filter (null matches all)
+     * @return equivalent simplified filter (opaque filters are returned unchanged)
+     */
+    public static ITaskFilter optimize(ITaskFilter filter) {
+        if (filter == null) return new All();
+        return switch (filter) {
+            case And and -> junction(and.terms(), true);
+            case Or or -> junction(or.terms(), false);
+            case Not not -> switch (optimize(not.term())) {
+                case All a -> new Nothing();
+                case Nothing n -> new All();
+                case Not inner -> inner.term();
+                case ITaskFilter term -> new Not(term);
+            };
+            default -> filter;
+        };
+    }
+
+    /** @return optimized And (conjunction) or Or of the terms */
+    private static ITaskFilter junction(List<ITaskFilter> terms, boolean conjunction) {
+        Set<ITaskFilter> kept = new LinkedHashSet<>(); // drops duplicate terms, keeps first-seen order
+        for (ITaskFilter term : terms) {
+            ITaskFilter optimized = optimize(term);
+            if (conjunction ? optimized instanceof All : optimized instanceof Nothing) continue;  // identity
+            if (conjunction ? optimized instanceof Nothing : optimized instanceof All) return optimized; // absorbing
+            if (conjunction && optimized instanceof And inner) kept.addAll(inner.terms());
+            else if (!conjunction && optimized instanceof Or inner) kept.addAll(inner.terms());
+            else kept.add(optimized);
+        }
+        if (kept.isEmpty()) return conjunction ? new All() : new Nothing();
+        if (kept.size() == 1) return kept.iterator().next();
+        List<ITaskFilter> ordered = new ArrayList<>(kept);
+        ordered.sort(Comparator.comparingInt(FilterCompiler::cost)); // stable: equal costs keep their order
+        return conjunction ? new And(ordered) : new Or(ordered);
+    }
+
+    /** @return relative evaluation cost of a term */
+    private static int cost(ITaskFilter filter) {
+        return switch (filter) {
+            case All a -> 0;
+            case Nothing n -> 0;
+            case StateIs s -> CODE_COST;
+            case PriorityIs p -> CODE_COST;
+            case TextContains t -> TEXT_COST;
+            case Not not -> cost(not.term());
+            case And and -> and.terms().stream().mapToInt(FilterCompiler::cost).sum();
+            case Or or -> or.terms().stream().mapToInt(FilterCompiler::cost).sum();
+            default -> OPAQUE_COST;
+        };
+    }
+
+    // ------------------------------------------------------------
+    // Compiler
+    // ------------------------------------------------------------
+
+    /**
+     * Optimize a filter and compile it into one predicate (object and column forms).
+     * @param filter filter (null matches all)
+     * @return compiled filter; {@link All} itself if the filter matches everything
+     */
+    public static ITaskFilter compile(ITaskFilter filter) {
+        return compile(filter, null); }
+
+    /**
+     * Optimize a filter and compile it, reading task text through precomputed search keys.
+     * @param filter filter (null matches all)
+     * @param searchKeys search keys for the object path (null => lowercase on the fly)
+     * @return compiled filter; {@link All} itself if the filter matches everything
+     */
+    public static ITaskFilter compile(ITaskFilter filter, SearchKeyIndex searchKeys) {
+        ITaskFilter optimized = optimize(filter);
+        if (optimized instanceof All) return optimized;
+        return new CompiledFilter(optimized, emit(optimized), searchKeys);
+    }
+
+    /** Compiled node over a probe. */
+    @FunctionalInterface
+    private interface IProbePredicate {
+        boolean test(Probe probe);
+    }
+
+    /** @return predicate evaluating the optimized tree over a probe */
+    private static IProbePredicate emit(ITaskFilter filter) {
+        return switch (filter) {
+            case All a -> probe -> true;
+            case Nothing n -> probe -> false;
+            case StateIs s -> {
+                byte code = StoreCodes.code(s.type());
+                yield probe -> probe.stateCode() == code;
+            }
+            case PriorityIs p -> {
+                byte code = StoreCodes.code(p.priority());
+                yield probe -> probe.priorityCode() == code;
+            }
+            case TextContains t -> {
+                String needle = t.needle();
+                yield t.field() == TextField.TITLE
+                    ? probe -> probe.lowerTitle().contains(needle)
+                    : probe -> probe.lowerDescription().contains(needle);
+            }
+            case Not not -> {
+                IProbePredicate term = emit(not.term());
+                yield probe -> !term.test(probe);
+            }
+            case And and -> {
+                IProbePredicate[] terms = emitAll(and.terms());
+                yield probe -> {
+                    for (IProbePredicate term : terms) {
+                        if (!term.test(probe)) return false;
+                    }
+                    return true;
+                };
+            }
+            case Or or -> {
+                IProbePredicate[] terms = emitAll(or.terms());
+                yield probe -> {
+                    for (IProbePredicate term : terms) {
+                        if (term.test(probe)) return true;
+                    }
+                    return false;
+                };
+            }
+            default -> probe -> probe.store == null ? filter.test(probe.task) : filter.testRow(probe.store, probe.row);
+        };
+    }
+
+    private static IProbePredicate[] emitAll(List<ITaskFilter> terms) {
+        IProbePredicate[] emitted = new IProbePredicate[terms.size()];
+        for (int i = 0; i < emitted.length; i++) emitted[i] = emit(terms.get(i));
+        return emitted;
+    }
+
+    /**
+     * One task (or store row) under evaluation: codes read on demand, text attributes read and lowercased
+     * (or looked up in the search keys) at most once.
+     */
+    private static final class Probe {
+        final ITask task;
+        final ITaskStore store;
+        final int row;
+        private final SearchKeyIndex searchKeys;
+        private String lowerTitle;
+        private String lowerDescription;
+
+        Probe(ITask task, ITaskStore store, int row, SearchKeyIndex searchKeys) {
+            this.task = task;
+            this.store = store;
+            this.row = row;
+            this.searchKeys = searchKeys;
+        }
+
+        byte stateCode() {
+            if (store != null) return store.stateCode(row);
+            return task.getState() == null ? -1 : StoreCodes.code(task.getState().toStateType());
+        }
+
+        byte priorityCode() {
+            return store != null ? store.priorityCode(row) : StoreCodes.code(((ITaskDetails) task).getPriority()); }
+
+        String lowerTitle() {
+            if (lowerTitle == null) {
+                if (store != null) lowerTitle = store.title(row).toLowerCase();
+                else lowerTitle = searchKeys != null ? searchKeys.titleKey(task) : task.getTitle().toLowerCase();
+            }
+            return lowerTitle;
+        }
+
+        String lowerDescription() {
+            if (lowerDescription == null) {
+                if (store != null) lowerDescription = store.description(row).toLowerCase();
+                else lowerDescription = searchKeys != null ? searchKeys.descriptionKey(task) : task.getDescription().toLowerCase();
+            }
+            return lowerDescription;
+        }
+    }
+
+    /**
+     * Compiled predicate; {@link #toString()} shows the optimized expression it was compiled from.
+     * @param source optimized expression
+     * @param predicate compiled form
+     * @param searchKeys search keys for the object path (nullable)
+     */
+    private record CompiledFilter(ITaskFilter source, IProbePredicate predicate, SearchKeyIndex searchKeys)
+            implements ITaskFilter {
+        @Override
+        public boolean test(ITask task) {
+            return predicate.test(new Probe(task, null, 0, searchKeys)); }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            return predicate.test(new Probe(null, store, row, null)); }
+
+        @Override
+        public String toString() {
+            return "compiled " + source; }
+    }
+}
@@ -0,0 +1,151 @@
+package il.ac.hit.project.main.viewmodel.combinator;
+
+import il.ac.hit.project.main.model.store.ITaskStore;
+import il.ac.hit.project.main.model.store.StoreCodes;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import java.util.List;
+
+/**
+ * Inspectable filter expression (AST) built by {@link TaskFilters} and the {@link ITaskFilter} combinators.
+ * <p>
+ * Every node is itself a working filter: {@link #test(ITask)} and {@link #testRow} interpret the tree
+ * directly. {@link FilterCompiler} simplifies a tree and turns it into one flat predicate. Filters that are
+ * not expressions (custom lambdas, {@link ITaskFilter#columnar}) appear as opaque leaves of And / Or / Not.
+ * </p>
+ * @author Course
+ */
+public sealed interface FilterExpr extends ITaskFilter {
+
+    /** Text attribute a {@link TextContains} node searches. */
+    enum TextField { TITLE, DESCRIPTION }
+
+    /** Matches every task. */
+    record All() implements FilterExpr {
+        @Override public boolean test(ITask task) { return true; }
+        @Override public boolean testRow(ITaskStore store, int row) { return true; }
+    }
+
+    /** Matches no task (e.g. a state display name no state has). */
+    record Nothing() implements FilterExpr {
+        @Override public boolean test(ITask task) { return false; }
+        @Override public boolean testRow(ITaskStore store, int row) { return false; }
+    }
+
+    /**
+     * Task is in the given state.
+     * @param type state type (non-null)
+     */
+    record StateIs(ITaskState.StateType type) implements FilterExpr {
+        @Override
+        public boolean test(ITask task) {
+            return task.getState() != null && task.getState().toStateType() == type; }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            return store.stateCode(row) == StoreCodes.code(type); }
+    }
+
+    /**
+     * Task has the given priority.
+     * @param priority priority (non-null)
+     */
+    record PriorityIs(TaskPriority priority) implements FilterExpr {
+        @Override
+        public boolean test(ITask task) {
+            return ((ITaskDetails) task).getPriority() == priority; }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            return store.priorityCode(row) == StoreCodes.code(priority); }
+    }
+
+    /**
+     * Case-insensitive substring match on one text attribute.
+     * @param field attribute searched
+     * @param needle lowercased text to find
+     */
+    record TextContains(TextField field, String needle) implements FilterExpr {
+        @Override
+        public boolean test(ITask task) {
+            String text = field == TextField.TITLE ? task.getTitle() : task.getDescription();
+            return text.toLowerCase().contains(needle);
+        }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            String text = field == TextField.TITLE ? store.title(row) : store.description(row);
+            return text.toLowerCase().contains(needle);
+        }
+    }
+
+    /**
+     * Every term matches (evaluated left to right, short-circuit).
+     * @param terms conjuncts
+     */
+    record And(List<ITaskFilter> terms) implements FilterExpr {
+        /** @param terms conjuncts (copied) */
+        public And {
+            terms = List.copyOf(terms);
+        }
+
+        @Override
+        public boolean test(ITask task) {
+            for (ITaskFilter term : terms) {
+                if (!term.test(task)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            for (ITaskFilter term : terms) {
+                if (!term.testRow(store, row)) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Some term matches (evaluated left to right, short-circuit).
+     * @param terms disjuncts
+     */
+    record Or(List<ITaskFilter> terms) implements FilterExpr {
+        /** @param terms disjuncts (copied) */
+        public Or {
+            terms = List.copyOf(terms);
+        }
+
+        @Override
+        public boolean test(ITask task) {
+            for (ITaskFilter term : terms) {
+                if (term.test(task)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            for (ITaskFilter term : terms) {
+                if (term.testRow(store, row)) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The term does not match.
+     * @param term negated filter
+     */
+    record Not(ITaskFilter term) implements FilterExpr {
+        @Override
+        public boolean test(ITask task) {
+            return !term.test(task); }
+
+        @Override
+        public boolean testRow(ITaskStore store, int row) {
+            return !term.testRow(store, row); }
+    }
+}
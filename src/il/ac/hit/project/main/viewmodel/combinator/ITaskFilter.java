@@ -1,9 +1,13 @@
 package il.ac.hit.project.main.viewmodel.combinator;
 
+import il.ac.hit.project.main.model.store.ITaskStore;
 import il.ac.hit.project.main.model.task.ITask;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * Functional interface for filtering tasks using Combinator pattern
+ * Functional interface for filtering tasks using Combinator pattern.
+ * The combinators build {@link FilterExpr} nodes, which {@link FilterCompiler} can optimize and compile.
  */
 @FunctionalInterface
 public interface ITaskFilter {
@@ -15,28 +19,54 @@ public interface ITaskFilter {
     boolean test(ITask task);
 
     /**
-     * Combines this filter with another using AND logic.
+     * Tests one row of a columnar store. The default materializes a row view and delegates to
+     * {@link #test(ITask)}; filters built by {@link TaskFilters} read the columns directly.
+     * @param store task store
+     * @param row row index
+     * @return true if the row matches the filter
+     */
+    default boolean testRow(ITaskStore store, int row) {
+        return test(store.view(row));
+    }
+
+    /**
+     * Evaluates this filter over a whole store.
+     * @param store task store
+     * @return matching row indexes in storage order
+     */
+    default int[] selectRows(ITaskStore store) {
+        int n = store.size();
+        int[] matches = new int[n];
+        int count = 0;
+        for (int row = 0; row < n; row++) {
+            if (testRow(store, row)) matches[count++] = row;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Combines this filter with another using AND logic (a {@link FilterExpr.And} node).
      * Null other returns this filter.
      */
     default ITaskFilter and(ITaskFilter other) {
         if (other == null) return this;
-        return task -> this.test(task) && other.test(task);
+        return new FilterExpr.And(List.of(this, other));
     }
 
     /**
-     * Combines this filter with another using OR logic.
+     * Combines this filter with another using OR logic (a {@link FilterExpr.Or} node).
      * Null other returns this filter.
      */
     default ITaskFilter or(ITaskFilter other) {
         if (other == null) return this;
-        return task -> this.test(task) || other.test(task);
+        return new FilterExpr.Or(List.of(this, other));
     }
 
     /**
-     * Negates this filter.
+     * Negates this filter (a {@link FilterExpr.Not} node).
      */
     default ITaskFilter negate() {
-        return task -> !this.test(task);
+        return new FilterExpr.Not(this);
     }
 
     /**
@@ -44,6 +74,37 @@ public interface ITaskFilter {
      * @return a filter that always returns true
      */
     static ITaskFilter all() {
-        return _ -> true;
+        return new FilterExpr.All();
+    }
+
+    /**
+     * Column predicate counterpart of {@link ITaskFilter#test(ITask)}.
+     */
+    @FunctionalInterface
+    interface IRowPredicate {
+        /**
+         * @param store task store
+         * @param row row index
+         * @return true if the row matches
+         */
+        boolean testRow(ITaskStore store, int row);
+    }
+
+    /**
+     * Pair an object predicate with an equivalent column predicate.
+     * @param taskTest predicate over ITask objects
+     * @param rowTest equivalent predicate over store columns
+     * @return filter using each form where it applies
+     */
+    static ITaskFilter columnar(ITaskFilter taskTest, IRowPredicate rowTest) {
+        return new ITaskFilter() {
+            @Override
+            public boolean test(ITask task) {
+                return taskTest.test(task); }
+
+            @Override
+            public boolean testRow(ITaskStore store, int row) {
+                return rowTest.testRow(store, row); }
+        };
     }
 }
@@ -0,0 +1,125 @@
+package il.ac.hit.project.main.viewmodel.combinator;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.TaskAttribute;
+import il.ac.hit.project.main.model.task.TaskChange;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.view.ITaskAttributeObserver;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import il.ac.hit.project.main.view.TaskChangeEvent;
+import java.util.EnumSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Case-folded search keys (lowercased title and description) per task id, so search-as-you-type compares
+ * against precomputed keys instead of lowercasing every task on every keystroke.
+ * <p>
+ * Keys are computed on first lookup and refreshed when {@code onTitleChanged} / {@code onDescriptionChanged}
+ * fire for the task (after {@link #attach}); removed tasks drop their keys. Each entry also remembers the
+ * text it was computed from and a lookup checks it against the task's current text (identity first, then
+ * equals), so a key is never stale: a reloaded task instance or an event still queued under asynchronous
+ * dispatch just recomputes it. Thread-safe.
+ * </p>
+ * @author Course
+ */
+public final class SearchKeyIndex implements ITaskAttributeObserver {
+
+    /**
+     * Keys of one task.
+     * @param title title the key was computed from
+     * @param titleKey lowercased title
+     * @param description description the key was computed from
+     * @param descriptionKey lowercased description
+     */
+    private record Keys(String title, String titleKey, String description, String descriptionKey) {
+        boolean titleIs(String text) {
+            return title == text || title.equals(text); }
+
+        boolean descriptionIs(String text) {
+            return description == text || description.equals(text); }
+    }
+
+    private final ConcurrentHashMap<Integer, Keys> keys = new ConcurrentHashMap<>();
+    private TaskAttributeSubject.Subscription subscription; // null while detached (guarded by this)
+
+    /**
+     * Subscribe to title / description changes and removals (no-op if already attached).
+     * @param subject attribute event bus (non-null)
+     */
+    public synchronized void attach(TaskAttributeSubject subject) {
+        if (subscription != null) return;
+        subscription = subject.subscribe(this, null, EnumSet.of(TaskChangeEvent.Type.TITLE,
+            TaskChangeEvent.Type.DESCRIPTION, TaskChangeEvent.Type.TASK_REMOVED));
+    }
+
+    /** Cancel the subscription (no-op if detached); keys stay valid thanks to the lookup check. */
+    public synchronized void detach() {
+        if (subscription != null) subscription.cancel();
+        subscription = null;
+    }
+
+    /**
+     * @param task task (non-null)
+     * @return lowercased title of the task
+     */
+    public String titleKey(ITask task) {
+        String title = task.getTitle();
+        Keys k = keys.get(task.getId());
+        return k != null && k.titleIs(title) ? k.titleKey() : refresh(task).titleKey();
+    }
+
+    /**
+     * @param task task (non-null)
+     * @return lowercased description of the task
+     */
+    public String descriptionKey(ITask task) {
+        String description = task.getDescription();
+        Keys k = keys.get(task.getId());
+        return k != null && k.descriptionIs(description) ? k.descriptionKey() : refresh(task).descriptionKey();
+    }
+
+    /** @return number of tasks with keys */
+    public int size() {
+        return keys.size(); }
+
+    /** Drop every key. */
+    public void clear() {
+        keys.clear(); }
+
+    /** Recompute and store the keys of a task from its current text. */
+    private Keys refresh(ITask task) {
+        String title = task.getTitle();
+        String description = task.getDescription();
+        Keys k = new Keys(title, title.toLowerCase(), description, description.toLowerCase());
+        keys.put(task.getId(), k);
+        return k;
+    }
+
+    @Override
+    public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+        refresh(task); }
+
+    @Override
+    public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) {
+        refresh(task); }
+
+    /** One refresh per multi-attribute edit instead of one per attribute. */
+    @Override
+    public void onTaskChanged(TaskChange change) {
+        if (change.changed(TaskAttribute.TITLE) || change.changed(TaskAttribute.DESCRIPTION)) refresh(change.task());
+    }
+
+    @Override
+    public void onTaskRemoved(ITask task) {
+        keys.remove(task.getId()); }
+
+    @Override
+    public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) { }
+
+    @Override
+    public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) { }
+
+    @Override
+    public void onTaskAdded(ITask task) { }
+}
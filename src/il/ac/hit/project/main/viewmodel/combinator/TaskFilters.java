@@ -5,11 +5,14 @@ import il.ac.hit.project.main.model.task.ToDoState;
 import il.ac.hit.project.main.model.task.InProgressState;
 import il.ac.hit.project.main.model.task.CompletedState;
 import il.ac.hit.project.main.model.task.TaskPriority;
-import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.TaskState;
 
 /**
  * Utility factory for common ITaskFilter compositions (Combinator pattern).
  * All methods are null-safe: null inputs yield permissive filters.
+ * Every factory returns a {@link FilterExpr} node, so composed filters stay inspectable and can be
+ * compiled by {@link FilterCompiler}; each node also supplies a column form ({@link ITaskFilter#testRow})
+ * reading byte codes and string columns of an {@link il.ac.hit.project.main.model.store.ITaskStore} directly.
  * @author Course
  */
 public class TaskFilters {
@@ -27,7 +30,7 @@ public class TaskFilters {
             return ITaskFilter.all();
         }
         // Compare the TaskState enum converted to StateType with the provided state's type
-        return task -> task.getState() != null && task.getState().toStateType() == state.getStateType();
+        return new FilterExpr.StateIs(state.getStateType());
     }
 
     /** @return filter matching To Do tasks */
@@ -53,7 +56,11 @@ public class TaskFilters {
         if (stateDisplayName == null || stateDisplayName.equals("All")) {
             return ITaskFilter.all();
         }
-        return task -> task.getState().getDisplayName().equals(stateDisplayName);
+        // Resolve the display name once so both paths compare a state type
+        for (TaskState s : TaskState.values()) {
+            if (s.getDisplayName().equals(stateDisplayName)) return new FilterExpr.StateIs(s.toStateType());
+        }
+        return new FilterExpr.Nothing(); // no state has this name
     }
 
     // ------------------------------------------------------------
@@ -65,7 +72,7 @@ public class TaskFilters {
      */
     public static ITaskFilter byPriority(TaskPriority priority) {
         if (priority == null) return ITaskFilter.all();
-        return task -> ((ITaskDetails) task).getPriority() == priority;
+        return new FilterExpr.PriorityIs(priority);
     }
 
     // ------------------------------------------------------------
@@ -76,8 +83,7 @@ public class TaskFilters {
         if (title == null || title.trim().isEmpty()) {
             return ITaskFilter.all();
         }
-        String searchText = title.toLowerCase();
-        return task -> task.getTitle().toLowerCase().contains(searchText);
+        return new FilterExpr.TextContains(FilterExpr.TextField.TITLE, title.toLowerCase());
     }
 
     /** case-insensitive description substring match */
@@ -85,8 +91,7 @@ public class TaskFilters {
         if (description == null || description.trim().isEmpty()) {
             return ITaskFilter.all();
         }
-        String searchText = description.toLowerCase();
-        return task -> task.getDescription().toLowerCase().contains(searchText);
+        return new FilterExpr.TextContains(FilterExpr.TextField.DESCRIPTION, description.toLowerCase());
     }
 
     /** search text in title OR description */
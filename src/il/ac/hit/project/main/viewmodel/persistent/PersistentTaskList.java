@@ -0,0 +1,202 @@
+package il.ac.hit.project.main.viewmodel.persistent;
+
+import il.ac.hit.project.main.model.task.ITask;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of tasks: a size-indexed AVL tree with structural sharing.
+ * <p>
+ * {@link #get(int)}, {@link #inserted(int, ITask)}, {@link #removed(int)} and {@link #with(int, ITask)} are
+ * O(log n); updates copy only the path to the changed position, so older versions stay valid and unchanged.
+ * The ViewModel publishes its visible list as one of these: observers, the EDT and diff computation read a
+ * consistent snapshot while commands derive the next version, with no defensive copies and no
+ * ConcurrentModificationException. The {@link java.util.List} mutators throw UnsupportedOperationException.
+ * </p>
+ * @author Course
+ */
+public final class PersistentTaskList extends AbstractList<ITask> implements RandomAccess {
+    private static final PersistentTaskList EMPTY = new PersistentTaskList(null);
+
+    /** Immutable tree node; size and height cover its subtree. */
+    private static final class Node {
+        final Node left;
+        final ITask value;
+        final Node right;
+        final int size;
+        final int height;
+        Node(Node left, ITask value, Node right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private final Node root;
+
+    private PersistentTaskList(Node root) {
+        this.root = root;
+    }
+
+    /** @return the empty list */
+    public static PersistentTaskList empty() {
+        return EMPTY; }
+
+    /**
+     * Build a perfectly balanced list in O(n).
+     * @param tasks tasks in list order (non-null)
+     * @return list with the same elements (the argument itself if already persistent)
+     */
+    public static PersistentTaskList of(Collection<? extends ITask> tasks) {
+        if (tasks instanceof PersistentTaskList list) return list;
+        ITask[] array = tasks.toArray(new ITask[0]);
+        return array.length == 0 ? EMPTY : new PersistentTaskList(build(array, 0, array.length));
+    }
+
+    private static Node build(ITask[] array, int from, int to) {
+        if (from >= to) return null;
+        int mid = (from + to) >>> 1;
+        return new Node(build(array, from, mid), array[mid], build(array, mid + 1, to));
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size; }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height; }
+
+    @Override
+    public int size() {
+        return size(root); }
+
+    @Override
+    public ITask get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * @param index position (0..size)
+     * @param task task to insert
+     * @return list with the task inserted at index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentTaskList inserted(int index, ITask task) {
+        checkIndex(index, size() + 1);
+        return new PersistentTaskList(insert(root, index, task));
+    }
+
+    /**
+     * @param index position of the task to drop
+     * @return list without the task at index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentTaskList removed(int index) {
+        checkIndex(index, size());
+        Node newRoot = remove(root, index);
+        return newRoot == null ? EMPTY : new PersistentTaskList(newRoot);
+    }
+
+    /**
+     * @param index position to replace
+     * @param task new task at index
+     * @return list with the task at index replaced
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentTaskList with(int index, ITask task) {
+        checkIndex(index, size());
+        return new PersistentTaskList(set(root, index, task));
+    }
+
+    private static Node insert(Node node, int index, ITask task) {
+        if (node == null) return new Node(null, task, null);
+        int leftSize = size(node.left);
+        if (index <= leftSize) return balance(insert(node.left, index, task), node.value, node.right);
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, task));
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) return balance(remove(node.left, index), node.value, node.right);
+        if (index > leftSize) return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        if (node.left == null) return node.right;
+        if (node.right == null) return node.left;
+        Node successor = node.right;
+        while (successor.left != null) successor = successor.left;
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    private static Node set(Node node, int index, ITask task) {
+        int leftSize = size(node.left);
+        if (index < leftSize) return new Node(set(node.left, index, task), node.value, node.right);
+        if (index > leftSize) return new Node(node.left, node.value, set(node.right, index - leftSize - 1, task));
+        return new Node(node.left, task, node.right);
+    }
+
+    /** @return node for left + value + right, rotated if the heights differ by 2 (one insert / remove) */
+    private static Node balance(Node left, ITask value, Node right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) { // single right rotation
+                return new Node(left.left, left.value, new Node(left.right, value, right));
+            }
+            Node pivot = left.right;                      // left-right double rotation
+            return new Node(new Node(left.left, left.value, pivot.left), pivot.value, new Node(pivot.right, value, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) { // single left rotation
+                return new Node(new Node(left, value, right.left), right.value, right.right);
+            }
+            Node pivot = right.left;                       // right-left double rotation
+            return new Node(new Node(left, value, pivot.left), pivot.value, new Node(pivot.right, right.value, right.right));
+        }
+        return new Node(left, value, right);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) throw new IndexOutOfBoundsException("index " + index + ", size " + bound);
+    }
+
+    /** In-order walk in O(n) total (an explicit stack of at most the tree height). */
+    @Override
+    public Iterator<ITask> iterator() {
+        return new Iterator<>() {
+            private final Node[] stack = new Node[height(root)];
+            private int top = pushLeft(root, 0);
+
+            private int pushLeft(Node node, int depth) {
+                for (; node != null; node = node.left) stack[depth++] = node;
+                return depth;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return top > 0; }
+
+            @Override
+            public ITask next() {
+                if (top == 0) throw new NoSuchElementException();
+                Node node = stack[--top];
+                top = pushLeft(node.right, top);
+                return node.value;
+            }
+        };
+    }
+}
@@ -0,0 +1,240 @@
+package il.ac.hit.project.main.viewmodel.persistent;
+
+import il.ac.hit.project.main.model.task.ITask;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable map from task id to task: a hash array mapped trie (HAMT) whose hash is the id itself.
+ * <p>
+ * Every update returns a new map sharing all untouched nodes with the old one (path copying of at most
+ * {@value #LEVELS} small nodes), so a reference to a map is a consistent snapshot that can be read from any
+ * thread without locks or copying. Nodes are bitmap-compressed: a node stores only its occupied slots.
+ * Because the trie is keyed by the id bits from the most significant end, {@link #values()} iterates in
+ * ascending id order, which is the DAO's load order.
+ * </p>
+ * @author Course
+ */
+public final class PersistentTaskMap {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int TOP_SHIFT = 30;  // 2 + 6 * 5 = 32 bits
+    private static final int LEVELS = 7;
+
+    private static final PersistentTaskMap EMPTY = new PersistentTaskMap(null, 0);
+
+    /** Trie node: bitmap of occupied slots + compressed slot array (Node below the leaf level, ITask at it). */
+    private static final class Node {
+        final int bitmap;
+        final Object[] slots;
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PersistentTaskMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /** @return the empty map */
+    public static PersistentTaskMap empty() {
+        return EMPTY; }
+
+    /**
+     * Build a map from tasks in one pass (O(n log n) for the id sort, no path copying).
+     * @param tasks tasks (non-null; a later task replaces an earlier one with the same id)
+     * @return new map
+     */
+    public static PersistentTaskMap of(ITask[] tasks) {
+        if (tasks.length == 0) return EMPTY;
+        ITask[] sorted = tasks.clone();
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.getId(), b.getId())); // stable: duplicates keep input order
+        int n = 0;
+        for (ITask task : sorted) { // keep the last of equal ids
+            if (n > 0 && sorted[n - 1].getId() == task.getId()) sorted[n - 1] = task;
+            else sorted[n++] = task;
+        }
+        return new PersistentTaskMap(build(sorted, 0, n, TOP_SHIFT), n);
+    }
+
+    /** @return node holding sorted[from, to), all sharing the key bits above shift */
+    private static Node build(ITask[] sorted, int from, int to, int shift) {
+        int bitmap = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int bit = 1 << index(sorted[i].getId(), shift);
+            if ((bitmap & bit) == 0) count++;
+            bitmap |= bit;
+        }
+        Object[] slots = new Object[count];
+        int slot = 0;
+        for (int i = from; i < to; ) {
+            int index = index(sorted[i].getId(), shift);
+            int end = i + 1;
+            while (end < to && index(sorted[end].getId(), shift) == index) end++;
+            slots[slot++] = shift == 0 ? sorted[i] : build(sorted, i, end, shift - BITS);
+            i = end;
+        }
+        return new Node(bitmap, slots);
+    }
+
+    /** @return slot index of the id at this level (ids ordered as signed ints) */
+    private static int index(int id, int shift) {
+        return ((id ^ Integer.MIN_VALUE) >>> shift) & MASK; }
+
+    /** @return position of the bit's slot in a compressed slot array */
+    private static int position(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1)); }
+
+    /** @return number of tasks */
+    public int size() {
+        return size; }
+
+    /** @return true if empty */
+    public boolean isEmpty() {
+        return size == 0; }
+
+    /**
+     * @param id task id
+     * @return task with the id, or null
+     */
+    public ITask get(int id) {
+        Node node = root;
+        for (int shift = TOP_SHIFT; node != null; shift -= BITS) {
+            int bit = 1 << index(id, shift);
+            if ((node.bitmap & bit) == 0) return null;
+            Object slot = node.slots[position(node.bitmap, bit)];
+            if (shift == 0) return (ITask) slot;
+            node = (Node) slot;
+        }
+        return null;
+    }
+
+    /**
+     * @param id task id
+     * @return true if a task with the id is present
+     */
+    public boolean containsKey(int id) {
+        return get(id) != null; }
+
+    /**
+     * @param task task to add or replace (keyed by its id; non-null)
+     * @return map with the task
+     */
+    public PersistentTaskMap put(ITask task) {
+        boolean[] added = new boolean[1];
+        Node newRoot = put(root, task, TOP_SHIFT, added);
+        return new PersistentTaskMap(newRoot, added[0] ? size + 1 : size);
+    }
+
+    private static Node put(Node node, ITask task, int shift, boolean[] added) {
+        int bit = 1 << index(task.getId(), shift);
+        if (node == null) {
+            added[0] = true;
+            return new Node(bit, new Object[]{shift == 0 ? task : put(null, task, shift - BITS, added)});
+        }
+        int pos = position(node.bitmap, bit);
+        if ((node.bitmap & bit) != 0) { // descend / replace
+            Object[] slots = node.slots.clone();
+            slots[pos] = shift == 0 ? task : put((Node) slots[pos], task, shift - BITS, added);
+            return new Node(node.bitmap, slots);
+        }
+        Object[] slots = new Object[node.slots.length + 1];
+        System.arraycopy(node.slots, 0, slots, 0, pos);
+        System.arraycopy(node.slots, pos, slots, pos + 1, node.slots.length - pos);
+        slots[pos] = shift == 0 ? task : put(null, task, shift - BITS, added);
+        added[0] = true;
+        return new Node(node.bitmap | bit, slots);
+    }
+
+    /**
+     * @param task task replacing the one with its id
+     * @return map with the task swapped in, or this map if the id is absent
+     */
+    public PersistentTaskMap replace(ITask task) {
+        return containsKey(task.getId()) ? put(task) : this; }
+
+    /**
+     * @param id task id
+     * @return map without the id (this map if absent)
+     */
+    public PersistentTaskMap remove(int id) {
+        if (!containsKey(id)) return this;
+        Node newRoot = remove(root, id, TOP_SHIFT);
+        return newRoot == null ? EMPTY : new PersistentTaskMap(newRoot, size - 1);
+    }
+
+    /** @return node without the id (present below this node), or null if it became empty */
+    private static Node remove(Node node, int id, int shift) {
+        int bit = 1 << index(id, shift);
+        int pos = position(node.bitmap, bit);
+        Node child = shift == 0 ? null : remove((Node) node.slots[pos], id, shift - BITS);
+        if (child != null) {
+            Object[] slots = node.slots.clone();
+            slots[pos] = child;
+            return new Node(node.bitmap, slots);
+        }
+        if (node.slots.length == 1) return null;
+        Object[] slots = new Object[node.slots.length - 1];
+        System.arraycopy(node.slots, 0, slots, 0, pos);
+        System.arraycopy(node.slots, pos + 1, slots, pos, slots.length - pos);
+        return new Node(node.bitmap & ~bit, slots);
+    }
+
+    /** @return read-only view of the tasks in ascending id order (O(1); iteration never fails) */
+    public Collection<ITask> values() {
+        return new AbstractCollection<>() {
+            @Override public Iterator<ITask> iterator() { return new ValueIterator(root); }
+            @Override public int size() { return size; }
+        };
+    }
+
+    /** Depth-first walk over the trie's leaves. */
+    private static final class ValueIterator implements Iterator<ITask> {
+        private final Node[] nodes = new Node[LEVELS];
+        private final int[] positions = new int[LEVELS];
+        private int depth;
+
+        ValueIterator(Node root) {
+            depth = root == null ? -1 : 0;
+            nodes[0] = root;
+            advance();
+        }
+
+        /** move to the next leaf slot (depth LEVELS - 1 with a valid position), or depth -1 when done */
+        private void advance() {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (positions[depth] >= node.slots.length) { // node exhausted: back up
+                    depth--;
+                    if (depth >= 0) positions[depth]++;
+                } else if (depth == LEVELS - 1) {
+                    return;
+                } else {
+                    nodes[depth + 1] = (Node) node.slots[positions[depth]];
+                    positions[++depth] = 0;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth >= 0; }
+
+        @Override
+        public ITask next() {
+            if (depth < 0) throw new NoSuchElementException();
+            ITask task = (ITask) nodes[depth].slots[positions[depth]++];
+            advance();
+            return task;
+        }
+    }
+}
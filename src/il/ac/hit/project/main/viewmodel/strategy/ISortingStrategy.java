@@ -1,6 +1,10 @@
 package il.ac.hit.project.main.viewmodel.strategy;
 
+import il.ac.hit.project.main.model.store.ITaskStore;
+import il.ac.hit.project.main.model.store.TaskRowView;
 import il.ac.hit.project.main.model.task.ITask;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -13,6 +17,26 @@ public interface ISortingStrategy {
      * @param tasks mutable list of tasks (must not be null)
      */
     void sort(List<ITask> tasks);
+    /**
+     * Sort row indexes of a columnar store in-place (same order as {@link #sort(List)}, stable).
+     * The default sorts row views through {@link #sort(List)}; built-in strategies compare columns directly.
+     * @param store task store the rows belong to
+     * @param rows row indexes to order
+     */
+    default void sortRows(ITaskStore store, int[] rows) {
+        List<ITask> views = new ArrayList<>(rows.length);
+        for (int row : rows) views.add(store.view(row));
+        sort(views);
+        for (int i = 0; i < rows.length; i++) rows[i] = ((TaskRowView) views.get(i)).getRow();
+    }
+    /**
+     * Total order matching {@link #sort(List)}, used to keep an already-sorted list up to date by binary
+     * search when single tasks change. Built-in strategies break ties by id, so equal keys keep the
+     * id (load) order of the cache.
+     * @return comparator, or null if the strategy can only sort whole lists (callers then re-sort)
+     */
+    default Comparator<ITask> getComparator() {
+        return null; }
     /**
      * @return human-readable name for UI selection
      */
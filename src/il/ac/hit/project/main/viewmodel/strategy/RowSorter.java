@@ -0,0 +1,64 @@
+package il.ac.hit.project.main.viewmodel.strategy;
+
+/**
+ * Stable, allocation-light sort of row index arrays (no boxing to Integer).
+ * Used by sorting strategies to order rows of an {@link il.ac.hit.project.main.model.store.ITaskStore}
+ * by comparing column values. Merge sort with an insertion-sort cutoff; equal rows keep their input order,
+ * matching {@link java.util.List#sort} on the object path.
+ * @author Course
+ */
+public final class RowSorter {
+    /** runs at or below this length are insertion-sorted */
+    private static final int INSERTION_CUTOFF = 16;
+
+    /**
+     * Ordering of two rows by their column values.
+     */
+    @FunctionalInterface
+    public interface IRowComparator {
+        /**
+         * @param rowA first row index
+         * @param rowB second row index
+         * @return negative, zero or positive as rowA sorts before, with, or after rowB
+         */
+        int compare(int rowA, int rowB);
+    }
+
+    private RowSorter() { /* static utility */ }
+
+    /**
+     * Sort row indexes in place.
+     * @param rows row indexes (permutation or subset of a store's rows)
+     * @param comparator column-based ordering
+     */
+    public static void sort(int[] rows, IRowComparator comparator) {
+        if (rows.length < 2) return;
+        int[] buffer = rows.clone();
+        mergeSort(buffer, rows, 0, rows.length, comparator);
+    }
+
+    /** sort src[from,to) into dst[from,to); both ranges start with identical content */
+    private static void mergeSort(int[] src, int[] dst, int from, int to, IRowComparator c) {
+        int length = to - from;
+        if (length <= INSERTION_CUTOFF) {
+            for (int i = from + 1; i < to; i++) {
+                int row = dst[i];
+                int j = i - 1;
+                while (j >= from && c.compare(dst[j], row) > 0) { dst[j + 1] = dst[j]; j--; }
+                dst[j + 1] = row;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(dst, src, from, mid, c); // halves sorted into src (roles swap each level)
+        mergeSort(dst, src, mid, to, c);
+        if (c.compare(src[mid - 1], src[mid]) <= 0) { // already ordered
+            System.arraycopy(src, from, dst, from, length);
+            return;
+        }
+        for (int i = from, p = from, q = mid; i < to; i++) {
+            if (q >= to || (p < mid && c.compare(src[p], src[q]) <= 0)) dst[i] = src[p++];
+            else dst[i] = src[q++];
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package il.ac.hit.project.main.viewmodel.strategy;
 
+import il.ac.hit.project.main.model.store.ITaskStore;
 import il.ac.hit.project.main.model.task.ITask;
 import il.ac.hit.project.main.model.task.ITaskDetails;
 import java.util.List;
@@ -10,10 +11,25 @@ import java.util.Comparator;
  * @author Course
  */
 public class SortByCreationDateStrategyI implements ISortingStrategy {
+    private static final Comparator<ITask> ORDER = Comparator
+        .comparingLong((ITask t) -> ((ITaskDetails) t).getCreationTime()) // primitive compare, no Date
+        .thenComparingInt(ITask::getId);
 
     @Override
     public void sort(List<ITask> tasks) {
-        tasks.sort(Comparator.comparing(t -> ((ITaskDetails) t).getCreationDate()));
+        tasks.sort(ORDER);
+    }
+
+    @Override
+    public Comparator<ITask> getComparator() {
+        return ORDER; }
+
+    @Override
+    public void sortRows(ITaskStore store, int[] rows) { // compare the long column directly, then id like ORDER
+        RowSorter.sort(rows, (a, b) -> {
+            int byTime = Long.compare(store.creationTime(a), store.creationTime(b));
+            return byTime != 0 ? byTime : Integer.compare(store.id(a), store.id(b));
+        });
     }
 
     @Override
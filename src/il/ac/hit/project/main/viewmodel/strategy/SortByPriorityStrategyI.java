@@ -1,7 +1,9 @@
 package il.ac.hit.project.main.viewmodel.strategy;
 
+import il.ac.hit.project.main.model.store.ITaskStore;
 import il.ac.hit.project.main.model.task.ITask;
 import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.TaskPriority;
 import java.util.List;
 import java.util.Comparator;
 
@@ -11,11 +13,38 @@ import java.util.Comparator;
  * @author Course
  */
 public class SortByPriorityStrategyI implements ISortingStrategy {
+    // priority descending: HIGH -> MEDIUM -> LOW, then id
+    private static final Comparator<ITask> ORDER = Comparator
+        .comparing((ITask t) -> ((ITaskDetails) t).getPriority(), Comparator.reverseOrder())
+        .thenComparingInt(ITask::getId);
 
     @Override
     public void sort(List<ITask> tasks) {
-        // Sort by priority descending: HIGH -> MEDIUM -> LOW
-        tasks.sort(Comparator.comparing((ITask t) -> ((ITaskDetails) t).getPriority()).reversed());
+        tasks.sort(ORDER);
+    }
+
+    @Override
+    public Comparator<ITask> getComparator() {
+        return ORDER; }
+
+    /**
+     * Counting sort over the byte priority column: one pass to count, one to place, stable by construction.
+     * Rows are put in id order first, so equal priorities tie-break by id like {@link #sort(List)} even after
+     * swap-removal has moved rows out of id order.
+     */
+    @Override
+    public void sortRows(ITaskStore store, int[] rows) {
+        RowSorter.sort(rows, (a, b) -> Integer.compare(store.id(a), store.id(b)));
+        int levels = TaskPriority.values().length;
+        int[] end = new int[levels];                                    // bucket 0 = highest priority
+        for (int row : rows) end[levels - 1 - store.priorityCode(row)]++;
+        for (int b = 1; b < levels; b++) end[b] += end[b - 1];         // prefix sums -> bucket ends
+        int[] sorted = new int[rows.length];
+        for (int i = rows.length - 1; i >= 0; i--) {                    // reverse pass keeps equal rows stable
+            int row = rows[i];
+            sorted[--end[levels - 1 - store.priorityCode(row)]] = row;
+        }
+        System.arraycopy(sorted, 0, rows, 0, rows.length);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package il.ac.hit.project.main.viewmodel.strategy;
 
+import il.ac.hit.project.main.model.store.ITaskStore;
 import il.ac.hit.project.main.model.task.ITask;
 import java.util.List;
 import java.util.Comparator;
@@ -9,10 +10,25 @@ import java.util.Comparator;
  * @author Course
  */
 public class SortByTitleStrategyI implements ISortingStrategy {
+    private static final Comparator<ITask> ORDER = Comparator
+        .comparing(ITask::getTitle, String.CASE_INSENSITIVE_ORDER)
+        .thenComparingInt(ITask::getId);
 
     @Override
     public void sort(List<ITask> tasks) { // in-place alphabetical sort
-        tasks.sort(Comparator.comparing(ITask::getTitle, String.CASE_INSENSITIVE_ORDER));
+        tasks.sort(ORDER);
+    }
+
+    @Override
+    public Comparator<ITask> getComparator() {
+        return ORDER; }
+
+    @Override
+    public void sortRows(ITaskStore store, int[] rows) { // compare the title column directly, then id like ORDER
+        RowSorter.sort(rows, (a, b) -> {
+            int byTitle = String.CASE_INSENSITIVE_ORDER.compare(store.title(a), store.title(b));
+            return byTitle != 0 ? byTitle : Integer.compare(store.id(a), store.id(b));
+        });
     }
 
     @Override
@@ -0,0 +1,81 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.dao.ITasksDAO;
+import il.ac.hit.project.main.model.dao.TasksDAOThrottle;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.InProgressState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.CommandExecutionMode;
+import il.ac.hit.project.main.viewmodel.CommandMetrics;
+import il.ac.hit.project.main.viewmodel.StripedExecutor;
+import il.ac.hit.project.main.viewmodel.TasksViewModel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Burst-load benchmark comparing command execution modes (run manually via main; not part of the Surefire
+ * suite). A synthetic DAO blocks for a fixed time per call, like a JDBC round trip, behind a
+ * {@link TasksDAOThrottle} standing for the connection limit. A burst of updateTask commands on distinct
+ * tasks is submitted at once; the ViewModel's {@link CommandMetrics} report throughput and latency for each
+ * mode and connection limit.
+ * @author Course
+ */
+public class CommandExecutionBenchmark {
+    private static final int TASKS = 2_000;       // burst size: one update per task
+    private static final long DB_CALL_MILLIS = 5; // simulated blocking database call
+    private static final int[] CONNECTION_LIMITS = {8, 64};
+    private static final int ROUNDS = 2;          // the first round doubles as warm-up
+
+    /** In-memory DAO whose writes block like a database round trip. */
+    private static final class SlowDAO implements ITasksDAO {
+        private final Map<Integer, ITask> rows = new ConcurrentHashMap<>();
+        private static void roundTrip() {
+            try { Thread.sleep(DB_CALL_MILLIS); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        }
+        @Override public ITask[] getTasks() { return rows.values().toArray(new ITask[0]); }
+        @Override public ITask getTask(int id) { return rows.get(id); }
+        @Override public ITask findTask(int id) { roundTrip(); return rows.get(id); }
+        @Override public void addTask(ITask task) { rows.put(task.getId(), task); }
+        @Override public void updateTask(ITask task) { roundTrip(); rows.put(task.getId(), task); }
+        @Override public void deleteTasks() { rows.clear(); }
+        @Override public void deleteTask(int id) { roundTrip(); rows.remove(id); }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("burst of %,d updates, %d ms per database call%n", TASKS, DB_CALL_MILLIS);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int limit : CONNECTION_LIMITS) {
+                for (CommandExecutionMode mode : CommandExecutionMode.values()) {
+                    CommandMetrics.Snapshot m = burst(mode, limit);
+                    System.out.printf("round %d %-16s %3d connections: %,8.0f cmd/s | latency mean %7.1f ms,"
+                            + " p99 <= %7.1f ms, max %7.1f ms | queue mean %7.1f ms%n", round, mode, limit,
+                        m.throughputPerSecond(), m.meanLatencyNanos() / 1e6, m.p99LatencyNanos() / 1e6,
+                        m.maxLatencyNanos() / 1e6, m.meanQueueNanos() / 1e6);
+                }
+            }
+        }
+    }
+
+    /** @return metrics of one burst of TASKS updates */
+    private static CommandMetrics.Snapshot burst(CommandExecutionMode mode, int connections) throws InterruptedException {
+        SlowDAO dao = new SlowDAO();
+        for (int id = 1; id <= TASKS; id++) {
+            dao.addTask(Task.hydrate(id, "Task " + id, "", ToDoState.getInstance(), TaskPriority.MEDIUM, id, id));
+        }
+        TasksViewModel vm = new TasksViewModel(new TasksDAOThrottle(dao, connections), null, mode);
+        StripedExecutor executor = (StripedExecutor) vm.getService();
+        vm.loadTasks();
+        while (executor.getCompletedTaskCount() < 1) Thread.sleep(1);
+        vm.getCommandMetrics().reset();
+
+        for (int id = 1; id <= TASKS; id++) {
+            vm.updateTask(id, "Edited " + id, "", InProgressState.getInstance(), TaskPriority.HIGH);
+        }
+        while (executor.getCompletedTaskCount() < 1 + TASKS) Thread.sleep(1);
+        CommandMetrics.Snapshot snapshot = vm.getCommandMetrics().snapshot();
+        vm.shutdown();
+        return snapshot;
+    }
+}
@@ -0,0 +1,80 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.task.CompletedState;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.InProgressState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.FilterSortEngine;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.strategy.ISortingStrategy;
+import il.ac.hit.project.main.viewmodel.strategy.SortByCreationDateStrategyI;
+import il.ac.hit.project.main.viewmodel.strategy.SortByPriorityStrategyI;
+import il.ac.hit.project.main.viewmodel.strategy.SortByTitleStrategyI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Throughput benchmark for the visible-list recompute (run manually via main; not part of the Surefire suite).
+ * Times FilterSortEngine sequential (threshold = MAX_VALUE) against parallel (threshold = 1) for 10k, 100k and
+ * 1M tasks, for each built-in strategy, with a search filter matching roughly half of the board. Reports the
+ * median of several timed repetitions after warm-up. Parallel speedup depends on the cores available to the
+ * common fork-join pool, which is printed first.
+ * @author Course
+ */
+public class FilterSortBenchmark {
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP = 5;
+    private static final int REPETITIONS = 9;
+    private static final ITaskState[] STATES = {ToDoState.getInstance(), InProgressState.getInstance(), CompletedState.getInstance()};
+    /** sink preventing dead-code elimination */
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        System.out.println("common pool parallelism: " + ForkJoinPool.getCommonPoolParallelism()
+            + ", cpus: " + Runtime.getRuntime().availableProcessors());
+        FilterSortEngine sequential = new FilterSortEngine(Integer.MAX_VALUE);
+        FilterSortEngine parallel = new FilterSortEngine(1);
+        ITaskFilter filter = TaskFilters.bySearchText("a").or(TaskFilters.byStateDisplayName("To Do"));
+        for (int size : SIZES) {
+            List<ITask> board = board(size);
+            for (ISortingStrategy strategy : List.of(new SortByTitleStrategyI(), new SortByPriorityStrategyI(),
+                    new SortByCreationDateStrategyI())) {
+                double seq = median(sequential, board, filter, strategy);
+                double par = median(parallel, board, filter, strategy);
+                System.out.printf("%,9d tasks %-24s sequential %9.2f ms | parallel %9.2f ms | speedup %.2fx%n",
+                    size, strategy.getDisplayName(), seq, par, seq / par);
+            }
+        }
+        System.out.println("(blackhole " + blackhole + ")");
+    }
+
+    /** @return median milliseconds of one apply() */
+    private static double median(FilterSortEngine engine, List<ITask> board, ITaskFilter filter, ISortingStrategy strategy) {
+        for (int i = 0; i < WARMUP; i++) blackhole += engine.apply(board, filter, strategy).size();
+        double[] times = new double[REPETITIONS];
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            blackhole += engine.apply(board, filter, strategy).size();
+            times[i] = (System.nanoTime() - start) / 1e6;
+        }
+        java.util.Arrays.sort(times);
+        return times[REPETITIONS / 2];
+    }
+
+    /** @return board in id order with random titles, priorities, states and creation times */
+    private static List<ITask> board(int size) {
+        Random random = new Random(1);
+        List<ITask> tasks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            tasks.add(Task.hydrate(i, "Task " + Long.toString(random.nextLong() & Long.MAX_VALUE, 36), "",
+                STATES[random.nextInt(3)], TaskPriority.values()[random.nextInt(3)], random.nextInt(1_000_000), 0L));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.store.OffHeapTaskStore;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.strategy.SortByCreationDateStrategyI;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * On-heap {@code List<Task>} vs {@link OffHeapTaskStore} for a large working set (run manually via main,
+ * e.g. {@code java --enable-preview -Xmx2g ...}). For each representation it reports retained heap,
+ * GC time spent while the application churns through short-lived garbage with the working set live,
+ * and a filter + sort pass. Numbers are indicative (wall clock, no JMH harness).
+ * @author Course
+ */
+public class OffHeapTaskStoreBenchmark {
+    private static final int TASKS = 1_000_000;
+    /** bytes of short-lived garbage allocated per churn phase */
+    private static final long CHURN_BYTES = 4L << 30;
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        ITaskFilter filter = TaskFilters.byPriority(TaskPriority.HIGH).and(TaskFilters.bySearchText("99"));
+        SortByCreationDateStrategyI sort = new SortByCreationDateStrategyI();
+
+        long base = usedHeap();
+        List<ITask> objects = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) objects.add(newTask(i));
+        long heapBytes = usedHeap() - base;
+        long gcMillis = churn();
+        long start = System.nanoTime();
+        List<ITask> matches = new ArrayList<>();
+        for (ITask t : objects) if (filter.test(t)) matches.add(t);
+        sort.sort(matches);
+        long scanMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("on-heap : heap %.1f B/task | GC %d ms during churn | filter+sort %d ms (%d hits)%n",
+                (double) heapBytes / TASKS, gcMillis, scanMillis, matches.size());
+        objects = null; // drop the on-heap working set before measuring the off-heap one
+        matches = null;
+
+        base = usedHeap();
+        try (OffHeapTaskStore store = new OffHeapTaskStore(TASKS)) {
+            for (int i = 0; i < TASKS; i++) store.add(newTask(i));
+            heapBytes = usedHeap() - base;
+            gcMillis = churn();
+            start = System.nanoTime();
+            int[] rows = filter.selectRows(store);
+            sort.sortRows(store, rows);
+            scanMillis = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("off-heap: heap %.1f B/task (+%.1f B/task native) | GC %d ms during churn | "
+                            + "filter+sort %d ms (%d hits)%n", (double) heapBytes / TASKS,
+                    (double) store.reservedBytes() / TASKS, gcMillis, scanMillis, rows.length);
+        }
+    }
+
+    private static Task newTask(int i) {
+        return Task.hydrate(i + 1, "Task " + i, "description " + i, ToDoState.getInstance(),
+                TaskPriority.values()[i % 3], i, i);
+    }
+
+    /** allocate short-lived garbage (plus occasional promotions) and return GC time it caused */
+    private static long churn() {
+        long before = gcMillis();
+        List<byte[]> survivors = new ArrayList<>();
+        for (long allocated = 0; allocated < CHURN_BYTES; allocated += 1024) {
+            byte[] chunk = new byte[1024];
+            sink = chunk;
+            if ((allocated & ((1 << 22) - 1)) == 0) survivors.add(chunk); // a trickle of tenured data
+        }
+        sink = survivors;
+        return gcMillis() - before;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) System.gc();
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
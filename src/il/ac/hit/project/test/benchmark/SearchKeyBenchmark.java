@@ -0,0 +1,90 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.combinator.FilterCompiler;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.SearchKeyIndex;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Search-as-you-type benchmark (run manually via main; not part of the Surefire suite).
+ * Times one search pass over 100k tasks with mixed-case titles and ~150-char descriptions for a short and a
+ * long query: the interpreted filter (lowercases every task), the compiled filter without keys, and the
+ * compiled filter over a warm {@link SearchKeyIndex}. Reports medians after warm-up, plus the bytes allocated
+ * per pass where the JVM exposes them.
+ * @author Course
+ */
+public class SearchKeyBenchmark {
+    private static final int TASKS = 100_000;
+    private static final int WARMUP = 10;
+    private static final int REPETITIONS = 15;
+    private static final String[] WORDS = {"Fix", "login", "Timeout", "DATABASE", "migration", "review", "Release",
+        "notes", "cache", "Invalidation", "for", "the", "REPORT", "exporter", "when", "users", "Upload", "files"};
+    /** sink preventing dead-code elimination */
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        Task[] tasks = new Task[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            tasks[i] = Task.hydrate(i + 1, words(random, 4), words(random, 22), ToDoState.getInstance(),
+                TaskPriority.LOW, 0L, 0L);
+        }
+        SearchKeyIndex keys = new SearchKeyIndex();
+        for (String query : new String[] {"cache", "database migration review"}) {
+            ITaskFilter interpreted = TaskFilters.bySearchText(query);
+            ITaskFilter compiled = FilterCompiler.compile(interpreted);
+            ITaskFilter keyed = FilterCompiler.compile(interpreted, keys);
+            System.out.printf("query \"%s\" (%d chars)%n", query, query.length());
+            report("interpreted (lowercase per task)", tasks, interpreted);
+            report("compiled, no keys", tasks, compiled);
+            report("compiled, search keys", tasks, keyed);
+        }
+        System.out.println("(blackhole " + blackhole + ")");
+    }
+
+    private static void report(String label, Task[] tasks, ITaskFilter filter) {
+        long allocatedBefore = allocatedBytes();
+        double millis = median(() -> {
+            int n = 0;
+            for (Task task : tasks) if (filter.test(task)) n++;
+            return n;
+        });
+        long perPass = (allocatedBytes() - allocatedBefore) / (WARMUP + REPETITIONS);
+        System.out.printf("  %-34s %7.2f ms | %,12d bytes allocated per pass%n", label, millis, perPass);
+    }
+
+    /** @return median milliseconds of one pass */
+    private static double median(java.util.function.IntSupplier pass) {
+        for (int i = 0; i < WARMUP; i++) blackhole += pass.getAsInt();
+        double[] times = new double[REPETITIONS];
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            blackhole += pass.getAsInt();
+            times[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(times);
+        return times[REPETITIONS / 2];
+    }
+
+    /** @return bytes allocated by this thread so far, or 0 if not supported */
+    private static long allocatedBytes() {
+        if (java.lang.management.ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return 0;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
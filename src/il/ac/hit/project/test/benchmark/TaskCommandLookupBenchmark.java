@@ -0,0 +1,101 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.dao.ITasksDAO;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.InProgressState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.StripedExecutor;
+import il.ac.hit.project.main.viewmodel.TasksViewModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency benchmark for ViewModel commands on large boards (run manually via main; not part of the Surefire
+ * suite). Loads 100k / 200k tasks from an in-memory DAO, then times bursts of updateTask, moveTaskStateUp and
+ * deleteTask through the ViewModel's executor, which look tasks up in the id-indexed cache. For reference it
+ * also times the former cache access on an ArrayList of the same size (stream lookup + replaceAll / removeIf).
+ * @author Course
+ */
+public class TaskCommandLookupBenchmark {
+    private static final int[] SIZES = {100_000, 200_000};
+    private static final int COMMANDS = 2_000; // per command kind and round
+    private static final int ROUNDS = 3;
+    /** sink preventing dead-code elimination */
+    private static long blackhole;
+
+    /** Minimal in-memory DAO (no persistence cost, so the numbers isolate the ViewModel). */
+    private static final class MemoryDAO implements ITasksDAO {
+        private final Map<Integer, ITask> rows = new HashMap<>();
+        private int nextId = 1;
+        @Override public synchronized ITask[] getTasks() { return rows.values().toArray(new ITask[0]); }
+        @Override public synchronized ITask getTask(int id) { return rows.get(id); }
+        @Override public synchronized ITask findTask(int id) { return rows.get(id); }
+        @Override public synchronized void addTask(ITask task) { ((Task) task).setId(nextId++); rows.put(task.getId(), task); }
+        @Override public synchronized void updateTask(ITask task) { rows.put(task.getId(), task); }
+        @Override public synchronized void deleteTasks() { rows.clear(); }
+        @Override public synchronized void deleteTask(int id) { rows.remove(id); }
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int size : SIZES) {
+            for (int round = 0; round < ROUNDS; round++) { // early rounds double as JIT warm-up
+                MemoryDAO dao = new MemoryDAO();
+                for (int i = 0; i < size; i++) {
+                    dao.addTask(new Task(0, "Task " + i, "", ToDoState.getInstance(), new java.util.Date(i), TaskPriority.MEDIUM));
+                }
+                TasksViewModel vm = new TasksViewModel(dao, null);
+                StripedExecutor executor = (StripedExecutor) vm.getService();
+                vm.loadTasks();
+                await(executor, 1);
+
+                long start = System.nanoTime();
+                for (int k = 0; k < COMMANDS; k++) {
+                    int id = 1 + (int) ((k * 7919L) % size);
+                    vm.updateTask(id, "Edited " + k, "", InProgressState.getInstance(), TaskPriority.HIGH);
+                }
+                await(executor, 1 + COMMANDS);
+                long update = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int k = 0; k < COMMANDS; k++) vm.moveTaskStateUp(1 + (int) ((k * 104729L) % size));
+                await(executor, 1 + 2 * COMMANDS);
+                long move = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int k = 0; k < COMMANDS; k++) vm.deleteTask(size - k);
+                await(executor, 1 + 3 * COMMANDS);
+                long delete = System.nanoTime() - start;
+                vm.shutdown();
+
+                long linear = linearReference(size);
+                System.out.printf("%,d tasks round %d: update %.1f us | move %.1f us | delete %.1f us per command"
+                        + " | former list lookup+replace %.1f us%n", size, round,
+                        update / 1e3 / COMMANDS, move / 1e3 / COMMANDS, delete / 1e3 / COMMANDS, linear / 1e3 / COMMANDS);
+            }
+        }
+        System.out.println("(blackhole " + blackhole + ")");
+    }
+
+    /** Wait until the executor has completed the given number of submitted commands. */
+    private static void await(StripedExecutor executor, long completed) throws InterruptedException {
+        while (executor.getCompletedTaskCount() < completed) Thread.sleep(1);
+    }
+
+    /** @return nanos for COMMANDS lookups + replacements the way the cache was accessed before (ArrayList scans) */
+    private static long linearReference(int size) {
+        List<ITask> list = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) list.add(Task.hydrate(i, "Task " + i, "", ToDoState.getInstance(), TaskPriority.MEDIUM, i, i));
+        long start = System.nanoTime();
+        for (int k = 0; k < COMMANDS; k++) {
+            int id = 1 + (int) ((k * 7919L) % size);
+            ITask found = list.stream().filter(t -> t.getId() == id).findFirst().orElse(null);
+            list.replaceAll(t -> t.getId() == id ? found : t);
+            blackhole += found == null ? 0 : found.getId();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.view.ITaskAttributeObserver;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput / allocation micro-benchmark for attribute notifications (run manually via main; not part of the
+ * Surefire suite). Publishes bursts of title + updated-time notifications to a few cheap observers, first
+ * with the synchronous fan-out, then through the ring-buffer pipeline, and reports ns and bytes allocated per
+ * event. Allocation is summed over all JVM threads (publisher and ring consumer); the ring is timed until
+ * every event has been consumed.
+ * @author Course
+ */
+public class TaskEventDispatchBenchmark {
+    private static final int EVENTS = 1_000_000; // per round (half titles, half timestamps)
+    private static final int OBSERVERS = 4;
+    private static final int ROUNDS = 5;
+    private static final String[] TITLES = {"alpha", "beta", "gamma", "delta"};
+
+    /** Cheap observer: counts callbacks and batches. */
+    private static final class CountingObserver implements ITaskAttributeObserver {
+        long events;
+        long batches;
+        @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) { events++; }
+        @Override public void onUpdatedTimeChanged(ITask task, long oldTime, long newTime) { events++; }
+        @Override public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) { events++; }
+        @Override public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) { events++; }
+        @Override public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) { events++; }
+        @Override public void onTaskAdded(ITask task) { events++; }
+        @Override public void onTaskRemoved(ITask task) { events++; }
+        @Override public void onEndOfBatch() { batches++; }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        TaskAttributeSubject subject = TaskAttributeSubject.getInstance();
+        CountingObserver[] observers = new CountingObserver[OBSERVERS];
+        for (int i = 0; i < OBSERVERS; i++) {
+            observers[i] = new CountingObserver();
+            subject.addObserver(observers[i]);
+        }
+        Task task = Task.hydrate(1, "alpha", "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+        for (int round = 0; round < ROUNDS; round++) { // early rounds double as JIT warm-up
+            subject.useSynchronousDispatch();
+            long[] sync = run(subject, task);
+
+            subject.useRingBufferDispatch();
+            long batchesBefore = observers[0].batches;
+            long[] ring = run(subject, task);
+            long batches = observers[0].batches - batchesBefore;
+
+            System.out.printf("round %d: sync %.1f ns/event %.1f B/event | ring %.1f ns/event %.1f B/event (%d events/batch)%n",
+                    round, (double) sync[0] / EVENTS, (double) sync[1] / EVENTS,
+                    (double) ring[0] / EVENTS, (double) ring[1] / EVENTS, batches == 0 ? 0 : EVENTS / batches);
+        }
+        subject.useSynchronousDispatch();
+        System.out.println("(delivered " + observers[0].events + " events per observer)");
+    }
+
+    /** @return {elapsed nanos, bytes allocated by all threads} for one burst, waiting for consumption */
+    private static long[] run(TaskAttributeSubject subject, Task task) throws InterruptedException {
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS / 2; i++) {
+            subject.notifyTitleChanged(task, TITLES[i & 3], TITLES[(i + 1) & 3]);
+            subject.notifyUpdatedTimeChanged(task, i, i + 1L);
+        }
+        if (!subject.awaitQuiescence(30, TimeUnit.SECONDS)) throw new IllegalStateException("events not consumed");
+        long elapsed = System.nanoTime() - start;
+        return new long[]{elapsed, allocatedBytes() - bytesBefore};
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.task.ITaskDetails;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Allocation micro-benchmark for task hydration (run manually via main; not part of the Surefire suite).
+ * Compares the former Date-based row mapping (Timestamp -> Date copies kept in the task) with the
+ * primitive epoch-millis path now used by TasksDAODerby, and reports bytes allocated per hydrated task.
+ * Uses the HotSpot per-thread allocation counter, so numbers are exact for the calling thread.
+ * Hydrated graphs are kept reachable (as a loaded task list would be) so escape analysis cannot hide them;
+ * the Date path also retains its two Dates per task, mirroring the former Task field layout.
+ * @author Course
+ */
+public class TaskHydrationBenchmark {
+    private static final int TASKS = 200_000;
+    private static final int ROUNDS = 5;
+    /** sink preventing dead-code elimination */
+    private static long blackhole;
+    /** retained hydrated tasks (a loaded board) */
+    private static final Task[] retained = new Task[TASKS];
+    /** retained Dates of the former layout (created + updated per task) */
+    private static final Date[] retainedDates = new Date[TASKS * 2];
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        for (int round = 0; round < ROUNDS; round++) { // early rounds double as JIT warm-up
+            long before = threads.getThreadAllocatedBytes(tid);
+            hydrateWithDates();
+            long dates = threads.getThreadAllocatedBytes(tid) - before;
+
+            before = threads.getThreadAllocatedBytes(tid);
+            hydrateWithMillis();
+            long millis = threads.getThreadAllocatedBytes(tid) - before;
+
+            System.out.printf("round %d: Date path %.1f B/task | millis path %.1f B/task%n",
+                    round, (double) dates / TASKS, (double) millis / TASKS);
+        }
+        System.out.println("(blackhole " + blackhole + ")");
+    }
+
+    /** Former mapping: JDBC Timestamps copied into two Dates, then the Date hydrate adapter. */
+    private static void hydrateWithDates() {
+        for (int i = 0; i < TASKS; i++) {
+            Timestamp created = new Timestamp(i);
+            Timestamp updated = new Timestamp(i + 1L);
+            Date createdDate = new Date(created.getTime());
+            Date updatedDate = new Date(updated.getTime());
+            Task t = Task.hydrate(i, "Title", "Description", ToDoState.getInstance(), TaskPriority.MEDIUM,
+                    createdDate, updatedDate);
+            retained[i] = t;
+            retainedDates[2 * i] = createdDate;
+            retainedDates[2 * i + 1] = updatedDate;
+            blackhole += ((ITaskDetails) t).getUpdatedDate().getTime(); // Date accessor as old callers used it
+        }
+    }
+
+    /** Current mapping: JDBC Timestamps read straight into primitive fields. */
+    private static void hydrateWithMillis() {
+        for (int i = 0; i < TASKS; i++) {
+            long created = new Timestamp(i).getTime();
+            long updated = new Timestamp(i + 1L).getTime();
+            Task t = Task.hydrate(i, "Title", "Description", ToDoState.getInstance(), TaskPriority.MEDIUM, created, updated);
+            retained[i] = t;
+            blackhole += t.getUpdatedTime();
+        }
+    }
+}
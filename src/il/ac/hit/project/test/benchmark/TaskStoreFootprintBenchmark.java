@@ -0,0 +1,66 @@
+package benchmark;
+
+import il.ac.hit.project.main.model.store.ColumnarTaskStore;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.strategy.SortByCreationDateStrategyI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heap footprint and scan benchmark for a million-task board (run manually via main).
+ * Compares retained heap of {@code List<Task>} with {@link ColumnarTaskStore} holding the same shared strings
+ * (so only per-task structure is measured), then times filter + sort on both representations.
+ * Retained sizes come from used-heap deltas after System.gc(), so treat them as approximate.
+ * @author Course
+ */
+public class TaskStoreFootprintBenchmark {
+    private static final int TASKS = 1_000_000;
+
+    public static void main(String[] args) {
+        String[] titles = new String[TASKS];
+        for (int i = 0; i < TASKS; i++) titles[i] = "Task " + i;
+
+        long base = usedHeap();
+        List<ITask> objects = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            objects.add(Task.hydrate(i + 1, titles[i], "", ToDoState.getInstance(),
+                    TaskPriority.values()[i % 3], i, i));
+        }
+        long objectBytes = usedHeap() - base;
+
+        base = usedHeap();
+        ColumnarTaskStore store = ColumnarTaskStore.of(objects.toArray(new ITask[0]));
+        long columnBytes = usedHeap() - base;
+        System.out.printf("List<Task>: %.1f B/task | ColumnarTaskStore: %.1f B/task%n",
+                (double) objectBytes / TASKS, (double) columnBytes / TASKS);
+
+        ITaskFilter filter = TaskFilters.byPriority(TaskPriority.HIGH).and(TaskFilters.bySearchText("99"));
+        SortByCreationDateStrategyI sort = new SortByCreationDateStrategyI();
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            List<ITask> matches = new ArrayList<>();
+            for (ITask t : objects) if (filter.test(t)) matches.add(t);
+            sort.sort(matches);
+            long objectNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int[] rows = filter.selectRows(store);
+            sort.sortRows(store, rows);
+            long columnNanos = System.nanoTime() - start;
+            System.out.printf("round %d: objects %d ms (%d hits) | columns %d ms (%d hits)%n", round,
+                    objectNanos / 1_000_000, matches.size(), columnNanos / 1_000_000, rows.length);
+        }
+        System.out.println("(kept " + (objects.size() + store.size()) + ")");
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) System.gc();
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -3,10 +3,13 @@ package model.dao;
 import il.ac.hit.project.main.model.dao.ITasksDAO;
 import il.ac.hit.project.main.model.dao.TasksDAODerby;
 import il.ac.hit.project.main.model.dao.TasksDAOException;
+import il.ac.hit.project.main.model.dao.TaskNotFoundException;
+import il.ac.hit.project.main.model.dao.TasksVersionStamp;
 import il.ac.hit.project.main.model.task.ITask;
 import il.ac.hit.project.main.model.task.ITaskDetails;
 import il.ac.hit.project.main.model.task.Task;
 import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.TaskState;
 import il.ac.hit.project.main.model.task.ToDoState;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +22,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * Unit tests for the TasksDAODerby implementation.
@@ -169,4 +175,98 @@ public class TasksDAODerbyTest {
         ITask[] remainingTasks = tasksDAO.getTasks();
         assertEquals(0, remainingTasks.length);
     }
+
+    /**
+     * Verifies findTask/exists answer a missing id without throwing while getTask keeps its not-found contract.
+     * @throws TasksDAOException on DAO error
+     */
+    @Test
+    public void testFindTaskAndExistsForMissingId() throws TasksDAOException {
+        Task task = new Task(0, "Present", "here", ToDoState.getInstance(), null, TaskPriority.LOW);
+        tasksDAO.addTask(task);
+        int id = task.getId();
+
+        assertTrue(tasksDAO.exists(id));
+        assertEquals("Present", tasksDAO.findTask(id).getTitle());
+
+        int missing = id + 1000;
+        assertFalse(tasksDAO.exists(missing));
+        assertNull(tasksDAO.findTask(missing));
+        assertThrows(TaskNotFoundException.class, () -> tasksDAO.getTask(missing));
+    }
+
+    /**
+     * Verifies the aggregate version stamp changes on insert and on update.
+     * @throws TasksDAOException on DAO error
+     */
+    @Test
+    public void testVersionStampTracksChanges() throws TasksDAOException {
+        assertEquals(0, tasksDAO.getVersionStamp().rowCount());
+
+        Task task = new Task(0, "Stamp", "v1", ToDoState.getInstance(), null, TaskPriority.LOW);
+        tasksDAO.addTask(task);
+        TasksVersionStamp afterAdd = tasksDAO.getVersionStamp();
+        assertEquals(1, afterAdd.rowCount());
+        assertEquals(task.getId(), afterAdd.maxId());
+
+        task.setUpdatedDate(new java.util.Date(afterAdd.maxUpdatedMillis() + 1000));
+        tasksDAO.updateTask(task);
+        assertNotEquals(afterAdd, tasksDAO.getVersionStamp());
+    }
+
+    /**
+     * Opens a DAO on a legacy-schema database (VARCHAR priority/state): existing rows are backfilled into the
+     * SMALLINT code columns, a string-only row written later (older build) still decodes, and updating it
+     * moves it onto codes.
+     * @throws Exception on DAO / JDBC error
+     */
+    @Test
+    public void testLegacyStringColumnsMigrateToCodes() throws Exception {
+        String url = "jdbc:derby:memory:legacyTasksDB";
+        try (Connection raw = DriverManager.getConnection(url + ";create=true");
+             Statement stmt = raw.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE tasks (id INTEGER NOT NULL GENERATED ALWAYS AS IDENTITY,"
+                    + " title VARCHAR(255) NOT NULL, description CLOB, priority VARCHAR(10) NOT NULL,"
+                    + " state VARCHAR(20) NOT NULL, created_date TIMESTAMP NOT NULL,"
+                    + " updated_date TIMESTAMP NOT NULL, PRIMARY KEY (id))");
+            stmt.executeUpdate("INSERT INTO tasks (title, description, priority, state, created_date, updated_date)"
+                    + " VALUES ('A', '', 'High', 'IN_PROGRESS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),"
+                    + " ('B', '', 'MEDIUM', 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),"
+                    + " ('C', '', 'bogus', 'TODO', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+            TasksDAODerby legacyDAO = TasksDAODerby.open(url);
+            ITask[] tasks = legacyDAO.getTasks();
+            assertEquals(TaskPriority.HIGH, ((ITaskDetails) tasks[0]).getPriority());
+            assertEquals(TaskState.IN_PROGRESS, tasks[0].getState());
+            assertEquals(TaskPriority.MEDIUM, ((ITaskDetails) tasks[1]).getPriority());
+            assertEquals(TaskState.COMPLETED, tasks[1].getState());
+            assertEquals(TaskPriority.LOW, ((ITaskDetails) tasks[2]).getPriority());
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM tasks"
+                    + " WHERE priority_code IS NULL OR state_code IS NULL OR priority IS NOT NULL")) {
+                rs.next();
+                assertEquals(0, rs.getInt(1), "every legacy row is backfilled and its strings cleared");
+            }
+
+            // a row written by an older build: strings only, no codes
+            stmt.executeUpdate("INSERT INTO tasks (title, description, priority, state, created_date, updated_date)"
+                    + " VALUES ('D', '', 'Low', 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+            ITask legacyRow = legacyDAO.getTasks()[3];
+            assertEquals(TaskState.COMPLETED, legacyRow.getState());
+            ((ITaskDetails) legacyRow).setPriority(TaskPriority.HIGH);
+            legacyDAO.updateTask(legacyRow);
+            try (ResultSet rs = stmt.executeQuery("SELECT priority_code, state_code, priority FROM tasks WHERE title = 'D'")) {
+                rs.next();
+                assertEquals(TaskPriority.HIGH.getCode(), rs.getShort(1));
+                assertEquals(TaskState.COMPLETED.toStateType().getCode(), rs.getShort(2));
+                assertNull(rs.getString(3));
+            }
+        } finally {
+            try {
+                DriverManager.getConnection(url + ";drop=true");
+            } catch (SQLException e) {
+                // Derby reports a successful drop with SQLState 08006
+                if (!"08006".equals(e.getSQLState())) throw e;
+            }
+        }
+    }
 }
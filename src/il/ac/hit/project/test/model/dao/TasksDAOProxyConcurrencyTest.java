@@ -0,0 +1,179 @@
+package model.dao;
+
+import il.ac.hit.project.main.model.dao.ITasksDAO;
+import il.ac.hit.project.main.model.dao.TasksDAOException;
+import il.ac.hit.project.main.model.dao.TasksDAOProxy;
+import il.ac.hit.project.main.model.task.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress tests for single-flight loading in TasksDAOProxy.
+ * Many threads miss the cold cache at the same moment; only one call per key may reach the underlying DAO.
+ * @author Course
+ */
+public class TasksDAOProxyConcurrencyTest {
+    private static final int THREADS = 32;
+
+    /** Slow stub DAO counting every call that reaches it. */
+    private static class CountingDAO implements ITasksDAO {
+        final AtomicInteger getTasksCalls = new AtomicInteger();
+        final AtomicInteger getTaskCalls = new AtomicInteger();
+        final List<ITask> store = new ArrayList<>();
+        volatile boolean failLoads = false;
+        volatile boolean crashLoads = false;
+        @Override public ITask[] getTasks() throws TasksDAOException {
+            getTasksCalls.incrementAndGet(); pause();
+            if (failLoads) throw new TasksDAOException("boom");
+            if (crashLoads) throw new AssertionError("crash");
+            return store.toArray(new ITask[0]); }
+        @Override public ITask getTask(int id) throws TasksDAOException {
+            getTaskCalls.incrementAndGet(); pause();
+            if (failLoads) throw new TasksDAOException("boom");
+            return store.stream().filter(t->t.getId()==id).findFirst().orElse(null); }
+        @Override public void addTask(ITask task) { store.add(task); ((ITaskDetails) task).setId(store.size()); }
+        @Override public void updateTask(ITask task) { /* no-op for stub */ }
+        @Override public void deleteTasks() { store.clear(); }
+        @Override public void deleteTask(int id) { store.removeIf(t->t.getId()==id); }
+        private static void pause() {
+            try { Thread.sleep(50); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        }
+    }
+
+    private CountingDAO stub;
+    private TasksDAOProxy proxy;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setup() {
+        stub = new CountingDAO();
+        proxy = new TasksDAOProxy(stub);
+        pool = Executors.newFixedThreadPool(THREADS);
+        stub.addTask(new Task(0, "T1", "d", ToDoState.getInstance(), new Date(), TaskPriority.MEDIUM));
+        stub.addTask(new Task(0, "T2", "d", ToDoState.getInstance(), new Date(), TaskPriority.HIGH));
+    }
+
+    @AfterEach
+    void tearDown() { pool.shutdownNow(); }
+
+    /**
+     * Fires many simultaneous getTasks() calls at a cold cache and expects a single underlying load.
+     * @throws Exception on unexpected failure
+     */
+    @Test
+    void testConcurrentGetTasksMissesShareOneLoad() throws Exception {
+        List<Future<ITask[]>> results = runConcurrently(() -> proxy.getTasks());
+        for (Future<ITask[]> f : results) {
+            assertEquals(2, f.get(5, TimeUnit.SECONDS).length);
+        }
+        assertEquals(1, stub.getTasksCalls.get(), "Concurrent misses should coalesce into one DAO call");
+    }
+
+    /**
+     * Fires many simultaneous getTask(id) calls for the same id and expects a single underlying load.
+     * @throws Exception on unexpected failure
+     */
+    @Test
+    void testConcurrentGetTaskMissesShareOneLoad() throws Exception {
+        List<Future<ITask>> results = runConcurrently(() -> proxy.getTask(2));
+        for (Future<ITask> f : results) {
+            assertEquals("T2", f.get(5, TimeUnit.SECONDS).getTitle());
+        }
+        assertEquals(1, stub.getTaskCalls.get(), "Concurrent misses for one id should coalesce");
+    }
+
+    /**
+     * A failing shared load must surface the DAO exception to every waiter and must not be cached.
+     * @throws Exception on unexpected failure
+     */
+    @Test
+    void testSharedFailureReachesAllWaitersAndIsNotCached() throws Exception {
+        stub.failLoads = true;
+        List<Future<ITask[]>> results = runConcurrently(() -> proxy.getTasks());
+        for (Future<ITask[]> f : results) {
+            Exception e = assertThrows(Exception.class, () -> f.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TasksDAOException.class, e.getCause());
+        }
+        int failedCalls = stub.getTasksCalls.get();
+        assertTrue(failedCalls < THREADS, "Failures should still be shared by concurrent callers");
+        stub.failLoads = false;
+        assertEquals(2, proxy.getTasks().length);
+        assertEquals(failedCalls + 1, stub.getTasksCalls.get(), "Failure must not be cached");
+    }
+
+    /**
+     * A shared load failing with an Error (not an Exception) must still release every waiter.
+     * @throws Exception on unexpected failure
+     */
+    @Test
+    void testSharedErrorReleasesAllWaiters() throws Exception {
+        stub.crashLoads = true;
+        List<Future<ITask[]>> results = runConcurrently(() -> proxy.getTasks());
+        for (Future<ITask[]> f : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> f.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, e.getCause());
+        }
+    }
+
+    /**
+     * An invalidation arriving while a finished load is being published (after its generation check) must
+     * not be lost: the next read goes back to the DAO instead of serving the stale snapshot.
+     * @throws Exception on unexpected failure
+     */
+    @Test
+    void testInvalidationDuringPublishIsNotLost() throws Exception {
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean gated = new AtomicBoolean(true);
+        stub.store.add(new Task(3, "Gate", "d", ToDoState.getInstance(), new Date(), TaskPriority.LOW) {
+            @Override public int getId() { // read while the load indexes its result for the cache
+                if (gated.compareAndSet(true, false)) {
+                    publishing.countDown();
+                    try { release.await(5, TimeUnit.SECONDS); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                }
+                return super.getId();
+            }
+        });
+        Future<ITask[]> load = pool.submit(() -> proxy.getTasks());
+        assertTrue(publishing.await(5, TimeUnit.SECONDS));
+        Thread updater = new Thread(() -> {
+            try { proxy.updateTask(stub.store.get(0)); } catch (TasksDAOException e) { throw new IllegalStateException(e); }
+        });
+        updater.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (updater.getState() != Thread.State.BLOCKED && updater.isAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(1); // let the invalidation run as far as it can
+        }
+        release.countDown();
+        assertEquals(3, load.get(5, TimeUnit.SECONDS).length);
+        updater.join(5_000);
+        proxy.getTasks();
+        assertEquals(2, stub.getTasksCalls.get(), "Invalidation during publish must drop the loaded snapshot");
+    }
+
+    /** Release all workers at once through a latch to maximize overlap on the cold cache. */
+    private <T> List<Future<T>> runConcurrently(java.util.concurrent.Callable<T> call) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> { ready.countDown(); go.await(); return call.call(); }));
+        }
+        ready.await();
+        go.countDown();
+        return futures;
+    }
+}
@@ -6,7 +6,11 @@ import il.ac.hit.project.main.model.dao.TasksDAOProxy;
 import il.ac.hit.project.main.model.task.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
+import il.ac.hit.project.main.model.dao.TasksVersionStamp;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -19,13 +23,16 @@ import java.util.List;
 public class TasksDAOProxyTest {
     private static class StubDAO implements ITasksDAO {
         int getTasksCalls = 0;
+        int getTaskCalls = 0;
         final List<ITask> store = new ArrayList<>();
         @Override public ITask[] getTasks() { getTasksCalls++; return store.toArray(new ITask[0]); }
-        @Override public ITask getTask(int id) { return store.stream().filter(t->t.getId()==id).findFirst().orElse(null); }
+        @Override public ITask getTask(int id) { getTaskCalls++; return store.stream().filter(t->t.getId()==id).findFirst().orElse(null); }
         @Override public void addTask(ITask task) { store.add(task); ((ITaskDetails) task).setId(store.size()); }
         @Override public void updateTask(ITask task) { /* no-op for stub */ }
         @Override public void deleteTasks() { store.clear(); }
         @Override public void deleteTask(int id) { store.removeIf(t->t.getId()==id); }
+        @Override public TasksVersionStamp getVersionStamp() { /* computed without counting as a load */
+            return new TasksVersionStamp(store.size(), store.size(), 0); }
     }
 
     private StubDAO stub;
@@ -81,4 +88,49 @@ public class TasksDAOProxyTest {
         proxy.getTasks();
         assertEquals(3, stub.getTasksCalls, "Delete should invalidate cache");
     }
+
+    /**
+     * Ensures a missing id is answered from the negative cache on retry and that addTask clears it.
+     * @throws TasksDAOException on unexpected error
+     */
+    @Test
+    void testNegativeCacheForMissingIds() throws TasksDAOException {
+        assertNull(proxy.findTask(42));
+        assertThrows(TasksDAOException.class, () -> proxy.getTask(42));
+        assertFalse(proxy.exists(42));
+        assertEquals(1, stub.getTaskCalls, "Repeated lookups of a missing id should hit the negative cache");
+        proxy.addTask(new Task(0, "New", "x", ToDoState.getInstance(), null, TaskPriority.LOW));
+        assertNull(proxy.findTask(42));
+        assertEquals(2, stub.getTaskCalls, "addTask should invalidate the negative cache");
+        assertTrue(proxy.exists(1));
+    }
+
+    /**
+     * Saves a snapshot, seeds a fresh proxy from it without touching the DAO, then checks revalidation
+     * keeps a matching snapshot and drops a stale one.
+     * @param dir temporary directory for the snapshot file
+     * @throws TasksDAOException on unexpected DAO error
+     * @throws IOException on snapshot IO error
+     */
+    @Test
+    void testWarmStartSnapshotRoundTripAndRevalidation(@TempDir File dir) throws TasksDAOException, IOException {
+        File file = new File(dir, "tasks.snapshot");
+        proxy.saveSnapshot(file);
+        int loads = stub.getTasksCalls;
+
+        TasksDAOProxy warm = new TasksDAOProxy(stub);
+        assertTrue(warm.loadSnapshot(file));
+        ITask[] seeded = warm.getTasks();
+        assertEquals(loads, stub.getTasksCalls, "Seeded cache must not hit the DAO");
+        assertEquals(1, seeded.length);
+        assertEquals("T1", seeded[0].getTitle());
+        assertEquals(TaskPriority.MEDIUM, ((ITaskDetails) seeded[0]).getPriority());
+        assertFalse(warm.revalidateSnapshot(), "Matching stamp keeps the snapshot");
+
+        TasksDAOProxy stale = new TasksDAOProxy(stub);
+        assertTrue(stale.loadSnapshot(file));
+        stub.addTask(new Task(0, "Added elsewhere", "", ToDoState.getInstance(), null, TaskPriority.LOW));
+        assertTrue(stale.revalidateSnapshot(), "Changed stamp drops the snapshot");
+        assertEquals(2, stale.getTasks().length);
+    }
 }
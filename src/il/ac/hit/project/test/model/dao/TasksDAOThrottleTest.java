@@ -0,0 +1,124 @@
+package model.dao;
+
+import il.ac.hit.project.main.model.dao.ITasksDAO;
+import il.ac.hit.project.main.model.dao.TasksDAOException;
+import il.ac.hit.project.main.model.dao.TasksDAOThrottle;
+import il.ac.hit.project.main.model.task.ITask;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for TasksDAOThrottle: a burst of callers on virtual threads never has more than the permitted number
+ * of calls inside the wrapped DAO, and a caller interrupted while waiting gets a TasksDAOException.
+ * @author Course
+ */
+public class TasksDAOThrottleTest {
+
+    /** Slow stub DAO tracking how many calls run inside it at once. */
+    private static class ConcurrencyTrackingDAO implements ITasksDAO {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final AtomicInteger findTaskCalls = new AtomicInteger();
+        final AtomicInteger existsCalls = new AtomicInteger();
+        volatile CountDownLatch gate = new CountDownLatch(0);
+        private ITask[] enter() {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+                Thread.sleep(2); // simulated JDBC round trip
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return new ITask[0];
+        }
+        @Override public ITask[] getTasks() { return enter(); }
+        @Override public ITask getTask(int id) { enter(); return null; }
+        @Override public ITask findTask(int id) { findTaskCalls.incrementAndGet(); enter(); return null; }
+        @Override public boolean exists(int id) { existsCalls.incrementAndGet(); enter(); return id == 7; }
+        @Override public void addTask(ITask task) { enter(); }
+        @Override public void updateTask(ITask task) { enter(); }
+        @Override public void deleteTasks() { enter(); }
+        @Override public void deleteTask(int id) { enter(); }
+    }
+
+    /**
+     * 500 concurrent callers are admitted at most 4 at a time, and all of them complete.
+     * @throws Exception on failure of a caller
+     */
+    @Test
+    void testCapsConcurrentCallsUnderBurst() throws Exception {
+        ConcurrencyTrackingDAO dao = new ConcurrencyTrackingDAO();
+        TasksDAOThrottle throttle = new TasksDAOThrottle(dao, 4);
+        List<Future<?>> calls = new ArrayList<>();
+        try (ExecutorService burst = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 500; i++) {
+                int id = i;
+                calls.add(burst.submit(() -> {
+                    if (id % 2 == 0) throttle.findTask(id); else throttle.deleteTask(id);
+                    return null;
+                }));
+            }
+            for (Future<?> call : calls) call.get(30, TimeUnit.SECONDS);
+        }
+        assertEquals(4, dao.peak.get(), "wrapped DAO saw at most the permitted calls at once");
+        assertEquals(4, throttle.getPeakInUse());
+        assertEquals(0, throttle.getInUse());
+        assertThrows(IllegalArgumentException.class, () -> new TasksDAOThrottle(dao, 0));
+    }
+
+    /**
+     * exists reaches the wrapped DAO's own exists (e.g. the index-only probe of TasksDAODerby) under a
+     * permit, not the findTask-based interface default.
+     * @throws TasksDAOException on unexpected DAO error
+     */
+    @Test
+    void testExistsDelegatesToWrappedExists() throws TasksDAOException {
+        ConcurrencyTrackingDAO dao = new ConcurrencyTrackingDAO();
+        TasksDAOThrottle throttle = new TasksDAOThrottle(dao, 1);
+        assertTrue(throttle.exists(7));
+        assertFalse(throttle.exists(8));
+        assertEquals(2, dao.existsCalls.get());
+        assertEquals(0, dao.findTaskCalls.get(), "exists must not load the task");
+        assertEquals(1, throttle.getPeakInUse());
+    }
+
+    /**
+     * A caller interrupted while waiting for a permit fails with TasksDAOException and keeps its interrupt flag.
+     * @throws Exception on wait interruption
+     */
+    @Test
+    void testInterruptedWaitFailsWithDaoException() throws Exception {
+        ConcurrencyTrackingDAO dao = new ConcurrencyTrackingDAO();
+        dao.gate = new CountDownLatch(1);
+        TasksDAOThrottle throttle = new TasksDAOThrottle(dao, 1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try { throttle.getTasks(); } catch (TasksDAOException ignored) { }
+        });
+        while (dao.running.get() == 0) Thread.sleep(1);
+
+        AtomicInteger outcome = new AtomicInteger();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                throttle.getTasks();
+            } catch (TasksDAOException e) {
+                outcome.set(Thread.currentThread().isInterrupted() ? 1 : 2);
+            }
+        });
+        while (throttle.getWaitingCount() == 0) Thread.sleep(1);
+        waiter.interrupt();
+        waiter.join(5_000);
+        assertEquals(1, outcome.get(), "TasksDAOException with interrupt flag preserved");
+        dao.gate.countDown();
+        holder.join(5_000);
+    }
+}
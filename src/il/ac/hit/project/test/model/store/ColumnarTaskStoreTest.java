@@ -0,0 +1,145 @@
+package model.store;
+
+import il.ac.hit.project.main.model.store.ColumnarTaskStore;
+import il.ac.hit.project.main.model.store.TaskRowView;
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.strategy.SortingOption;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the columnar (struct-of-arrays) task store: row views, the id index under swap-removal,
+ * and agreement between column-evaluated filters / sorts and the object path.
+ * @author Course
+ */
+public class ColumnarTaskStoreTest {
+    private static final ITaskState[] STATES = {
+            ToDoState.getInstance(), InProgressState.getInstance(), CompletedState.getInstance() };
+    private static final String[] WORDS = { "Fix bug", "write Docs", "refactor", "Deploy", "review fix" };
+
+    /** deterministic pseudo-random board */
+    private static List<ITask> board(int n) {
+        Random random = new Random(42);
+        List<ITask> tasks = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            tasks.add(Task.hydrate(i * 7, WORDS[random.nextInt(WORDS.length)] + " " + i,
+                    random.nextBoolean() ? "urgent FIX needed" : "", STATES[random.nextInt(3)],
+                    TaskPriority.values()[random.nextInt(3)], random.nextInt(1000), 5000L + i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Values written through add() read back identically from the columns and from row views.
+     */
+    @Test
+    void testAddAndRowViewMirrorTask() {
+        ColumnarTaskStore store = new ColumnarTaskStore();
+        Task task = Task.hydrate(11, "Title", null, InProgressState.getInstance(), TaskPriority.HIGH, 100L, 200L);
+        int row = store.add(task);
+
+        assertEquals(row, store.rowOf(11));
+        assertEquals(-1, store.rowOf(12));
+        TaskRowView view = store.view(row);
+        assertEquals(11, view.getId());
+        assertEquals("Title", view.getTitle());
+        assertEquals("", view.getDescription());
+        assertEquals(TaskState.IN_PROGRESS, view.getState());
+        assertEquals(TaskPriority.HIGH, view.getPriority());
+        assertEquals(100L, view.getCreationTime());
+        assertEquals(200L, view.getUpdatedTime());
+
+        view.setPriority(TaskPriority.LOW);
+        assertEquals(TaskPriority.LOW, store.priority(row));
+        assertTrue(store.updatedTime(row) > 200L, "edits through a view refresh the updated time");
+        assertThrows(IllegalArgumentException.class, () -> store.add(task), "duplicate ids are rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> store.title(1));
+    }
+
+    /**
+     * Random adds / removes / id changes keep rowOf consistent with a reference map.
+     */
+    @Test
+    void testIdIndexSurvivesSwapRemovalAndGrowth() {
+        ColumnarTaskStore store = new ColumnarTaskStore(1);
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(5_000) - 100; // includes negative and zero ids
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id) != null, store.remove(id));
+            } else if (!expected.containsKey(id)) {
+                String title = "t" + id;
+                store.add(Task.hydrate(id, title, "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L));
+                expected.put(id, title);
+            }
+        }
+        assertEquals(expected.size(), store.size());
+        for (Map.Entry<Integer, String> e : expected.entrySet()) {
+            int row = store.rowOf(e.getKey());
+            assertTrue(row >= 0, "missing id " + e.getKey());
+            assertEquals(e.getValue(), store.title(row));
+        }
+        int row = store.rowOf(expected.keySet().iterator().next());
+        store.setId(row, 1_000_000);
+        assertEquals(row, store.rowOf(1_000_000));
+    }
+
+    /**
+     * Column-evaluated filters (including combinators) select exactly the tasks the object path accepts.
+     */
+    @Test
+    void testColumnFiltersMatchObjectFilters() {
+        List<ITask> tasks = board(500);
+        ColumnarTaskStore store = ColumnarTaskStore.of(tasks.toArray(new ITask[0]));
+        ITaskFilter[] filters = {
+                TaskFilters.bySearchText("fix"),
+                TaskFilters.createCombinedFilter("DOCS", "To Do"),
+                TaskFilters.urgentTasks(),
+                TaskFilters.pendingTasks().and(TaskFilters.byPriority(TaskPriority.MEDIUM)),
+                TaskFilters.byStateDisplayName("Unknown"),
+                ITaskFilter.all(),
+                task -> task.getId() % 2 == 0 // plain lambda: falls back to row views
+        };
+        for (ITaskFilter filter : filters) {
+            List<Integer> objectIds = new ArrayList<>();
+            for (ITask t : tasks) if (filter.test(t)) objectIds.add(t.getId());
+            List<Integer> rowIds = new ArrayList<>();
+            for (int r : filter.selectRows(store)) rowIds.add(store.id(r));
+            assertEquals(objectIds, rowIds);
+        }
+    }
+
+    /**
+     * Every built-in strategy orders rows exactly like its List sort (including ties), also after removals
+     * have swap-moved rows out of id order.
+     */
+    @Test
+    void testRowSortMatchesListSort() {
+        List<ITask> tasks = board(1_000);
+        for (int i = 0; i < 30; i++) { // equal titles, priorities and creation times
+            tasks.add(Task.hydrate(10_000 + i, i % 2 == 0 ? "Same title" : "SAME TITLE", "", STATES[0],
+                    TaskPriority.MEDIUM, 500L, 0L));
+        }
+        ColumnarTaskStore store = ColumnarTaskStore.of(tasks.toArray(new ITask[0]));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(store.remove(tasks.remove(i * 3).getId())); // last rows move into the holes
+        }
+        for (SortingOption option : SortingOption.values()) {
+            List<ITask> sorted = new ArrayList<>(tasks);
+            option.getStrategy().sort(sorted);
+            int[] rows = store.rows();
+            option.getStrategy().sortRows(store, rows);
+            for (int i = 0; i < rows.length; i++) {
+                assertEquals(sorted.get(i).getId(), store.id(rows[i]), option + " differs at " + i);
+            }
+        }
+    }
+}
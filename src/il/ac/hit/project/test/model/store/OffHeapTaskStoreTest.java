@@ -0,0 +1,120 @@
+package model.store;
+
+import il.ac.hit.project.main.model.store.ColumnarTaskStore;
+import il.ac.hit.project.main.model.store.ITaskStore;
+import il.ac.hit.project.main.model.store.OffHeapTaskStore;
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.strategy.SortingOption;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the FFM off-heap task store, checked row-for-row against the on-heap columnar store
+ * under random adds, removals and string rewrites (which force string-region compaction).
+ * @author Course
+ */
+public class OffHeapTaskStoreTest {
+    private static final ITaskState[] STATES = {
+            ToDoState.getInstance(), InProgressState.getInstance(), CompletedState.getInstance() };
+
+    /**
+     * Random mutations leave both stores with identical rows, including multi-byte UTF-8 strings.
+     */
+    @Test
+    void testMatchesColumnarStoreUnderRandomMutations() {
+        Random random = new Random(3);
+        ColumnarTaskStore heap = new ColumnarTaskStore(1);
+        try (OffHeapTaskStore offHeap = new OffHeapTaskStore(1)) {
+            for (int step = 0; step < 10_000; step++) {
+                int id = random.nextInt(800);
+                int action = random.nextInt(4);
+                if (action == 0) {
+                    assertEquals(heap.remove(id), offHeap.remove(id));
+                } else if (heap.rowOf(id) < 0) {
+                    Task task = Task.hydrate(id, "משימה " + id, random.nextBoolean() ? null : "déjà vu " + step,
+                            STATES[random.nextInt(3)], TaskPriority.values()[random.nextInt(3)], step, step + 1L);
+                    assertEquals(heap.add(task), offHeap.add(task));
+                } else if (action == 1) { // rewrite strings: old bytes become garbage
+                    String title = "t" + step + "-" + "x".repeat(random.nextInt(40));
+                    heap.setTitle(heap.rowOf(id), title);
+                    offHeap.setTitle(offHeap.rowOf(id), title);
+                    heap.setDescription(heap.rowOf(id), "🙂" + step);
+                    offHeap.setDescription(offHeap.rowOf(id), "🙂" + step);
+                } else {
+                    heap.setPriorityCode(heap.rowOf(id), (byte) 2);
+                    offHeap.setPriorityCode(offHeap.rowOf(id), (byte) 2);
+                }
+            }
+            assertStoresEqual(heap, offHeap);
+        }
+    }
+
+    /**
+     * Filters and sorts evaluated on the off-heap columns agree with the on-heap store and, after removals
+     * have swap-moved rows, with the List sort (ties broken by id).
+     */
+    @Test
+    void testFiltersAndSortsAgreeWithHeapStore() {
+        ITask[] tasks = new ITask[300];
+        Random random = new Random(9);
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = Task.hydrate(i + 1, (i % 5 == 0 ? "Fix " : "Task ") + i % 20, "", STATES[random.nextInt(3)],
+                    TaskPriority.values()[random.nextInt(3)], random.nextInt(50), 0L);
+        }
+        ColumnarTaskStore heap = ColumnarTaskStore.of(tasks);
+        try (OffHeapTaskStore offHeap = OffHeapTaskStore.of(tasks)) {
+            List<ITask> remaining = new ArrayList<>(Arrays.asList(tasks));
+            for (int i = 0; i < 40; i++) {
+                int id = remaining.remove(i * 2).getId();
+                assertTrue(heap.remove(id));
+                assertTrue(offHeap.remove(id));
+            }
+            ITaskFilter filter = TaskFilters.bySearchText("fix").or(TaskFilters.urgentTasks());
+            assertArrayEquals(filter.selectRows(heap), filter.selectRows(offHeap));
+            for (SortingOption option : SortingOption.values()) {
+                int[] heapRows = heap.rows();
+                int[] offHeapRows = offHeap.rows();
+                option.getStrategy().sortRows(heap, heapRows);
+                option.getStrategy().sortRows(offHeap, offHeapRows);
+                assertArrayEquals(heapRows, offHeapRows, option.toString());
+                List<ITask> sorted = new ArrayList<>(remaining);
+                option.getStrategy().sort(sorted);
+                for (int i = 0; i < offHeapRows.length; i++) {
+                    assertEquals(sorted.get(i).getId(), offHeap.id(offHeapRows[i]), option + " differs at " + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closing releases the memory; later access fails fast instead of reading freed memory.
+     */
+    @Test
+    void testClosedStoreRejectsAccess() {
+        OffHeapTaskStore store = new OffHeapTaskStore();
+        store.add(Task.hydrate(1, "A", "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L));
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.title(0));
+    }
+
+    private static void assertStoresEqual(ITaskStore expected, ITaskStore actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.id(row), actual.id(row));
+            assertEquals(expected.title(row), actual.title(row));
+            assertEquals(expected.description(row), actual.description(row));
+            assertEquals(expected.stateCode(row), actual.stateCode(row));
+            assertEquals(expected.priorityCode(row), actual.priorityCode(row));
+            assertEquals(expected.creationTime(row), actual.creationTime(row));
+            assertEquals(expected.updatedTime(row), actual.updatedTime(row));
+            assertEquals(row, actual.rowOf(actual.id(row)));
+        }
+        assertTrue(Arrays.stream(expected.rows()).allMatch(r -> actual.rowOf(expected.id(r)) == r));
+    }
+}
@@ -1,8 +1,11 @@
 package model.task;
 
 import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.view.ITaskAttributeObserver;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for the Task class.
@@ -71,6 +74,73 @@ public class TaskTest {
         assertEquals(TaskPriority.HIGH, task.getPriority());
     }
 
+    /**
+     * Ensures hydration keeps persisted timestamps and fires no observer events, unlike a setter call.
+     */
+    @Test
+    public void testHydrateIsSilentAndKeepsTimestamps() {
+        AtomicInteger events = new AtomicInteger();
+        Task.getAttributeSubject().addObserver(new ITaskAttributeObserver() {
+            @Override public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) { count(task); }
+            @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) { count(task); }
+            @Override public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) { count(task); }
+            @Override public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) { count(task); }
+            @Override public void onUpdatedDateChanged(ITask task, Date oldDate, Date newDate) { count(task); }
+            @Override public void onTaskAdded(ITask task) { count(task); }
+            @Override public void onTaskRemoved(ITask task) { count(task); }
+            private void count(ITask task) { if (task.getId() == 7001) events.incrementAndGet(); }
+        });
+
+        Date created = new Date(1_000);
+        Date updated = new Date(5_000);
+        Task task = Task.hydrate(7001, "Stored", null, InProgressState.getInstance(), TaskPriority.HIGH, created, updated);
+
+        assertEquals(0, events.get(), "Hydration must not notify observers");
+        assertEquals(created, task.getCreationDate());
+        assertEquals(updated, task.getUpdatedDate(), "Hydration must not touch the updated timestamp");
+        assertEquals("", task.getDescription());
+        assertEquals(TaskState.IN_PROGRESS, task.getState());
+
+        task.setTitle("Edited");
+        assertTrue(events.get() > 0, "Regular setters still notify observers");
+    }
+
+    /**
+     * Verifies apply() changes several fields with one combined event and a single timestamp bump.
+     */
+    @Test
+    public void testApplyPublishesSingleCombinedChange() {
+        java.util.List<TaskChange> changes = new java.util.ArrayList<>();
+        AtomicInteger granular = new AtomicInteger();
+        Task.getAttributeSubject().addObserver(new ITaskAttributeObserver() {
+            @Override public void onTaskChanged(TaskChange change) { if (change.task().getId() == 7002) changes.add(change); }
+            @Override public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) { count(task); }
+            @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) { count(task); }
+            @Override public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) { count(task); }
+            @Override public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) { count(task); }
+            @Override public void onUpdatedDateChanged(ITask task, Date oldDate, Date newDate) { count(task); }
+            @Override public void onTaskAdded(ITask task) { count(task); }
+            @Override public void onTaskRemoved(ITask task) { count(task); }
+            private void count(ITask task) { if (task.getId() == 7002) granular.incrementAndGet(); }
+        });
+        Task task = Task.hydrate(7002, "Old", "desc", ToDoState.getInstance(), TaskPriority.LOW, new Date(0), new Date(0));
+
+        TaskChange change = task.apply(new TaskEdit("New", null, CompletedState.getInstance(), TaskPriority.LOW));
+
+        assertEquals(1, changes.size(), "One combined event per edit");
+        assertEquals(0, granular.get(), "No per-attribute callbacks when onTaskChanged is handled");
+        assertSame(change, changes.getFirst());
+        assertEquals(java.util.Set.of(TaskAttribute.TITLE, TaskAttribute.STATE, TaskAttribute.UPDATED_DATE), change.attributes());
+        assertEquals("Old", change.oldTitle());
+        assertEquals("New", task.getTitle());
+        assertEquals("desc", task.getDescription());
+        assertEquals(TaskState.COMPLETED, task.getState());
+        assertNotEquals(new Date(0), task.getUpdatedDate());
+
+        assertNull(task.apply(new TaskEdit("New", "desc", null, null)), "No-op edit publishes nothing");
+        assertEquals(1, changes.size());
+    }
+
     /** Helper method to convert TaskState enum to ITaskState implementation. */
     private ITaskState createITaskStateFromTaskState(TaskState taskState) {
         return switch (taskState) {
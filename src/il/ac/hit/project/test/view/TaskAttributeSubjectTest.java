@@ -0,0 +1,241 @@
+package view;
+
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.view.ITaskAttributeObserver;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import il.ac.hit.project.main.view.TaskChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the TaskAttributeSubject event bus: copy-on-write registry, targeted subscriptions,
+ * asynchronous per-observer ordering, slow-observer isolation, overflow policies and ring-buffer
+ * dispatch. Always restores synchronous dispatch.
+ * @author Course
+ */
+public class TaskAttributeSubjectTest {
+    private final TaskAttributeSubject subject = TaskAttributeSubject.getInstance();
+    private final List<ITaskAttributeObserver> registered = new ArrayList<>();
+    private final Task task = Task.hydrate(9001, "Bus", "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+
+    /** Observer recording the new titles it receives (other callbacks ignored). */
+    private static class TitleRecorder implements ITaskAttributeObserver {
+        final List<String> titles = Collections.synchronizedList(new ArrayList<>());
+        @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) { titles.add(newTitle); }
+        @Override public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) { }
+        @Override public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) { }
+        @Override public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) { }
+        @Override public void onTaskAdded(ITask task) { }
+        @Override public void onTaskRemoved(ITask task) { }
+    }
+
+    /** Observer recording "kind:id" for every callback it receives. */
+    private static class EventRecorder implements ITaskAttributeObserver {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) { events.add("title:" + task.getId()); }
+        @Override public void onStateChanged(ITask task, ITaskState oldState, ITaskState newState) { events.add("state:" + task.getId()); }
+        @Override public void onPriorityChanged(ITask task, TaskPriority oldPriority, TaskPriority newPriority) { events.add("priority:" + task.getId()); }
+        @Override public void onDescriptionChanged(ITask task, String oldDescription, String newDescription) { events.add("description:" + task.getId()); }
+        @Override public void onTaskChanged(TaskChange change) { events.add("changed:" + change.task().getId()); }
+        @Override public void onTaskAdded(ITask task) { events.add("added:" + task.getId()); }
+        @Override public void onTaskRemoved(ITask task) { events.add("removed:" + task.getId()); }
+    }
+
+    private <T extends ITaskAttributeObserver> T register(T observer) {
+        subject.addObserver(observer);
+        registered.add(observer);
+        return observer;
+    }
+
+    @AfterEach
+    void tearDown() {
+        subject.useSynchronousDispatch();
+        registered.forEach(subject::removeObserver);
+    }
+
+    /**
+     * Observers may (un)register from inside a callback; removal stops delivery.
+     */
+    @Test
+    void testRegistryMutationDuringDispatch() {
+        TitleRecorder late = new TitleRecorder();
+        TitleRecorder mutating = register(new TitleRecorder() {
+            @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+                super.onTitleChanged(task, oldTitle, newTitle);
+                register(late); // would throw ConcurrentModificationException with a plain ArrayList
+            }
+        });
+        subject.notifyTitleChanged(task, "a", "b");
+        assertEquals(List.of("b"), mutating.titles);
+        assertTrue(late.titles.isEmpty(), "added during dispatch: sees the next event only");
+
+        assertTrue(subject.removeObserver(mutating));
+        registered.remove(mutating);
+        subject.notifyTitleChanged(task, "b", "c");
+        assertEquals(List.of("b"), mutating.titles);
+        assertEquals(List.of("c"), late.titles);
+    }
+
+    /**
+     * Targeted subscriptions only see events for their task ids / event types; a combined change reaches
+     * type subscribers whose attribute it touches; cancelling stops delivery.
+     */
+    @Test
+    void testTargetedSubscriptions() {
+        Task other = Task.hydrate(9002, "Other", "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+        EventRecorder details = new EventRecorder();
+        EventRecorder stateCounter = new EventRecorder();
+        EventRecorder both = new EventRecorder();
+        registered.addAll(List.of(details, stateCounter, both)); // removeObserver also drops targeted registrations
+        TaskAttributeSubject.Subscription detailsSub = subject.subscribeToTask(details, task.getId());
+        subject.subscribeToTypes(stateCounter, TaskChangeEvent.Type.STATE);
+        subject.subscribe(both, Set.of(other.getId()), EnumSet.of(TaskChangeEvent.Type.PRIORITY));
+
+        subject.notifyTitleChanged(task, "a", "b");
+        subject.notifyTitleChanged(other, "a", "b");
+        subject.notifyStateChanged(other, ToDoState.getInstance(), InProgressState.getInstance());
+        subject.notifyPriorityChanged(other, TaskPriority.LOW, TaskPriority.HIGH);
+        subject.notifyPriorityChanged(task, TaskPriority.LOW, TaskPriority.HIGH);
+        TaskChange stateEdit = new TaskChange(task, Set.of(TaskAttribute.STATE, TaskAttribute.UPDATED_DATE),
+                "b", "b", "", "", ToDoState.getInstance(), CompletedState.getInstance(),
+                TaskPriority.HIGH, TaskPriority.HIGH, 0L, 1L);
+        subject.notifyTaskChanged(stateEdit);
+
+        assertEquals(List.of("title:9001", "priority:9001", "changed:9001"), details.events);
+        assertEquals(List.of("state:9002", "changed:9001"), stateCounter.events);
+        assertEquals(List.of("priority:9002"), both.events);
+
+        assertTrue(detailsSub.cancel());
+        assertFalse(detailsSub.cancel(), "cancel is idempotent");
+        assertFalse(detailsSub.isActive());
+        subject.notifyTitleChanged(task, "b", "c");
+        assertEquals(3, details.events.size());
+        assertThrows(IllegalArgumentException.class, () -> subject.subscribe(details, Set.of(), null));
+    }
+
+    /**
+     * Asynchronous mode delivers every event in publish order per observer, and a stalled observer neither
+     * blocks the publisher nor delays other observers.
+     * @throws Exception on timeout / interruption
+     */
+    @Test
+    void testAsyncOrderingAndSlowObserverIsolation() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TitleRecorder slow = register(new TitleRecorder() {
+            @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+                try { release.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                super.onTitleChanged(task, oldTitle, newTitle);
+            }
+        });
+        TitleRecorder fast = register(new TitleRecorder());
+        subject.useAsynchronousDispatch(2, 2_000, TaskAttributeSubject.OverflowPolicy.BLOCK);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            subject.notifyTitleChanged(task, "", "t" + i); // returns although "slow" is stalled
+            expected.add("t" + i);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (fast.titles.size() < expected.size() && System.nanoTime() < deadline) Thread.sleep(1);
+        assertEquals(expected, fast.titles, "fast observer is not held back by the stalled one");
+        assertTrue(slow.titles.isEmpty());
+
+        release.countDown();
+        assertTrue(subject.awaitQuiescence(5, TimeUnit.SECONDS));
+        assertEquals(expected, slow.titles, "per-observer publish order is preserved");
+    }
+
+    /**
+     * DROP_OLDEST keeps the most recent events of a stalled observer; DROP_NEWEST keeps the first ones.
+     * @throws Exception on timeout / interruption
+     */
+    @Test
+    void testOverflowPolicies() throws Exception {
+        for (TaskAttributeSubject.OverflowPolicy policy : List.of(
+                TaskAttributeSubject.OverflowPolicy.DROP_OLDEST, TaskAttributeSubject.OverflowPolicy.DROP_NEWEST)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            TitleRecorder stalled = register(new TitleRecorder() {
+                @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+                    started.countDown();
+                    try { release.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                    super.onTitleChanged(task, oldTitle, newTitle);
+                }
+            });
+            subject.useAsynchronousDispatch(4, 4, policy); // spare threads keep other (leaked) observers drained
+            long droppedBefore = subject.getDroppedEventCount();
+
+            subject.notifyTitleChanged(task, "", "first"); // taken by the dispatcher, then stalls
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 10; i++) subject.notifyTitleChanged(task, "", "e" + i); // mailbox holds 4
+            release.countDown();
+            assertTrue(subject.awaitQuiescence(5, TimeUnit.SECONDS));
+
+            // 11 events for a stalled observer with 4 slots: at least 6 dropped (global counter: other
+            // observers registered on the singleton by other tests may add to it)
+            assertTrue(subject.getDroppedEventCount() - droppedBefore >= 6, policy.toString());
+            List<String> expected = policy == TaskAttributeSubject.OverflowPolicy.DROP_OLDEST
+                    ? List.of("first", "e6", "e7", "e8", "e9")
+                    : List.of("first", "e0", "e1", "e2", "e3");
+            assertEquals(expected, stalled.titles, policy.toString());
+            subject.removeObserver(stalled);
+            registered.remove(stalled);
+        }
+    }
+
+    /**
+     * Ring-buffer dispatch with several producers and a small (wrapping) ring: every event is delivered
+     * once, each producer's events arrive in its publish order, and onEndOfBatch closes every batch.
+     * @throws Exception on timeout / interruption
+     */
+    @Test
+    void testRingBufferDispatchWithConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        List<List<Integer>> seen = new ArrayList<>();
+        for (int p = 0; p < producers; p++) seen.add(new ArrayList<>()); // consumer thread only
+        java.util.concurrent.atomic.AtomicInteger batches = new java.util.concurrent.atomic.AtomicInteger();
+        register(new TitleRecorder() {
+            @Override public void onTitleChanged(ITask task, String oldTitle, String newTitle) {
+                seen.get(Integer.parseInt(oldTitle)).add(Integer.parseInt(newTitle));
+            }
+            @Override public void onEndOfBatch() { batches.incrementAndGet(); }
+        });
+        subject.useRingBufferDispatch(64);
+        assertEquals(TaskAttributeSubject.DispatchMode.RING_BUFFER, subject.getDispatchMode());
+        assertThrows(IllegalArgumentException.class, () -> subject.useRingBufferDispatch(100));
+
+        List<String> producerIds = new ArrayList<>();
+        for (int p = 0; p < producers; p++) producerIds.add(String.valueOf(p));
+        List<String> counters = new ArrayList<>();
+        for (int i = 0; i < perProducer; i++) counters.add(String.valueOf(i)); // preformatted: keep producers fast
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String producer = producerIds.get(p);
+            Thread t = new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                for (String counter : counters) subject.notifyTitleChanged(task, producer, counter);
+            });
+            t.start();
+            threads.add(t);
+        }
+        start.countDown();
+        for (Thread t : threads) t.join(TimeUnit.SECONDS.toMillis(10));
+        assertTrue(subject.awaitQuiescence(5, TimeUnit.SECONDS));
+        subject.useSynchronousDispatch();
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < perProducer; i++) expected.add(i);
+        for (int p = 0; p < producers; p++) assertEquals(expected, seen.get(p), "producer " + p);
+        assertTrue(batches.get() >= 1 && batches.get() <= producers * perProducer, "batches " + batches.get());
+    }
+}
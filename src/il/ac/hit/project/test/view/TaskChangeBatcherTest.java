@@ -0,0 +1,144 @@
+package view;
+
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.view.ITaskChangeBatchObserver;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import il.ac.hit.project.main.view.TaskChangeBatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for TaskChangeBatcher: per-task merging, add/remove cancellation and timed window delivery.
+ * @author Course
+ */
+public class TaskChangeBatcherTest {
+    private final TaskAttributeSubject subject = TaskAttributeSubject.getInstance();
+    private TaskChangeBatcher batcher;
+
+    /** One delivered batch. */
+    private record Batch(List<TaskChange> changes, List<ITask> added, List<ITask> removed) { }
+
+    /** Observer recording every batch it receives. */
+    private static class BatchRecorder implements ITaskChangeBatchObserver {
+        final List<Batch> batches = Collections.synchronizedList(new ArrayList<>());
+        @Override public void onBatch(List<TaskChange> changes) { }
+        @Override public void onBatch(List<TaskChange> changes, List<ITask> added, List<ITask> removed) {
+            batches.add(new Batch(changes, added, removed));
+        }
+    }
+
+    private static Task task(int id, String title) {
+        return Task.hydrate(id, title, "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) batcher.close();
+    }
+
+    /**
+     * Many notifications for two tasks within one window become one batch with one merged change per task;
+     * an attribute that returns to its original value is dropped.
+     */
+    @Test
+    void testMergesPerTaskWithinWindow() {
+        batcher = new TaskChangeBatcher(1, TimeUnit.HOURS); // only explicit flushes deliver
+        batcher.attach(subject);
+        BatchRecorder recorder = new BatchRecorder();
+        batcher.addObserver(recorder);
+        Task first = task(9101, "a");
+        Task second = task(9102, "x");
+
+        subject.notifyTitleChanged(first, "a", "b");
+        subject.notifyTitleChanged(first, "b", "c");
+        subject.notifyPriorityChanged(first, TaskPriority.LOW, TaskPriority.HIGH);
+        subject.notifyUpdatedTimeChanged(first, 0L, 5L);
+        subject.notifyDescriptionChanged(second, "", "d");
+        subject.notifyDescriptionChanged(second, "d", ""); // back to start -> no net change
+        subject.notifyStateChanged(second, ToDoState.getInstance(), InProgressState.getInstance());
+        assertTrue(recorder.batches.isEmpty(), "nothing delivered before the window closes");
+
+        batcher.flush();
+        assertEquals(1, recorder.batches.size());
+        List<TaskChange> changes = recorder.batches.get(0).changes();
+        assertEquals(2, changes.size());
+
+        TaskChange merged = changes.get(0);
+        assertSame(first, merged.task());
+        assertEquals(Set.of(TaskAttribute.TITLE, TaskAttribute.PRIORITY, TaskAttribute.UPDATED_DATE), merged.attributes());
+        assertEquals("a", merged.oldTitle());
+        assertEquals("c", merged.newTitle());
+        assertEquals(TaskPriority.HIGH, merged.newPriority());
+        assertEquals(5L, merged.newUpdatedTime());
+
+        TaskChange other = changes.get(1);
+        assertEquals(Set.of(TaskAttribute.STATE), other.attributes());
+        assertEquals(ITaskState.StateType.IN_PROGRESS, other.newState().getStateType());
+        batcher.flush();
+        assertEquals(1, recorder.batches.size(), "empty window delivers nothing");
+    }
+
+    /**
+     * Adding then removing a task in one window cancels out; removing a pre-existing task is reported
+     * and drops its pending edits.
+     */
+    @Test
+    void testMembershipChangesWithinWindow() {
+        batcher = new TaskChangeBatcher(1, TimeUnit.HOURS);
+        batcher.attach(subject);
+        BatchRecorder recorder = new BatchRecorder();
+        batcher.addObserver(recorder);
+        Task transientTask = task(9111, "t");
+        Task existing = task(9112, "e");
+        Task fresh = task(9113, "f");
+
+        subject.notifyTaskAdded(transientTask);
+        subject.notifyTitleChanged(transientTask, "t", "u");
+        subject.notifyTaskRemoved(transientTask);
+        subject.notifyTitleChanged(existing, "e", "g");
+        subject.notifyTaskRemoved(existing);
+        subject.notifyTaskAdded(fresh);
+        subject.notifyTitleChanged(fresh, "f", "h"); // folded into the addition
+        batcher.flush();
+
+        assertEquals(1, recorder.batches.size());
+        Batch batch = recorder.batches.get(0);
+        assertTrue(batch.changes().isEmpty());
+        assertEquals(List.of(fresh), batch.added());
+        assertEquals(List.of(existing), batch.removed());
+    }
+
+    /**
+     * The timer closes the window on its own and delivers a single batch for a burst of events.
+     */
+    @Test
+    void testTimerDeliversOneBatchPerWindow() throws InterruptedException {
+        batcher = new TaskChangeBatcher(20, TimeUnit.MILLISECONDS);
+        batcher.attach(subject);
+        CountDownLatch delivered = new CountDownLatch(1);
+        BatchRecorder recorder = new BatchRecorder() {
+            @Override public void onBatch(List<TaskChange> changes, List<ITask> added, List<ITask> removed) {
+                super.onBatch(changes, added, removed);
+                delivered.countDown();
+            }
+        };
+        batcher.addObserver(recorder);
+        Task burst = task(9121, "0");
+        for (int i = 0; i < 50; i++) {
+            subject.notifyTitleChanged(burst, String.valueOf(i), String.valueOf(i + 1));
+        }
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(1, recorder.batches.size());
+        TaskChange change = recorder.batches.get(0).changes().get(0);
+        assertEquals("0", change.oldTitle());
+        assertEquals("50", change.newTitle());
+        assertEquals(20, batcher.getWindowMillis());
+    }
+}
@@ -0,0 +1,156 @@
+package view;
+
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import il.ac.hit.project.main.view.TaskChangePublisher;
+import il.ac.hit.project.main.view.TaskChangePublisher.BackpressureStrategy;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Flow;
+
+/**
+ * Tests for TaskChangePublisher: demand-driven delivery of subject events, the per-subscriber buffering
+ * strategies, cancellation, and spec errors. Uses a same-thread executor so delivery is deterministic.
+ * @author Course
+ */
+public class TaskChangePublisherTest {
+    private final TaskAttributeSubject subject = TaskAttributeSubject.getInstance();
+    private final Task task = Task.hydrate(9301, "t0", "d", ToDoState.getInstance(), TaskPriority.LOW, 0L, 50L);
+
+    /** Subscriber that records signals and requests only when told to. */
+    private static final class Recorder implements Flow.Subscriber<TaskChange> {
+        Flow.Subscription subscription;
+        final List<TaskChange> items = new ArrayList<>();
+        Throwable error;
+        boolean completed;
+        @Override public void onSubscribe(Flow.Subscription s) { subscription = s; }
+        @Override public void onNext(TaskChange item) { items.add(item); }
+        @Override public void onError(Throwable t) { error = t; }
+        @Override public void onComplete() { completed = true; }
+        List<String> titles() { return items.stream().map(TaskChange::newTitle).toList(); }
+    }
+
+    private void publishTitles(TaskChangePublisher publisher, int count) {
+        for (int i = 1; i <= count; i++) publisher.offer(titleChange("t" + (i - 1), "t" + i));
+    }
+
+    private TaskChange titleChange(String oldTitle, String newTitle) {
+        return new TaskChange(task, Set.of(TaskAttribute.TITLE), oldTitle, newTitle, "d", "d",
+                ToDoState.getInstance(), ToDoState.getInstance(), TaskPriority.LOW, TaskPriority.LOW, 50L, 50L);
+    }
+
+    /**
+     * Items flow only as far as the subscriber's demand; subject notifications become TaskChange items
+     * carrying the task's current values for untouched attributes; close completes after the backlog.
+     */
+    @Test
+    void testDemandDrivenDeliveryFromSubject() {
+        TaskChangePublisher publisher = new TaskChangePublisher(Runnable::run);
+        Recorder recorder = new Recorder();
+        publisher.subscribe(recorder);
+        assertNotNull(recorder.subscription, "onSubscribe comes first");
+        publisher.attach(subject);
+        try {
+            subject.notifyTitleChanged(task, "t0", "t1");
+            subject.notifyPriorityChanged(task, TaskPriority.LOW, TaskPriority.HIGH);
+            assertTrue(recorder.items.isEmpty(), "no demand, no delivery");
+
+            recorder.subscription.request(1);
+            assertEquals(1, recorder.items.size());
+            TaskChange title = recorder.items.get(0);
+            assertEquals(Set.of(TaskAttribute.TITLE), title.attributes());
+            assertEquals("t0", title.oldTitle());
+            assertEquals("t1", title.newTitle());
+            assertEquals(TaskPriority.LOW, title.newPriority());
+            assertEquals(50L, title.newUpdatedTime());
+
+            recorder.subscription.request(5);
+            assertEquals(TaskPriority.HIGH, recorder.items.get(1).newPriority());
+            subject.notifyTaskAdded(task); // membership changes are not items
+            assertEquals(2, recorder.items.size());
+            subject.notifyUpdatedTimeChanged(task, 50L, 60L);
+            assertEquals(60L, recorder.items.get(2).newUpdatedTime());
+        } finally {
+            publisher.detach();
+        }
+        publishTitles(publisher, 4); // 3 left of the requested 6; the 4th stays buffered
+        assertEquals(List.of("t1", "t2", "t3"), recorder.titles().subList(3, 6));
+        publisher.close();
+        assertFalse(recorder.completed, "buffered items are delivered before completion");
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals("t4", recorder.titles().get(6));
+        assertTrue(recorder.completed);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    /**
+     * Full buffers apply each subscriber's strategy: DROP_OLDEST keeps the newest items, LATEST_ONLY keeps
+     * one, BUFFER fails the subscription on overflow without affecting the others.
+     */
+    @Test
+    void testBufferingStrategies() {
+        TaskChangePublisher publisher = new TaskChangePublisher(Runnable::run);
+        Recorder dropOldest = new Recorder();
+        Recorder latest = new Recorder();
+        Recorder buffer = new Recorder();
+        publisher.subscribe(dropOldest, BackpressureStrategy.DROP_OLDEST, 2);
+        publisher.subscribe(latest, BackpressureStrategy.LATEST_ONLY, 8);
+        publisher.subscribe(buffer, BackpressureStrategy.BUFFER, 3);
+
+        publishTitles(publisher, 5);
+        dropOldest.subscription.request(10);
+        latest.subscription.request(10);
+        assertEquals(List.of("t4", "t5"), dropOldest.titles());
+        assertEquals(List.of("t5"), latest.titles());
+        assertEquals(3 + 4, publisher.getDroppedItemCount());
+        assertInstanceOf(IllegalStateException.class, buffer.error);
+        assertTrue(buffer.items.isEmpty());
+        assertEquals(2, publisher.getSubscriberCount());
+
+        publishTitles(publisher, 1); // demand left: delivered immediately
+        assertEquals("t1", dropOldest.titles().get(2));
+        assertEquals("t1", latest.titles().get(1));
+    }
+
+    /**
+     * Cancelled subscriptions stop receiving items; non-positive requests, duplicate subscriptions and
+     * throwing subscribers are reported through onError.
+     */
+    @Test
+    void testCancellationAndSpecErrors() {
+        TaskChangePublisher publisher = new TaskChangePublisher(Runnable::run);
+        Recorder cancelled = new Recorder();
+        publisher.subscribe(cancelled);
+        cancelled.subscription.request(Long.MAX_VALUE);
+        publishTitles(publisher, 1);
+        cancelled.subscription.cancel();
+        publishTitles(publisher, 2);
+        assertEquals(1, cancelled.items.size());
+        assertEquals(0, publisher.getSubscriberCount());
+
+        Recorder invalid = new Recorder();
+        publisher.subscribe(invalid);
+        invalid.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, invalid.error);
+
+        Recorder once = new Recorder();
+        publisher.subscribe(once);
+        publisher.subscribe(once);
+        assertInstanceOf(IllegalStateException.class, once.error, "second subscribe of the same subscriber fails");
+
+        Throwable[] thrown = new Throwable[1];
+        publisher.subscribe(new Flow.Subscriber<TaskChange>() {
+            @Override public void onSubscribe(Flow.Subscription s) { s.request(1); }
+            @Override public void onNext(TaskChange item) { throw new IllegalStateException("boom"); }
+            @Override public void onError(Throwable t) { thrown[0] = t; }
+            @Override public void onComplete() { }
+        });
+        publishTitles(publisher, 1);
+        assertEquals("boom", thrown[0].getMessage(), "throwing subscriber is cancelled with its error");
+        assertEquals(1, publisher.getSubscriberCount()); // only the first "once" subscription remains
+        assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+    }
+}
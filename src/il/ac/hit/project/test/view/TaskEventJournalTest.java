@@ -0,0 +1,124 @@
+package view;
+
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import il.ac.hit.project.main.view.TaskChangeEvent;
+import il.ac.hit.project.main.view.TaskEventJournal;
+import il.ac.hit.project.main.view.TaskJournalEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for TaskEventJournal: event capture and replay, resuming from offsets, reopening and growth
+ * past the initial mapping, and rejection of foreign files.
+ * @author Course
+ */
+public class TaskEventJournalTest {
+    private final TaskAttributeSubject subject = TaskAttributeSubject.getInstance();
+
+    @TempDir
+    File dir;
+
+    /**
+     * Every event kind published on the subject is journaled with its values and replays in order;
+     * replay can resume from any returned offset.
+     * @throws Exception on IO failure / timeout
+     */
+    @Test
+    void testJournalsAndReplaysSubjectEvents() throws Exception {
+        Task task = Task.hydrate(9201, "Draft", "d", ToDoState.getInstance(), TaskPriority.LOW, 100L, 200L);
+        try (TaskEventJournal journal = TaskEventJournal.open(new File(dir, "events.journal"))) {
+            journal.attach(subject);
+            subject.notifyTaskAdded(task);
+            subject.notifyTitleChanged(task, "Draft", "Final");
+            subject.notifyStateChanged(task, ToDoState.getInstance(), InProgressState.getInstance());
+            subject.notifyPriorityChanged(task, TaskPriority.LOW, TaskPriority.HIGH);
+            subject.notifyUpdatedTimeChanged(task, 200L, 300L);
+            subject.notifyTaskChanged(new TaskChange(task, Set.of(TaskAttribute.DESCRIPTION, TaskAttribute.UPDATED_DATE),
+                    "Final", "Final", "d", "ünïcode", InProgressState.getInstance(), InProgressState.getInstance(),
+                    TaskPriority.HIGH, TaskPriority.HIGH, 300L, 400L));
+            subject.notifyTaskRemoved(task);
+            journal.detach();
+            subject.notifyTitleChanged(task, "Final", "ignored"); // not journaled after detach
+            assertTrue(journal.awaitWritten(5, TimeUnit.SECONDS));
+
+            List<TaskJournalEntry> entries = new ArrayList<>();
+            long end = journal.replay(TaskEventJournal.FIRST_OFFSET, entries::add);
+            assertEquals(journal.getEndOffset(), end);
+            assertEquals(List.of(TaskChangeEvent.Type.TASK_ADDED, TaskChangeEvent.Type.TITLE, TaskChangeEvent.Type.STATE,
+                    TaskChangeEvent.Type.PRIORITY, TaskChangeEvent.Type.UPDATED_TIME, TaskChangeEvent.Type.TASK_CHANGED,
+                    TaskChangeEvent.Type.TASK_REMOVED), entries.stream().map(TaskJournalEntry::type).toList());
+
+            TaskJournalEntry added = entries.get(0);
+            assertEquals(9201, added.taskId());
+            assertEquals("Draft", added.newTitle());
+            assertEquals(ITaskState.StateType.TODO, added.newState());
+            assertEquals(100L, added.creationTime());
+            assertEquals("Final", entries.get(1).newTitle());
+            assertEquals(ITaskState.StateType.IN_PROGRESS, entries.get(2).newState());
+            assertEquals(TaskPriority.HIGH, entries.get(3).newPriority());
+            assertEquals(300L, entries.get(4).newUpdatedTime());
+            TaskJournalEntry changed = entries.get(5);
+            assertEquals(Set.of(TaskAttribute.DESCRIPTION, TaskAttribute.UPDATED_DATE), changed.attributes());
+            assertEquals("ünïcode", changed.newDescription());
+            assertNull(entries.get(6).newTitle());
+
+            List<TaskJournalEntry> tail = new ArrayList<>();
+            assertEquals(end, journal.replay(entries.get(4).offset(), tail::add)); // resume mid-journal
+            assertEquals(entries.subList(4, 7), tail);
+            assertEquals(end, journal.replay(end, _ -> fail("nothing past the end")));
+        }
+    }
+
+    /**
+     * A reopened journal keeps its records and appends after them, growing the mapping past its initial size.
+     * @throws Exception on IO failure / timeout
+     */
+    @Test
+    void testReopenAppendsAndGrows() throws Exception {
+        File file = new File(dir, "grow.journal");
+        Task task = Task.hydrate(9202, "t", "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+        String longTitle = "x".repeat(200);
+        int first = 3_000;
+        try (TaskEventJournal journal = TaskEventJournal.open(file, 64)) { // small queue: publishers wait for the writer
+            for (int i = 0; i < first; i++) {
+                journal.append(TaskChangeEvent.titleChanged(task, longTitle, longTitle + i));
+            }
+        }
+        long sizeAfterFirst;
+        try (TaskEventJournal journal = TaskEventJournal.open(file)) {
+            sizeAfterFirst = journal.getEndOffset();
+            for (int i = 0; i < first; i++) {
+                journal.append(TaskChangeEvent.titleChanged(task, longTitle, longTitle + i));
+            }
+            assertTrue(journal.awaitWritten(5, TimeUnit.SECONDS));
+            assertTrue(journal.getEndOffset() > 1 << 20, "records extend past the initial 1 MB mapping");
+            List<String> titles = new ArrayList<>();
+            journal.replay(TaskEventJournal.FIRST_OFFSET, e -> titles.add(e.newTitle()));
+            assertEquals(2 * first, titles.size());
+            assertEquals(longTitle + (first - 1), titles.get(2 * first - 1));
+            int[] resumed = {0};
+            journal.replay(sizeAfterFirst, _ -> resumed[0]++);
+            assertEquals(first, resumed[0]);
+        }
+    }
+
+    /**
+     * Files that are not journals are rejected instead of being overwritten.
+     * @throws IOException on setup failure
+     */
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        File foreign = new File(dir, "foreign.bin");
+        Files.write(foreign.toPath(), new byte[64]);
+        assertThrows(IOException.class, () -> TaskEventJournal.open(foreign));
+    }
+}
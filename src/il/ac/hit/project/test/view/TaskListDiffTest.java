@@ -0,0 +1,95 @@
+package view;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.view.ITasksObserver;
+import il.ac.hit.project.main.view.TaskListDiff;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tests for TaskListDiff: positions of insertions / removals / minimal moves, applying the diff as row
+ * operations, and the full-list fallback for observers that ignore diffs.
+ * @author Course
+ */
+public class TaskListDiffTest {
+
+    private static List<ITask> tasks(int... ids) {
+        List<ITask> list = new ArrayList<>();
+        for (int id : ids) list.add(Task.hydrate(id, "t" + id, "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L));
+        return list;
+    }
+
+    /** @return previous list transformed by the diff's row deletions and insertions (as the table applies them) */
+    private static List<Integer> apply(TaskListDiff diff) {
+        List<Integer> rows = new ArrayList<>(diff.previous().stream().map(ITask::getId).toList());
+        int[] deleted = diff.rowsToDelete();
+        for (int i = deleted.length - 1; i >= 0; i--) rows.remove(deleted[i]);
+        for (int row : diff.rowsToInsert()) rows.add(row, diff.tasks().get(row).getId());
+        return rows;
+    }
+
+    /**
+     * A removal, an insertion and one task moving to the front are reported with their positions; the
+     * other retained tasks do not move.
+     */
+    @Test
+    void testReportsInsertedRemovedAndMinimalMoves() {
+        List<ITask> previous = tasks(1, 2, 3, 4, 5);
+        List<ITask> current = new ArrayList<>(previous);
+        current.remove(1);                                  // 2 removed
+        current.add(0, current.remove(3));                  // 5 moves to the front
+        current.add(2, tasks(9).getFirst());                // 9 inserted
+        TaskListDiff diff = TaskListDiff.compute(previous, current, Set.of(5));
+
+        assertArrayEquals(new int[]{1}, diff.removed());
+        assertArrayEquals(new int[]{2}, diff.inserted());
+        assertEquals(List.of(new TaskListDiff.Move(4, 0)), diff.moves());
+        assertEquals(Set.of(5), diff.changedIds());
+        assertTrue(diff.isStructural());
+        assertEquals(List.of(5, 1, 9, 3, 4), apply(diff));
+
+        TaskListDiff same = TaskListDiff.compute(current, current, Set.of(3));
+        assertFalse(same.isStructural());
+        assertEquals(0, same.rowOperationCount());
+    }
+
+    /**
+     * Random reorderings, removals and insertions always apply back to the new list.
+     */
+    @Test
+    void testApplyingDiffReproducesNewList() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(30);
+            List<ITask> previous = tasks(java.util.stream.IntStream.range(0, n).toArray());
+            List<ITask> current = new ArrayList<>(previous);
+            current.removeIf(t -> random.nextInt(5) == 0);
+            if (random.nextBoolean()) Collections.shuffle(current, random);
+            else if (current.size() > 1) current.add(random.nextInt(current.size()), current.remove(random.nextInt(current.size())));
+            for (int k = random.nextInt(4); k > 0; k--) current.add(random.nextInt(current.size() + 1), tasks(100 + round * 10 + k).getFirst());
+
+            TaskListDiff diff = TaskListDiff.compute(previous, current, Set.of());
+            assertEquals(current.stream().map(ITask::getId).toList(), apply(diff), "round " + round);
+        }
+    }
+
+    /**
+     * Observers implementing only the list callback receive the diff's full new list.
+     */
+    @Test
+    void testObserversWithoutDiffSupportGetFullList() {
+        List<List<ITask>> received = new ArrayList<>();
+        ITasksObserver listOnly = received::add;
+        List<ITask> current = tasks(3, 1);
+        listOnly.onTasksChanged(TaskListDiff.compute(tasks(1), current, Set.of()));
+        assertEquals(List.of(current), received);
+    }
+}
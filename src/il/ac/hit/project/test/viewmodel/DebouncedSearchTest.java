@@ -0,0 +1,66 @@
+package viewmodel;
+
+import il.ac.hit.project.main.viewmodel.DebouncedSearch;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for DebouncedSearch: keystroke bursts collapse into one run of the latest query, superseded
+ * generations are cancelled, and running computations observe that they are stale.
+ * @author Course
+ */
+public class DebouncedSearchTest {
+
+    /**
+     * Queries submitted within the quiet period run once, with the last query.
+     * @throws InterruptedException on wait interruption
+     */
+    @Test
+    void testBurstRunsLatestQueryOnce() throws InterruptedException {
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch ran = new CountDownLatch(1);
+        try (DebouncedSearch search = new DebouncedSearch(50, (query, generation) -> { runs.add(query); ran.countDown(); })) {
+            long first = search.submit("t");
+            search.submit("ta");
+            long last = search.submit("tas");
+            assertTrue(last > first);
+            assertFalse(search.isCurrent(first));
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            Thread.sleep(150); // no late runs of the superseded queries
+            assertEquals(List.of("tas"), runs);
+        }
+    }
+
+    /**
+     * supersede() cancels the pending run, and a running computation sees its generation go stale.
+     * @throws InterruptedException on wait interruption
+     */
+    @Test
+    void testSupersedeCancelsPendingAndRunningSearches() throws InterruptedException {
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicReference<DebouncedSearch> self = new AtomicReference<>();
+        try (DebouncedSearch search = new DebouncedSearch(0, (query, generation) -> {
+            runs.add(query);
+            started.countDown();
+            while (self.get().isCurrent(generation)) Thread.onSpinWait(); // long computation polling for staleness
+            stopped.countDown();
+        })) {
+            self.set(search);
+            search.submit("running");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            search.setDebounceMillis(10_000);
+            search.submit("pending");      // supersedes the running one, then waits for the quiet period
+            assertTrue(stopped.await(5, TimeUnit.SECONDS), "running computation noticed it was superseded");
+            search.supersede();            // e.g. an explicit Enter search: the pending run is cancelled
+            assertEquals(List.of("running"), runs);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new DebouncedSearch(-1, (q, g) -> { }));
+    }
+}
@@ -0,0 +1,111 @@
+package viewmodel;
+
+import il.ac.hit.project.main.model.task.CompletedState;
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.ITaskState;
+import il.ac.hit.project.main.model.task.InProgressState;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.FilterSortEngine;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import il.ac.hit.project.main.viewmodel.strategy.ISortingStrategy;
+import il.ac.hit.project.main.viewmodel.strategy.SortByCreationDateStrategyI;
+import il.ac.hit.project.main.viewmodel.strategy.SortByPriorityStrategyI;
+import il.ac.hit.project.main.viewmodel.strategy.SortByTitleStrategyI;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for FilterSortEngine: the parallel path returns exactly the sequential result (order and ties) for
+ * every strategy, including comparators without a tie-break and strategies without a comparator, and
+ * cancellation stops both paths.
+ * @author Course
+ */
+public class FilterSortEngineTest {
+    private static final ITaskState[] STATES = {ToDoState.getInstance(), InProgressState.getInstance(), CompletedState.getInstance()};
+
+    /** @return tasks with few distinct keys (many ties), ids in shuffled order */
+    private static List<ITask> board(int size) {
+        Random random = new Random(7);
+        List<ITask> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int id = 1 + random.nextInt(size * 10);
+            tasks.add(Task.hydrate(id, "Task " + random.nextInt(50), "d", STATES[random.nextInt(3)],
+                TaskPriority.values()[random.nextInt(3)], random.nextInt(100), 0L));
+        }
+        return tasks;
+    }
+
+    /**
+     * Parallel filter + sort equals the sequential result for the built-in strategies.
+     */
+    @Test
+    void testParallelMatchesSequentialForBuiltInStrategies() {
+        List<ITask> source = board(50_000);
+        ITaskFilter filter = TaskFilters.bySearchText("task 1").and(TaskFilters.byStateDisplayName("To Do").negate());
+        FilterSortEngine sequential = new FilterSortEngine(Integer.MAX_VALUE);
+        FilterSortEngine parallel = new FilterSortEngine(1);
+        assertTrue(parallel.isParallel(source));
+        for (ISortingStrategy strategy : List.of(new SortByTitleStrategyI(), new SortByPriorityStrategyI(),
+                new SortByCreationDateStrategyI())) {
+            List<ITask> expected = sequential.apply(source, filter, strategy);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, parallel.apply(source, filter, strategy), strategy.getDisplayName());
+        }
+        assertEquals(sequential.apply(source, filter, null), parallel.apply(source, filter, null));
+    }
+
+    /**
+     * Ties under a comparator without tie-break keep source order (stable), and strategies exposing no
+     * comparator still sort through sort(List).
+     */
+    @Test
+    void testStableTiesAndStrategiesWithoutComparator() {
+        List<ITask> source = board(30_000);
+        ISortingStrategy byTitleOnly = new ISortingStrategy() {
+            private final Comparator<ITask> order = Comparator.comparing(ITask::getTitle); // 50 titles: many ties
+            @Override public void sort(List<ITask> tasks) { tasks.sort(order); }
+            @Override public Comparator<ITask> getComparator() { return order; }
+            @Override public String getDisplayName() { return "title only"; }
+        };
+        ISortingStrategy reversed = new ISortingStrategy() {
+            @Override public void sort(List<ITask> tasks) { java.util.Collections.reverse(tasks); }
+            @Override public String getDisplayName() { return "reversed"; }
+        };
+        FilterSortEngine sequential = new FilterSortEngine(Integer.MAX_VALUE);
+        FilterSortEngine parallel = new FilterSortEngine(1);
+        for (ISortingStrategy strategy : List.of(byTitleOnly, reversed)) {
+            assertEquals(sequential.apply(source, ITaskFilter.all(), strategy),
+                parallel.apply(source, ITaskFilter.all(), strategy), strategy.getDisplayName());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new FilterSortEngine(0));
+        assertThrows(IllegalArgumentException.class, () -> parallel.apply(source, null, null));
+    }
+
+    /**
+     * A cancelled apply returns null on both paths (the parallel filter stops testing tasks once cancelled);
+     * an apply that is never cancelled returns the usual result.
+     */
+    @Test
+    void testCancelledApplyReturnsNull() {
+        List<ITask> source = board(30_000);
+        for (FilterSortEngine engine : List.of(new FilterSortEngine(Integer.MAX_VALUE), new FilterSortEngine(1))) {
+            java.util.concurrent.atomic.AtomicInteger tested = new java.util.concurrent.atomic.AtomicInteger();
+            java.util.concurrent.atomic.AtomicBoolean cancelled = new java.util.concurrent.atomic.AtomicBoolean();
+            ITaskFilter cancelling = task -> {
+                if (tested.incrementAndGet() == 1_000) cancelled.set(true);
+                return true;
+            };
+            assertNull(engine.apply(source, cancelling, new SortByTitleStrategyI(), cancelled::get));
+            assertTrue(tested.get() < source.size(), "filter kept running after cancellation");
+            assertEquals(engine.apply(source, ITaskFilter.all(), null),
+                engine.apply(source, ITaskFilter.all(), null, () -> false));
+        }
+    }
+}
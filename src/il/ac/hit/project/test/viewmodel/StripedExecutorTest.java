@@ -0,0 +1,81 @@
+package viewmodel;
+
+import il.ac.hit.project.main.viewmodel.StripedExecutor;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress tests for StripedExecutor: commands sharing a key run one at a time in submission order (plain,
+ * unsynchronized counters lose no increments), while keys on different lanes run in parallel.
+ * @author Course
+ */
+public class StripedExecutorTest {
+    private static final int KEYS = 64;
+    private static final int PRODUCERS = 6;
+    private static final int COMMANDS_PER_PRODUCER = 20_000;
+
+    /**
+     * Concurrent producers increment per-key counters without synchronization; every increment survives
+     * and each producer's commands for a key run in the order it submitted them.
+     * @throws InterruptedException on wait interruption
+     */
+    @Test
+    void testSameKeyCommandsRunSeriallyInOrder() throws InterruptedException {
+        StripedExecutor executor = new StripedExecutor(8, "stripe-test");
+        int[] counters = new int[KEYS];                       // guarded only by the lanes
+        int[][] lastSeen = new int[KEYS][PRODUCERS];          // last sequence number run per key and producer
+        boolean[] outOfOrder = new boolean[1];
+        List<Thread> producers = new ArrayList<>();
+        CountDownLatch go = new CountDownLatch(1);
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try { go.await(); } catch (InterruptedException e) { return; }
+                for (int i = 1; i <= COMMANDS_PER_PRODUCER; i++) {
+                    int key = (i * 31 + producer) % KEYS;
+                    int sequence = i;
+                    executor.execute(key, () -> {
+                        counters[key]++;                           // racy unless serialized per key
+                        if (lastSeen[key][producer] >= sequence) outOfOrder[0] = true;
+                        lastSeen[key][producer] = sequence;
+                    });
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        go.countDown();
+        for (Thread thread : producers) thread.join();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        long total = 0;
+        for (int count : counters) total += count;
+        assertEquals((long) PRODUCERS * COMMANDS_PER_PRODUCER, total, "no increment lost");
+        assertFalse(outOfOrder[0], "per-key submission order kept");
+        assertEquals(total, executor.getCompletedTaskCount());
+    }
+
+    /**
+     * A blocked command only holds up its own lane: a key on another lane still runs.
+     * @throws Exception on wait interruption or command failure
+     */
+    @Test
+    void testDifferentStripesRunInParallel() throws Exception {
+        StripedExecutor executor = new StripedExecutor(4, "stripe-test");
+        assertNotEquals(executor.stripeFor(1), executor.stripeFor(2));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(1, () -> {
+            try { release.await(5, TimeUnit.SECONDS); } catch (InterruptedException ignored) { }
+        });
+        executor.submit(2, release::countDown).get(5, TimeUnit.SECONDS); // would time out behind a global lock
+        assertEquals(executor.stripeFor(5), executor.stripeFor(1), "ids one stripe-count apart share a lane");
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new StripedExecutor(0, "x"));
+    }
+}
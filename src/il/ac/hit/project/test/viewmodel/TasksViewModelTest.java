@@ -3,8 +3,12 @@ package viewmodel;
 import il.ac.hit.project.main.model.dao.ITasksDAO;
 import il.ac.hit.project.main.model.dao.TasksDAOException;
 import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.viewmodel.CommandExecutionMode;
+import il.ac.hit.project.main.viewmodel.CommandMetrics;
 import il.ac.hit.project.main.viewmodel.TasksViewModel;
+import il.ac.hit.project.main.view.TaskChangeBatcher;
 import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.strategy.SortingOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import il.ac.hit.project.main.view.IView;
@@ -172,4 +176,230 @@ public class TasksViewModelTest {
         assertEquals(1, observedTasks.size());
         assertEquals("Important Task", observedTasks.getFirst().getTitle());
     }
+
+    /**
+     * Single-task edits move only that task within the sorted, filtered list and agree with a full recompute.
+     * GIVEN tasks sorted by title and filtered to "To Do" WHEN titles / states change THEN the visible list is
+     * re-ordered, gains and loses tasks as a full filter + sort would.
+     * @throws Exception on async wait
+     */
+    @Test
+    public void testSingleTaskChangesMaintainVisibleListIncrementally() throws Exception {
+        viewModel.loadTasks();
+        Thread.sleep(100);
+        viewModel.registerAttributeObservers();
+        viewModel.changeSorting(SortingOption.BY_TITLE);
+        viewModel.filterByState("To Do");
+        assertEquals(List.of(2, 1), ids(observedTasks)); // "Important Task", "Task 1"
+        Task task1 = find(1), task2 = find(2);
+        Task task3 = (Task) mockDAO.getTasks()[2];
+
+        task1.setTitle("Alpha");                        // moves to the front
+        task3.setState(ToDoState.getInstance());        // enters the filter
+        TaskChangeBatcher.getInstance().flush();
+        assertEquals(List.of(1, 3, 2), ids(observedTasks));
+
+        task2.setState(CompletedState.getInstance());   // leaves the filter
+        TaskChangeBatcher.getInstance().flush();
+        assertEquals(List.of(1, 3), ids(observedTasks));
+
+        when(mockDAO.findTask(1)).thenReturn(task1);
+        viewModel.updateTask(1, "Zulu", "", ToDoState.getInstance(), TaskPriority.LOW); // command path
+        Thread.sleep(100);
+        TaskChangeBatcher.getInstance().flush();
+        assertEquals(List.of(3, 1), ids(observedTasks));
+
+        List<Integer> incremental = ids(observedTasks);
+        viewModel.filterByState("To Do"); // full recompute
+        assertEquals(ids(observedTasks), incremental);
+    }
+
+    /**
+     * Commands keep the id-indexed cache consistent: an update replaces the cached task in place and a
+     * delete removes it, so a full recompute from the cache shows both.
+     * @throws Exception on async wait
+     */
+    @Test
+    public void testCommandsKeepIdIndexedCacheConsistent() throws Exception {
+        viewModel.loadTasks();
+        Thread.sleep(100);
+        viewModel.updateTask(2, "Renamed", "Urgent", ToDoState.getInstance(), TaskPriority.HIGH);
+        viewModel.deleteTask(1);
+        Thread.sleep(100);
+
+        viewModel.clearFilters(); // full recompute from the cache
+        assertEquals(List.of(2, 3), ids(observedTasks));
+        assertEquals("Renamed", observedTasks.getFirst().getTitle());
+        verify(mockDAO, never()).findTask(anyInt()); // served from the cache
+    }
+
+    /**
+     * Search-as-you-type applies only the last query of a burst once it is stable; narrowing and
+     * widening queries both yield the same result as an immediate search.
+     * GIVEN tasks loaded WHEN a burst of keystrokes is typed THEN observers are notified once with the final result.
+     * @throws Exception on async wait
+     */
+    @Test
+    public void testSearchAsYouTypeIsDebouncedAndRefines() throws Exception {
+        viewModel.loadTasks();
+        Thread.sleep(100);
+        viewModel.setSearchDebounceMillis(30);
+        List<List<ITask>> notifications = new java.util.concurrent.CopyOnWriteArrayList<>();
+        viewModel.addObserver(notifications::add);
+
+        viewModel.searchAsYouType("T");
+        viewModel.searchAsYouType("Ta");
+        viewModel.searchAsYouType("Task");   // narrows: refines the visible list
+        Thread.sleep(300);
+        assertEquals(1, notifications.size(), "one publication for the whole burst");
+        assertEquals(3, observedTasks.size()); // every title contains "Task"
+
+        viewModel.searchAsYouType("Task 1"); // narrows further
+        Thread.sleep(300);
+        assertEquals(List.of(1), ids(observedTasks));
+
+        viewModel.searchAsYouType("Urgent"); // unrelated query: full filter over the cache
+        Thread.sleep(300);
+        assertEquals(List.of(2), ids(observedTasks));
+
+        viewModel.searchAsYouType("ignored");
+        viewModel.filterTasks("Done");        // immediate search supersedes the pending keystroke
+        Thread.sleep(300);
+        assertEquals(List.of(3), ids(observedTasks));
+        viewModel.shutdown();
+    }
+
+    /**
+     * A running search filters outside the ViewModel lock: commands complete meanwhile, and a search whose
+     * snapshots changed before it finished recomputes instead of publishing a stale result.
+     * GIVEN a search blocked inside the filter WHEN a task is updated THEN the update is applied and notified
+     * at once, and the released search publishes a result that includes the update.
+     * @throws Exception on async wait
+     */
+    @Test
+    public void testSearchRunsOutsideLockAndRecomputesAfterChanges() throws Exception {
+        viewModel.loadTasks();
+        Thread.sleep(100);
+        viewModel.filterTasks("Task");
+        java.util.concurrent.CountDownLatch searching = new java.util.concurrent.CountDownLatch(1);
+        java.util.concurrent.CountDownLatch release = new java.util.concurrent.CountDownLatch(1);
+        viewModel.setFilter(task -> {
+            if (Thread.currentThread().getName().equals("task-search") && release.getCount() > 0) {
+                searching.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        });
+        viewModel.setSearchDebounceMillis(0);
+        viewModel.searchAsYouType("Urgent"); // does not narrow "Task": full filter over the cache
+        assertTrue(searching.await(2, java.util.concurrent.TimeUnit.SECONDS));
+
+        java.util.concurrent.CountDownLatch notified = new java.util.concurrent.CountDownLatch(1);
+        viewModel.addObserver(tasks -> notified.countDown());
+        viewModel.updateTask(3, "Completed Task", "Urgent too", CompletedState.getInstance(), TaskPriority.MEDIUM);
+        assertTrue(notified.await(2, java.util.concurrent.TimeUnit.SECONDS), "command blocked by the search");
+
+        release.countDown();
+        Thread.sleep(300);
+        assertEquals(List.of(2, 3), ids(observedTasks));
+        viewModel.shutdown();
+    }
+
+    /**
+     * In virtual-thread mode commands run on virtual threads, keep per-task ordering and are measured.
+     * GIVEN the VIRTUAL_THREADS mode WHEN 100 tasks are advanced twice concurrently THEN all are Completed,
+     * every DAO call ran on a virtual thread and the metrics count every command.
+     * @throws Exception on async wait
+     */
+    @Test
+    public void testVirtualThreadModeRunsMeasuredOrderedCommands() throws Exception {
+        java.util.Set<Boolean> virtualCalls = java.util.concurrent.ConcurrentHashMap.newKeySet();
+        CopyingDAO dao = new CopyingDAO() {
+            @Override public ITask findTask(int id) {
+                virtualCalls.add(Thread.currentThread().isVirtual());
+                return super.findTask(id);
+            }
+        };
+        for (int id = 1; id <= 100; id++) {
+            dao.addTask(Task.hydrate(id, "T" + id, "", ToDoState.getInstance(), TaskPriority.LOW, id, id));
+        }
+        TasksViewModel vm = new TasksViewModel(dao, null, CommandExecutionMode.VIRTUAL_THREADS);
+        for (int round = 0; round < 2; round++) {
+            for (int id = 1; id <= 100; id++) vm.moveTaskStateUp(id);
+        }
+        vm.shutdown();
+
+        assertEquals(java.util.Set.of(true), virtualCalls); // checked before the test thread reads the DAO
+        for (int id = 1; id <= 100; id++) assertEquals(TaskState.COMPLETED, dao.findTask(id).getState());
+        CommandMetrics.Snapshot metrics = vm.getCommandMetrics().snapshot();
+        assertEquals(200, metrics.completed());
+        assertTrue(metrics.maxLatencyNanos() >= metrics.meanLatencyNanos() && metrics.throughputPerSecond() > 0);
+        assertThrows(IllegalArgumentException.class, () -> new TasksViewModel(dao, null, null));
+    }
+
+    /**
+     * In-memory DAO handing out copies (like a database): a state move is a real read-modify-write.
+     */
+    private static class CopyingDAO implements ITasksDAO {
+        private final java.util.Map<Integer, ITask> rows = new java.util.concurrent.ConcurrentHashMap<>();
+        private static ITask copy(ITask t) {
+            ITaskDetails d = (ITaskDetails) t;
+            return Task.hydrate(t.getId(), d.getTitle(), d.getDescription(), d.getState().toStateType().toState(),
+                d.getPriority(), d.getCreationTime(), d.getUpdatedTime());
+        }
+        @Override public ITask[] getTasks() { return rows.values().stream().map(CopyingDAO::copy).toArray(ITask[]::new); }
+        @Override public ITask getTask(int id) { return findTask(id); }
+        @Override public ITask findTask(int id) { ITask t = rows.get(id); return t == null ? null : copy(t); }
+        @Override public void addTask(ITask task) { rows.put(task.getId(), copy(task)); }
+        @Override public void updateTask(ITask task) {
+            Thread.yield(); // widen the read-modify-write window
+            rows.put(task.getId(), copy(task));
+        }
+        @Override public void deleteTasks() { rows.clear(); }
+        @Override public void deleteTask(int id) { rows.remove(id); }
+    }
+
+    /**
+     * Concurrent state moves of the same tasks from several threads lose no update: each task gets exactly
+     * two moveTaskStateUp commands, so it ends COMPLETED only if they ran one after the other.
+     * GIVEN 200 To Do tasks WHEN two threads each advance every task concurrently THEN all are Completed.
+     * @throws Exception on async wait
+     */
+    @Test
+    public void testConcurrentCommandsOnSameTaskLoseNoUpdates() throws Exception {
+        CopyingDAO dao = new CopyingDAO();
+        for (int id = 1; id <= 200; id++) {
+            dao.addTask(Task.hydrate(id, "T" + id, "", ToDoState.getInstance(), TaskPriority.LOW, id, id));
+        }
+        TasksViewModel vm = new TasksViewModel(dao, null);
+        java.util.concurrent.CountDownLatch go = new java.util.concurrent.CountDownLatch(1);
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < 2; c++) {
+            Thread client = new Thread(() -> {
+                try { go.await(); } catch (InterruptedException e) { return; }
+                for (int id = 1; id <= 200; id++) vm.moveTaskStateUp(id);
+            });
+            clients.add(client);
+            client.start();
+        }
+        go.countDown();
+        for (Thread client : clients) client.join();
+        vm.shutdown(); // waits for queued commands
+
+        for (int id = 1; id <= 200; id++) {
+            assertEquals(TaskState.COMPLETED, dao.findTask(id).getState(), "task " + id);
+        }
+    }
+
+    private Task find(int id) {
+        return (Task) observedTasks.stream().filter(t -> t.getId() == id).findFirst().orElseThrow();
+    }
+
+    private static List<Integer> ids(List<ITask> tasks) {
+        return tasks.stream().map(ITask::getId).toList();
+    }
 }
@@ -0,0 +1,119 @@
+package viewmodel.combinator;
+
+import il.ac.hit.project.main.model.store.ColumnarTaskStore;
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.viewmodel.combinator.FilterCompiler;
+import il.ac.hit.project.main.viewmodel.combinator.FilterExpr;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for FilterCompiler: the optimizer flattens, folds and reorders the filter tree, and compiled filters
+ * agree with the interpreted tree (object and column paths) while reading each text attribute once.
+ * @author Course
+ */
+public class FilterCompilerTest {
+
+    /** Task counting how often its text attributes are read. */
+    private static final class CountingTask extends Task {
+        int titleReads;
+        int descriptionReads;
+
+        CountingTask(int id, String title, String desc, ITaskState state, TaskPriority priority) {
+            super(id, title, desc, state, null, priority);
+        }
+
+        @Override
+        public String getTitle() {
+            titleReads++;
+            return super.getTitle();
+        }
+
+        @Override
+        public String getDescription() {
+            descriptionReads++;
+            return super.getDescription();
+        }
+    }
+
+    /**
+     * All terms disappear, nested Ands flatten, double negation cancels, and cheap state / priority terms
+     * move ahead of text terms; constant filters fold to All / Nothing.
+     */
+    @Test
+    public void testOptimizerFlattensFoldsAndReorders() {
+        ITaskFilter search = TaskFilters.bySearchText("fix");
+        ITaskFilter tree = search
+            .and(TaskFilters.byStateDisplayName("All"))
+            .and(TaskFilters.byPriority(TaskPriority.HIGH).and(TaskFilters.byToDoState().negate().negate()))
+            .and(ITaskFilter.all());
+        ITaskFilter optimized = FilterCompiler.optimize(tree);
+
+        FilterExpr.And and = assertInstanceOf(FilterExpr.And.class, optimized);
+        assertEquals(List.of(new FilterExpr.PriorityIs(TaskPriority.HIGH),
+            new FilterExpr.StateIs(ITaskState.StateType.TODO), search), and.terms());
+
+        assertEquals(new FilterExpr.All(), FilterCompiler.optimize(ITaskFilter.all().and(ITaskFilter.all())));
+        assertEquals(new FilterExpr.Nothing(), FilterCompiler.optimize(search.and(ITaskFilter.all().negate())));
+        assertEquals(new FilterExpr.All(), FilterCompiler.optimize(search.or(ITaskFilter.all())));
+        assertEquals(TaskFilters.byCompletedState(),
+            FilterCompiler.optimize(TaskFilters.byCompletedState().or(TaskFilters.byCompletedState())));
+        assertInstanceOf(FilterExpr.All.class, FilterCompiler.compile(ITaskFilter.all()));
+    }
+
+    /**
+     * On random tasks, compiled filters give the same answers as the interpreted trees on both the object
+     * and the column path, opaque filters included.
+     */
+    @Test
+    public void testCompiledMatchesInterpreted() {
+        String[] words = {"fix", "bug", "docs", "Fix", "release", "misc"};
+        ITaskState[] states = {ToDoState.getInstance(), InProgressState.getInstance(), CompletedState.getInstance()};
+        Random random = new Random(3);
+        Task[] tasks = new Task[500];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new Task(i + 1, words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)],
+                words[random.nextInt(words.length)], states[random.nextInt(states.length)], null,
+                TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+        }
+        ColumnarTaskStore store = ColumnarTaskStore.of(tasks);
+        ITaskFilter opaque = task -> task.getId() % 3 == 0;
+        List<ITaskFilter> filters = List.of(
+            TaskFilters.createCombinedFilter("FIX", "In Progress"),
+            TaskFilters.createCombinedFilter("bug", "Nonexistent"),
+            TaskFilters.urgentTasks().or(TaskFilters.bySearchText("docs").negate()),
+            TaskFilters.pendingTasks().and(opaque).and(TaskFilters.byTitle("fix").or(TaskFilters.byDescription("fix"))),
+            opaque.negate().and(TaskFilters.byPriority(TaskPriority.LOW)));
+        for (ITaskFilter filter : filters) {
+            ITaskFilter compiled = FilterCompiler.compile(filter);
+            for (int row = 0; row < tasks.length; row++) {
+                assertEquals(filter.test(tasks[row]), compiled.test(tasks[row]), filter + " task " + row);
+                assertEquals(filter.testRow(store, row), compiled.testRow(store, row), filter + " row " + row);
+            }
+            assertArrayEquals(filter.selectRows(store), compiled.selectRows(store));
+        }
+    }
+
+    /**
+     * A filter searching title and description several times reads (and lowercases) each at most once per
+     * task, and skips them entirely when a cheap state term already rejects the task.
+     */
+    @Test
+    public void testCompiledFilterReadsEachTextOnce() {
+        ITaskFilter filter = FilterCompiler.compile(TaskFilters.bySearchText("zzz")
+            .or(TaskFilters.byTitle("yyy")).or(TaskFilters.byDescription("xxx"))
+            .and(TaskFilters.byToDoState()));
+        CountingTask todo = new CountingTask(1, "Title", "Desc", ToDoState.getInstance(), TaskPriority.LOW);
+        assertFalse(filter.test(todo));
+        assertEquals(1, todo.titleReads);
+        assertEquals(1, todo.descriptionReads);
+
+        CountingTask done = new CountingTask(2, "zzz", "zzz", CompletedState.getInstance(), TaskPriority.LOW);
+        assertFalse(filter.test(done));
+        assertEquals(0, done.titleReads + done.descriptionReads);
+    }
+}
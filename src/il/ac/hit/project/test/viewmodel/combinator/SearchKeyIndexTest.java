@@ -0,0 +1,87 @@
+package viewmodel.combinator;
+
+import il.ac.hit.project.main.model.task.*;
+import il.ac.hit.project.main.view.TaskAttributeSubject;
+import il.ac.hit.project.main.viewmodel.combinator.FilterCompiler;
+import il.ac.hit.project.main.viewmodel.combinator.ITaskFilter;
+import il.ac.hit.project.main.viewmodel.combinator.SearchKeyIndex;
+import il.ac.hit.project.main.viewmodel.combinator.TaskFilters;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+/**
+ * Tests for SearchKeyIndex: keys are computed once and follow title / description changes, and compiled
+ * filters searching through them agree with the interpreted filters.
+ * @author Course
+ */
+public class SearchKeyIndexTest {
+
+    /**
+     * Keys are reused until the text changes; title / description events and atomic edits refresh them,
+     * removal drops them, and a change missed while detached is still caught by the lookup check.
+     */
+    @Test
+    public void testKeysFollowAttributeChanges() {
+        SearchKeyIndex index = new SearchKeyIndex();
+        Task task = Task.hydrate(9101, "Fix BUG", "In PROD", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+        index.attach(TaskAttributeSubject.getInstance());
+        try {
+            String key = index.titleKey(task);
+            assertEquals("fix bug", key);
+            assertSame(key, index.titleKey(task)); // not lowercased again
+            assertEquals("in prod", index.descriptionKey(task));
+
+            task.setTitle("Write DOCS");
+            assertEquals("write docs", index.titleKey(task));
+            task.apply(new TaskEdit("Ship IT", "To USERS", null, null));
+            assertEquals("ship it", index.titleKey(task));
+            assertEquals("to users", index.descriptionKey(task));
+
+            Task.getAttributeSubject().notifyTaskRemoved(task);
+            assertEquals(0, index.size());
+        } finally {
+            index.detach();
+        }
+        task.setDescription("Offline EDIT");
+        assertEquals("offline edit", index.descriptionKey(task));
+
+        ITaskFilter filter = FilterCompiler.compile(TaskFilters.bySearchText("OFFLINE"), index);
+        assertTrue(filter.test(task));
+        assertFalse(FilterCompiler.compile(TaskFilters.byTitle("offline"), index).test(task));
+    }
+
+    /**
+     * Under random title / description edits (atomic and single-attribute), a compiled search over the keys
+     * always agrees with the interpreted filter, which lowercases the live text.
+     */
+    @Test
+    public void testKeyedSearchAgreesWithInterpretedUnderEdits() {
+        String[] words = {"Fix", "BUG", "docs", "Release", "misc"};
+        Random random = new Random(13);
+        Task[] tasks = new Task[200];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = Task.hydrate(9200 + i, words[i % words.length], words[(i * 3) % words.length],
+                ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+        }
+        SearchKeyIndex index = new SearchKeyIndex();
+        index.attach(TaskAttributeSubject.getInstance());
+        try {
+            for (int step = 0; step < 2_000; step++) {
+                Task task = tasks[random.nextInt(tasks.length)];
+                String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                switch (random.nextInt(3)) {
+                    case 0 -> task.setTitle(text);
+                    case 1 -> task.setDescription(text);
+                    default -> task.apply(new TaskEdit(text, text.toUpperCase(), null, null));
+                }
+                ITaskFilter interpreted = TaskFilters.bySearchText(words[random.nextInt(words.length)].toUpperCase());
+                ITaskFilter keyed = FilterCompiler.compile(interpreted, index);
+                for (Task t : tasks) assertEquals(interpreted.test(t), keyed.test(t), "task " + t.getId());
+            }
+            assertEquals(tasks.length, index.size());
+        } finally {
+            index.detach();
+        }
+    }
+}
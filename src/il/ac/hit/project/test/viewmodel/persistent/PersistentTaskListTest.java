@@ -0,0 +1,76 @@
+package viewmodel.persistent;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.persistent.PersistentTaskList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for PersistentTaskList: random positional edits agree with an ArrayList, older versions stay
+ * unchanged, the tree stays balanced, and the List mutators are rejected.
+ * @author Course
+ */
+public class PersistentTaskListTest {
+
+    private static ITask task(int id) {
+        return Task.hydrate(id, "t" + id, "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+    }
+
+    /**
+     * Random inserts / removes / replacements match an ArrayList model; snapshots keep their contents.
+     */
+    @Test
+    void testAgreesWithArrayListAndKeepsOldVersions() {
+        Random random = new Random(5);
+        PersistentTaskList list = PersistentTaskList.of(List.of(task(-1), task(-2)));
+        List<ITask> model = new ArrayList<>(list);
+        List<PersistentTaskList> versions = new ArrayList<>();
+        List<List<ITask>> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int op = model.isEmpty() ? 0 : random.nextInt(4);
+            if (op <= 1) {
+                int i = random.nextInt(model.size() + 1);
+                ITask t = task(step);
+                list = list.inserted(i, t);
+                model.add(i, t);
+            } else if (op == 2) {
+                int i = random.nextInt(model.size());
+                list = list.removed(i);
+                model.remove(i);
+            } else {
+                int i = random.nextInt(model.size());
+                ITask t = task(step);
+                list = list.with(i, t);
+                model.set(i, t);
+            }
+            assertEquals(model.size(), list.size());
+            if (step % 1_000 == 0) { versions.add(list); expected.add(new ArrayList<>(model)); }
+        }
+        assertEquals(model, list);
+        assertEquals(model, new ArrayList<>(list)); // iterator agrees with get(i)
+        for (int v = 0; v < versions.size(); v++) assertEquals(expected.get(v), versions.get(v), "version " + v);
+    }
+
+    /**
+     * Appending 100k tasks one by one keeps lookups logarithmic (balanced tree), and mutators are rejected.
+     */
+    @Test
+    void testStaysBalancedAndRejectsMutators() {
+        PersistentTaskList list = PersistentTaskList.empty();
+        for (int i = 0; i < 100_000; i++) list = list.inserted(list.size(), task(i)); // worst case for an unbalanced tree
+        for (int i = 0; i < 100_000; i += 997) assertEquals(i, list.get(i).getId());
+        assertSame(list, PersistentTaskList.of(list));
+        PersistentTaskList snapshot = list;
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(task(1)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(100_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.inserted(-1, task(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentTaskList.empty().removed(0));
+    }
+}
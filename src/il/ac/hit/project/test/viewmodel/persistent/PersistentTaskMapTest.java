@@ -0,0 +1,81 @@
+package viewmodel.persistent;
+
+import il.ac.hit.project.main.model.task.ITask;
+import il.ac.hit.project.main.model.task.Task;
+import il.ac.hit.project.main.model.task.TaskPriority;
+import il.ac.hit.project.main.model.task.ToDoState;
+import il.ac.hit.project.main.viewmodel.persistent.PersistentTaskMap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Tests for PersistentTaskMap: random puts / replaces / removes agree with a TreeMap, values iterate in id
+ * order, and every older version stays unchanged.
+ * @author Course
+ */
+public class PersistentTaskMapTest {
+
+    private static ITask task(int id, String title) {
+        return Task.hydrate(id, title, "", ToDoState.getInstance(), TaskPriority.LOW, 0L, 0L);
+    }
+
+    private static List<Integer> ids(PersistentTaskMap map) {
+        List<Integer> ids = new ArrayList<>();
+        for (ITask task : map.values()) ids.add(task.getId());
+        return ids;
+    }
+
+    /**
+     * Random operations (ids spread over the whole int range, negatives included) match a TreeMap model,
+     * and snapshots taken along the way still hold their contents at the end.
+     */
+    @Test
+    void testAgreesWithTreeMapAndKeepsOldVersions() {
+        Random random = new Random(11);
+        PersistentTaskMap map = PersistentTaskMap.empty();
+        TreeMap<Integer, ITask> model = new TreeMap<>();
+        List<PersistentTaskMap> versions = new ArrayList<>();
+        List<Map<Integer, ITask>> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextBoolean() ? random.nextInt(500) + 1 : random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0 -> { ITask t = task(id, "s" + step); map = map.put(t); model.put(id, t); }
+                case 1 -> { ITask t = task(id, "r" + step); map = map.replace(t); model.replace(id, t); }
+                default -> {
+                    int victim = model.isEmpty() || random.nextBoolean() ? id : model.firstKey();
+                    map = map.remove(victim); model.remove(victim);
+                }
+            }
+            assertEquals(model.size(), map.size());
+            assertSame(model.get(id), map.get(id));
+            if (step % 2_000 == 0) { versions.add(map); expected.add(new TreeMap<>(model)); }
+        }
+        assertEquals(new ArrayList<>(model.keySet()), ids(map));
+        for (int v = 0; v < versions.size(); v++) {
+            assertEquals(new ArrayList<>(expected.get(v).keySet()), ids(versions.get(v)), "version " + v);
+            for (ITask t : expected.get(v).values()) assertSame(t, versions.get(v).get(t.getId()));
+        }
+    }
+
+    /**
+     * Bulk building sorts by id, keeps the last duplicate, and equals the map built by puts.
+     */
+    @Test
+    void testBulkBuildMatchesIncrementalPuts() {
+        ITask[] snapshot = {task(30, "a"), task(-5, "b"), task(7, "c"), task(30, "d"), task(1_000_000, "e")};
+        PersistentTaskMap bulk = PersistentTaskMap.of(snapshot);
+        PersistentTaskMap incremental = PersistentTaskMap.empty();
+        for (ITask t : snapshot) incremental = incremental.put(t);
+        assertEquals(List.of(-5, 7, 30, 1_000_000), ids(bulk));
+        assertEquals(ids(incremental), ids(bulk));
+        assertEquals("d", bulk.get(30).getTitle());
+        assertNull(bulk.get(8));
+        assertSame(bulk, bulk.remove(8));
+        assertTrue(PersistentTaskMap.of(new ITask[0]).isEmpty());
+    }
+}